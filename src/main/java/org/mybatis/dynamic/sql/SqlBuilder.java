@@ -15,10 +15,19 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Collection;
+
 import org.mybatis.dynamic.sql.delete.DeleteModelBuilder;
+import org.mybatis.dynamic.sql.insert.BatchInsertModelBuilder;
 import org.mybatis.dynamic.sql.insert.InsertModelBuilder;
+import org.mybatis.dynamic.sql.insert.InsertSelectModelBuilder;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModelBuilder;
 import org.mybatis.dynamic.sql.select.SelectModelBuilder;
+import org.mybatis.dynamic.sql.select.WithModelBuilder;
+import org.mybatis.dynamic.sql.update.BulkUpdateModelBuilder;
+import org.mybatis.dynamic.sql.update.ChangedColumnsUpdateModelBuilder;
 import org.mybatis.dynamic.sql.update.UpdateModelBuilder;
+import org.mybatis.dynamic.sql.upsert.UpsertModelBuilder;
 
 public interface SqlBuilder {
 
@@ -30,6 +39,26 @@ public interface SqlBuilder {
         return InsertModelBuilder.insert(record);
     }
     
+    static <T> BatchInsertModelBuilder<T> insertBatch(Collection<T> records) {
+        return BatchInsertModelBuilder.insertBatch(records);
+    }
+    
+    static <T> MultiRowInsertModelBuilder<T> insertMultiple(Collection<T> records) {
+        return MultiRowInsertModelBuilder.insertMultiple(records);
+    }
+    
+    static InsertSelectModelBuilder insertInto(SqlTable table) {
+        return InsertSelectModelBuilder.insertInto(table);
+    }
+    
+    static <T> UpsertModelBuilder<T> upsert(T record) {
+        return UpsertModelBuilder.upsert(record);
+    }
+    
+    static <T> UpsertModelBuilder<T> upsertBatch(Collection<T> records) {
+        return UpsertModelBuilder.upsertBatch(records);
+    }
+    
     static SelectModelBuilder select(SqlColumn<?>...columns) {
         return SelectModelBuilder.of(columns);
     }
@@ -41,4 +70,20 @@ public interface SqlBuilder {
     static UpdateModelBuilder update(SqlTable table) {
         return UpdateModelBuilder.of(table);
     }
+    
+    static <T> ChangedColumnsUpdateModelBuilder<T> updateChanges(SqlTable table, T before, T after) {
+        return ChangedColumnsUpdateModelBuilder.of(table, before, after);
+    }
+    
+    static <T> BulkUpdateModelBuilder<T> bulkUpdate(SqlTable table, Collection<T> records) {
+        return BulkUpdateModelBuilder.of(table, records);
+    }
+    
+    static WithModelBuilder.WithAsBuilder with(SqlTable table, SqlColumn<?>...columns) {
+        return WithModelBuilder.with(table, columns);
+    }
+    
+    static WithModelBuilder.WithAsBuilder withRecursive(SqlTable table, SqlColumn<?>...columns) {
+        return WithModelBuilder.withRecursive(table, columns);
+    }
 }
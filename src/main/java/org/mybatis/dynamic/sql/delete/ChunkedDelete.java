@@ -0,0 +1,139 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+import org.mybatis.dynamic.sql.util.ChunkedExecutor;
+
+/**
+ * Executes a delete statement in chunks.  Each chunk deletes at most the chunk size number of rows,
+ * and chunks are executed until no rows are deleted.  The limited statement is rendered by the dialect -
+ * with a sub-select on the key column, a "limit" clause, or "rownum".
+ * 
+ * <p>The executor function should run each chunk in its own transaction - for example a
+ * MyBatis mapper method called with an auto-commit session.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class ChunkedDelete {
+    private DeleteModel deleteModel;
+    private SqlColumn<?> keyColumn;
+    private int chunkSize;
+    private Optional<AdaptiveBatchSize> adaptiveChunkSize;
+    private long pauseMillis;
+    
+    private ChunkedDelete() {
+        super();
+    }
+    
+    public int chunkSize() {
+        return adaptiveChunkSize.map(AdaptiveBatchSize::batchSize).orElse(chunkSize);
+    }
+    
+    public long pauseMillis() {
+        return pauseMillis;
+    }
+    
+    /**
+     * Renders the statement for one chunk.  The statement is the same for every chunk unless an adaptive
+     * chunk size is used.
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @param dialect the dialect
+     * @return the limited delete statement
+     */
+    public DeleteSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return render(renderingStrategy, dialect, chunkSize());
+    }
+    
+    private DeleteSupport render(RenderingStrategy renderingStrategy, Dialect dialect, int limit) {
+        DeleteSupport deleteSupport = deleteModel.render(renderingStrategy, dialect);
+        String whereClause = dialect.getLimitedWhereClause(deleteSupport.tableName(), keyColumn.name(),
+                deleteSupport.whereClause(), limit);
+        return DeleteSupport.of(deleteSupport.tableName(), whereClause, deleteSupport.getParameters(),
+                deleteSupport.returningClause());
+    }
+    
+    public int execute(RenderingStrategy renderingStrategy, Dialect dialect, ToIntFunction<DeleteSupport> executor) {
+        if (adaptiveChunkSize.isPresent()) {
+            return ChunkedExecutor.executeUntilNoRowsAffected(
+                    limit -> executor.applyAsInt(render(renderingStrategy, dialect, limit)),
+                    adaptiveChunkSize.get(), pauseMillis);
+        }
+        
+        DeleteSupport deleteSupport = render(renderingStrategy, dialect);
+        return ChunkedExecutor.executeUntilNoRowsAffected(() -> executor.applyAsInt(deleteSupport), pauseMillis);
+    }
+    
+    public static class Builder {
+        private DeleteModel deleteModel;
+        private SqlColumn<?> keyColumn;
+        private int chunkSize = 1000;
+        private Optional<AdaptiveBatchSize> adaptiveChunkSize = Optional.empty();
+        private long pauseMillis;
+        
+        public Builder(DeleteModel deleteModel, SqlColumn<?> keyColumn) {
+            this.deleteModel = deleteModel;
+            this.keyColumn = keyColumn;
+        }
+        
+        public Builder withChunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("The chunk size must be greater than zero"); //$NON-NLS-1$
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+        
+        /**
+         * Lets the chunk size follow the measured execution times instead of using a fixed size.
+         * Each chunk is rendered with the current size, so the statement text changes when the size changes.
+         * 
+         * @param adaptiveChunkSize the controller that chooses the chunk size
+         * @return this builder
+         */
+        public Builder withAdaptiveChunkSize(AdaptiveBatchSize adaptiveChunkSize) {
+            this.adaptiveChunkSize = Optional.of(adaptiveChunkSize);
+            return this;
+        }
+        
+        public Builder withPauseMillis(long pauseMillis) {
+            if (pauseMillis < 0) {
+                throw new IllegalArgumentException("The pause must not be negative"); //$NON-NLS-1$
+            }
+            this.pauseMillis = pauseMillis;
+            return this;
+        }
+        
+        public ChunkedDelete build() {
+            ChunkedDelete chunkedDelete = new ChunkedDelete();
+            chunkedDelete.deleteModel = deleteModel;
+            chunkedDelete.keyColumn = keyColumn;
+            chunkedDelete.chunkSize = chunkSize;
+            chunkedDelete.adaptiveChunkSize = adaptiveChunkSize;
+            chunkedDelete.pauseMillis = pauseMillis;
+            return chunkedDelete;
+        }
+    }
+}
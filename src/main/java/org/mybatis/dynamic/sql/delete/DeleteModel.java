@@ -15,17 +15,22 @@
  */
 package org.mybatis.dynamic.sql.delete;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class DeleteModel {
     private SqlTable table;
     private Optional<WhereModel> whereModel;
+    private Optional<List<SqlColumn<?>>> returningColumns;
     
     private DeleteModel() {
         super();
@@ -39,13 +44,22 @@ public class DeleteModel {
         return whereModel;
     }
     
+    public Optional<Stream<SqlColumn<?>>> returningColumns() {
+        return returningColumns.flatMap(rc -> Optional.of(rc.stream()));
+    }
+    
     public DeleteSupport render(RenderingStrategy renderingStrategy) {
         return DeleteRenderer.of(this).render(renderingStrategy);
     }
     
+    public DeleteSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return DeleteRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
     public static class Builder {
         private SqlTable table;
         private WhereModel whereModel;
+        private List<SqlColumn<?>> returningColumns;
         
         public Builder(SqlTable table) {
             this.table = table;
@@ -56,10 +70,16 @@ public class DeleteModel {
             return this;
         }
         
+        public Builder withReturningColumns(List<SqlColumn<?>> returningColumns) {
+            this.returningColumns = returningColumns;
+            return this;
+        }
+        
         public DeleteModel build() {
             DeleteModel deleteModel = new DeleteModel();
             deleteModel.table = table;
             deleteModel.whereModel = Optional.ofNullable(whereModel);
+            deleteModel.returningColumns = Optional.ofNullable(returningColumns);
             return deleteModel;
         }
     }
@@ -15,11 +15,16 @@
  */
 package org.mybatis.dynamic.sql.delete;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.mybatis.dynamic.sql.Condition;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.where.AbstractWhereModelBuilder;
+import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class DeleteModelBuilder {
 
@@ -49,6 +54,17 @@ public class DeleteModelBuilder {
                 .build();
     }
     
+    /**
+     * WARNING! Calling this method could result in an delete statement that deletes
+     * all rows in a table.
+     * 
+     * @param columns the columns to return from the deleted rows
+     * @return the next step in the builder
+     */
+    public DeleteModelAfterReturningBuilder returning(SqlColumn<?>...columns) {
+        return new DeleteModelAfterReturningBuilder(Optional.empty(), Arrays.asList(columns));
+    }
+    
     public static DeleteModelBuilder of(SqlTable table) {
         return new DeleteModelBuilder(table);
     }
@@ -70,9 +86,31 @@ public class DeleteModelBuilder {
                     .build();
         }
         
+        public DeleteModelAfterReturningBuilder returning(SqlColumn<?>...columns) {
+            return new DeleteModelAfterReturningBuilder(Optional.of(buildWhereModel()), Arrays.asList(columns));
+        }
+        
         @Override
         protected DeleteSupportWhereBuilder getThis() {
             return this;
         }
     }
+    
+    public class DeleteModelAfterReturningBuilder {
+        private Optional<WhereModel> whereModel;
+        private List<SqlColumn<?>> returningColumns;
+        
+        private DeleteModelAfterReturningBuilder(Optional<WhereModel> whereModel,
+                List<SqlColumn<?>> returningColumns) {
+            this.whereModel = whereModel;
+            this.returningColumns = returningColumns;
+        }
+        
+        public DeleteModel build() {
+            return new DeleteModel.Builder(table)
+                    .withWhereModel(whereModel.orElse(null))
+                    .withReturningColumns(returningColumns)
+                    .build();
+        }
+    }
 }
@@ -16,8 +16,12 @@
 package org.mybatis.dynamic.sql.delete.render;
 
 import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
@@ -31,14 +35,27 @@ public class DeleteRenderer {
     }
     
     public DeleteSupport render(RenderingStrategy renderingStrategy) {
-        return deleteModel.whereModel().map(wm -> renderWithWhereClause(wm, renderingStrategy))
-                .orElse(DeleteSupport.of(deleteModel.table().name()));
+        return render(renderingStrategy, Dialect.GENERIC);
     }
     
-    private DeleteSupport renderWithWhereClause(WhereModel whereModel, RenderingStrategy renderingStrategy) {
+    public DeleteSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        Optional<String> returningClause = calculateReturningClause(dialect);
+        return deleteModel.whereModel().map(wm -> renderWithWhereClause(wm, renderingStrategy, returningClause))
+                .orElse(DeleteSupport.of(deleteModel.table().name(), returningClause));
+    }
+    
+    private DeleteSupport renderWithWhereClause(WhereModel whereModel, RenderingStrategy renderingStrategy,
+            Optional<String> returningClause) {
         WhereRenderer whereRenderer = WhereRenderer.of(whereModel, renderingStrategy, Collections.emptyMap());
         WhereSupport whereSupport = whereRenderer.render();
-        return DeleteSupport.of(deleteModel.table().name(), whereSupport.getWhereClause(), whereSupport.getParameters());
+        return DeleteSupport.of(deleteModel.table().name(), whereSupport.getWhereClause(), whereSupport.getParameters(),
+                returningClause);
+    }
+    
+    private Optional<String> calculateReturningClause(Dialect dialect) {
+        return deleteModel.returningColumns()
+                .map(rc -> rc.map(SqlColumn::name).collect(Collectors.joining(", "))) //$NON-NLS-1$
+                .map(dialect::getReturningClause);
     }
     
     public static DeleteRenderer of(DeleteModel deleteModel) {
@@ -21,10 +21,21 @@ import java.util.Optional;
 
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
 
+/**
+ * This class holds a rendered delete statement and the parameters for its where clause.
+ * 
+ * <p>When the statement has a "returning" clause it produces a result set, so it should be mapped
+ * like a select - for example with a MyBatis {@code @Select("${fullDeleteStatement}")} method and a result map,
+ * or with Spring's {@code NamedParameterJdbcTemplate.query(...)} and a row mapper.
+ * 
+ * @author Jeff Butler
+ *
+ */
 public class DeleteSupport extends AbstractSqlSupport {
 
     private String whereClause;
     private Map<String, Object> parameters = new HashMap<>();
+    private Optional<String> returningClause = Optional.empty();
     
     private DeleteSupport(String tableName) {
         super(tableName);
@@ -48,17 +59,39 @@ public class DeleteSupport extends AbstractSqlSupport {
         return parameters;
     }
     
+    public String getReturningClause() {
+        return returningClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> returningClause() {
+        return returningClause;
+    }
+    
     public String getFullDeleteStatement() {
         return "delete from " //$NON-NLS-1$
                 + tableName()
-                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING);
+                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING)
+                + returningClause().map(r -> ONE_SPACE + r).orElse(EMPTY_STRING);
     }
 
     public static DeleteSupport of(String tableName) {
         return new DeleteSupport(tableName);
     }
     
+    public static DeleteSupport of(String tableName, Optional<String> returningClause) {
+        DeleteSupport deleteSupport = new DeleteSupport(tableName);
+        deleteSupport.returningClause = returningClause;
+        return deleteSupport;
+    }
+    
     public static DeleteSupport of(String tableName, String whereClause, Map<String, Object> parameters) {
         return new DeleteSupport(tableName, whereClause, parameters);
     }
+    
+    public static DeleteSupport of(String tableName, String whereClause, Map<String, Object> parameters,
+            Optional<String> returningClause) {
+        DeleteSupport deleteSupport = new DeleteSupport(tableName, whereClause, parameters);
+        deleteSupport.returningClause = returningClause;
+        return deleteSupport;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertMapping;
+import org.mybatis.dynamic.sql.util.KeyOrder;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.SequenceBlockAllocator;
+import org.mybatis.dynamic.sql.util.SequenceBlockAssignment;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Column mapping DSL shared by the builders for statements that insert more than one record.
+ * There is no "when present" mapping because the mapping must be the same for every record.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the concrete builder
+ */
+public abstract class AbstractMultiRecordInsertBuilder<T extends AbstractMultiRecordInsertBuilder<T>> {
+    private List<InsertMapping> columnMappings = new ArrayList<>();
+    private List<SqlColumn<?>> keyColumns = new ArrayList<>();
+    private List<SequenceBlockAssignment> sequenceBlockAssignments = new ArrayList<>();
+    
+    public <F> MultiRecordMappingFinisher<F> map(SqlColumn<F> column) {
+        return new MultiRecordMappingFinisher<>(column);
+    }
+    
+    /**
+     * Writes records sorted by the values of the key columns.  Each key column must be mapped to a property.
+     * 
+     * @param keyColumns the key columns, most significant first
+     * @return this builder
+     */
+    public T inKeyOrder(SqlColumn<?>...keyColumns) {
+        this.keyColumns = Arrays.asList(keyColumns);
+        return getThis();
+    }
+    
+    protected List<InsertMapping> columnMappings() {
+        return columnMappings;
+    }
+    
+    /**
+     * Returns a function that prepares records for writing - ids are assigned from sequence blocks, then the
+     * records are sorted if a key order is declared.  The function captures the current state of this builder.
+     * 
+     * @param <R> the type of record
+     * @return the function
+     */
+    protected <R> UnaryOperator<List<R>> recordPreparer() {
+        List<SequenceBlockAssignment> assignments = new ArrayList<>(sequenceBlockAssignments);
+        Optional<KeyOrder> keyOrder = keyColumns.isEmpty() ? Optional.empty()
+                : Optional.of(KeyOrder.of(keyColumns, columnMappings));
+        return records -> {
+            assignments.forEach(a -> records.forEach(a::assign));
+            return keyOrder.map(k -> k.sort(records)).orElse(records);
+        };
+    }
+    
+    protected abstract T getThis();
+    
+    public class MultiRecordMappingFinisher<F> {
+        private SqlColumn<F> column;
+        
+        public MultiRecordMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+        
+        public T toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return getThis();
+        }
+        
+        /**
+         * Maps the column to a property that is assigned an id from a sequence block when it is null.
+         * The ids are known before the statement runs, so generated keys are not needed.
+         * 
+         * @param property the property to assign and insert
+         * @param allocator the allocator that supplies ids
+         * @return the builder
+         */
+        public T toSequenceBlock(String property, SequenceBlockAllocator allocator) {
+            sequenceBlockAssignments.add(SequenceBlockAssignment.of(property, allocator));
+            return toProperty(property);
+        }
+        
+        public T toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return getThis();
+        }
+        
+        public T toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return getThis();
+        }
+        
+        public T toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return getThis();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Builds an insert statement that is rendered once and executed for every record in a JDBC batch.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class BatchInsertModelBuilder<T> {
+
+    private List<T> records;
+    
+    private BatchInsertModelBuilder(Collection<T> records) {
+        this.records = new ArrayList<>(records);
+    }
+    
+    public BatchInsertMappingBuilder into(SqlTable table) {
+        return new BatchInsertMappingBuilder(table);
+    }
+    
+    public static <T> BatchInsertModelBuilder<T> insertBatch(Collection<T> records) {
+        return new BatchInsertModelBuilder<>(records);
+    }
+    
+    public class BatchInsertMappingBuilder extends AbstractMultiRecordInsertBuilder<BatchInsertMappingBuilder> {
+        private SqlTable table;
+        
+        private BatchInsertMappingBuilder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public BatchInsertModel<T> build() {
+            return new BatchInsertModel.Builder<T>(table)
+                    .withRecords(this.<T>recordPreparer().apply(records))
+                    .withColumnMappings(columnMappings())
+                    .build();
+        }
+        
+        @Override
+        protected BatchInsertMappingBuilder getThis() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.insert.render.BatchInsertSupport;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+
+/**
+ * Collects single record inserts from many threads and writes inserts with the same statement as one batch.
+ * 
+ * <p>Inserts are grouped by their rendered statement.  A group is written when it reaches the maximum batch
+ * size (on the thread that submitted the last insert), or when the window that started with its first insert
+ * has passed (on the scheduler thread).  The batch writer receives a {@link BatchInsertSupport} and must return
+ * an update count for each record - for example the result of {@code NamedParameterJdbcTemplate.batchUpdate(...)}
+ * or the update counts of a MyBatis {@code BatchResult}.  The future returned for each insert completes with
+ * that record's update count, or exceptionally if the batch fails.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class InsertCoalescer<T> implements AutoCloseable {
+    private Function<BatchInsertSupport<T>, int[]> batchWriter;
+    private long windowMillis;
+    private int maxBatchSize;
+    private ScheduledExecutorService scheduler;
+    private boolean ownsScheduler;
+    private Map<String, PendingBatch> pendingBatches = new HashMap<>();
+    private boolean closed;
+    
+    private InsertCoalescer(Builder<T> builder) {
+        batchWriter = builder.batchWriter;
+        windowMillis = builder.windowMillis;
+        maxBatchSize = builder.maxBatchSize;
+        ownsScheduler = builder.scheduler == null;
+        scheduler = ownsScheduler ? Executors.newSingleThreadScheduledExecutor(InsertCoalescer::newDaemonThread)
+                : builder.scheduler;
+    }
+    
+    /**
+     * Adds an insert to the batch for its statement.
+     * 
+     * @param insertSupport a rendered single record insert.  Inserts with a returning clause cannot be batched.
+     * @return a future that completes with the update count for this record
+     */
+    public CompletableFuture<Integer> submit(InsertSupport<T> insertSupport) {
+        if (insertSupport.returningClause().isPresent()) {
+            throw new IllegalArgumentException("Inserts with a returning clause cannot be batched"); //$NON-NLS-1$
+        }
+        
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        PendingBatch fullBatch = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The insert coalescer is closed"); //$NON-NLS-1$
+            }
+            
+            String statement = insertSupport.getFullInsertStatement();
+            PendingBatch batch = pendingBatches.get(statement);
+            if (batch == null) {
+                batch = new PendingBatch(statement, insertSupport);
+                pendingBatches.put(statement, batch);
+                PendingBatch scheduledBatch = batch;
+                scheduler.schedule(() -> writeIfPending(scheduledBatch), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            
+            batch.add(insertSupport.getRecord(), future);
+            if (batch.size() >= maxBatchSize) {
+                pendingBatches.remove(statement);
+                fullBatch = batch;
+            }
+        }
+        
+        if (fullBatch != null) {
+            fullBatch.write();
+        }
+        return future;
+    }
+    
+    /**
+     * Writes all pending batches and stops accepting inserts.
+     */
+    @Override
+    public void close() {
+        List<PendingBatch> batches;
+        synchronized (this) {
+            closed = true;
+            batches = new ArrayList<>(pendingBatches.values());
+            pendingBatches.clear();
+        }
+        
+        batches.forEach(PendingBatch::write);
+        if (ownsScheduler) {
+            scheduler.shutdown();
+        }
+    }
+    
+    private void writeIfPending(PendingBatch batch) {
+        synchronized (this) {
+            if (!pendingBatches.remove(batch.statement, batch)) {
+                // already written because it was full, or by close()
+                return;
+            }
+        }
+        batch.write();
+    }
+    
+    private static Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "insert-coalescer"); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    private class PendingBatch {
+        private String statement;
+        private InsertSupport<T> shape;
+        private List<T> records = new ArrayList<>();
+        private List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        
+        private PendingBatch(String statement, InsertSupport<T> shape) {
+            this.statement = statement;
+            this.shape = shape;
+        }
+        
+        private void add(T record, CompletableFuture<Integer> future) {
+            records.add(record);
+            futures.add(future);
+        }
+        
+        private int size() {
+            return records.size();
+        }
+        
+        private void write() {
+            int[] updateCounts;
+            try {
+                updateCounts = batchWriter.apply(BatchInsertSupport.of(shape.tableName(),
+                        shape.getColumnsPhrase(), shape.getValuesPhrase(), records));
+            } catch (RuntimeException e) {
+                futures.forEach(f -> f.completeExceptionally(e));
+                return;
+            }
+            
+            if (updateCounts.length != futures.size()) {
+                IllegalStateException e = new IllegalStateException("Expected " + futures.size() //$NON-NLS-1$
+                        + " update counts but received " + updateCounts.length); //$NON-NLS-1$
+                futures.forEach(f -> f.completeExceptionally(e));
+                return;
+            }
+            
+            for (int i = 0; i < updateCounts.length; i++) {
+                futures.get(i).complete(updateCounts[i]);
+            }
+        }
+    }
+    
+    public static class Builder<T> {
+        private Function<BatchInsertSupport<T>, int[]> batchWriter;
+        private long windowMillis = 5;
+        private int maxBatchSize = 100;
+        private ScheduledExecutorService scheduler;
+        
+        public Builder(Function<BatchInsertSupport<T>, int[]> batchWriter) {
+            this.batchWriter = batchWriter;
+        }
+        
+        public Builder<T> withWindowMillis(long windowMillis) {
+            this.windowMillis = windowMillis;
+            return this;
+        }
+        
+        public Builder<T> withMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+        
+        /**
+         * Sets the scheduler used to write batches when their window passes.  If not set, the coalescer
+         * creates a single daemon thread and shuts it down on close.
+         * 
+         * @param scheduler the scheduler
+         * @return this builder
+         */
+        public Builder<T> withScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+        
+        public InsertCoalescer<T> build() {
+            return new InsertCoalescer<>(this);
+        }
+    }
+}
@@ -16,11 +16,14 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.InsertMapping;
 
@@ -28,6 +31,7 @@ public class InsertModel<T> {
     private SqlTable table;
     private T record;
     private List<InsertMapping> columnMappings;
+    private Optional<List<SqlColumn<?>>> returningColumns;
     
     private InsertModel() {
         super();
@@ -45,14 +49,23 @@ public class InsertModel<T> {
         return table;
     }
     
+    public Optional<Stream<SqlColumn<?>>> returningColumns() {
+        return returningColumns.flatMap(rc -> Optional.of(rc.stream()));
+    }
+    
     public InsertSupport<T> render(RenderingStrategy renderingStrategy) {
         return InsertRenderer.of(this).render(renderingStrategy);
     }
     
+    public InsertSupport<T> render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return InsertRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
     public static class Builder<T> {
         private SqlTable table;
         private T record;
         private List<InsertMapping> columnMappings;
+        private List<SqlColumn<?>> returningColumns;
         
         public Builder(SqlTable table) {
             this.table = table;
@@ -68,11 +81,17 @@ public class InsertModel<T> {
             return this;
         }
         
+        public Builder<T> withReturningColumns(List<SqlColumn<?>> returningColumns) {
+            this.returningColumns = returningColumns;
+            return this;
+        }
+        
         public InsertModel<T> build() {
             InsertModel<T> insertModel = new InsertModel<>();
             insertModel.table = table;
             insertModel.record = record;
             insertModel.columnMappings = columnMappings;
+            insertModel.returningColumns = Optional.ofNullable(returningColumns);
             return insertModel;
         }
     }
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.mybatis.dynamic.sql.SqlColumn;
@@ -23,8 +24,11 @@ import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.InsertMapping;
+import org.mybatis.dynamic.sql.util.LobSource;
 import org.mybatis.dynamic.sql.util.NullMapping;
 import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.SequenceBlockAllocator;
+import org.mybatis.dynamic.sql.util.SequenceBlockAssignment;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
 public class InsertModelBuilder<T> {
@@ -56,6 +60,10 @@ public class InsertModelBuilder<T> {
             return new InsertSupportMappingBuilderFinisher<>(column);
         }
         
+        public InsertModelAfterReturningBuilder returning(SqlColumn<?>...columns) {
+            return new InsertModelAfterReturningBuilder(Arrays.asList(columns));
+        }
+        
         public InsertModel<T> build() {
             return new InsertModel.Builder<T>(table)
                     .withRecord(record)
@@ -63,6 +71,22 @@ public class InsertModelBuilder<T> {
                     .build();
         }
         
+        public class InsertModelAfterReturningBuilder {
+            private List<SqlColumn<?>> returningColumns;
+            
+            private InsertModelAfterReturningBuilder(List<SqlColumn<?>> returningColumns) {
+                this.returningColumns = returningColumns;
+            }
+            
+            public InsertModel<T> build() {
+                return new InsertModel.Builder<T>(table)
+                        .withRecord(record)
+                        .withColumnMappings(columnMappings)
+                        .withReturningColumns(returningColumns)
+                        .build();
+            }
+        }
+        
         public class InsertSupportMappingBuilderFinisher<F> {
             private SqlColumn<F> column;
             
@@ -82,6 +106,32 @@ public class InsertModelBuilder<T> {
                 return InsertModelMappingBuilder.this;
             }
             
+            /**
+             * Maps the column to a property.  If the property is null, it is first assigned an id from
+             * a sequence block, so the key is known without reading generated keys.
+             * 
+             * @param property the property to assign and insert
+             * @param allocator the allocator that supplies ids
+             * @return the builder
+             */
+            public InsertModelMappingBuilder toSequenceBlock(String property, SequenceBlockAllocator allocator) {
+                SequenceBlockAssignment.of(property, allocator).assign(record);
+                return toProperty(property);
+            }
+            
+            /**
+             * Maps the column to a property that holds a {@link LobSource}.  The value is bound as a
+             * stream of known length when the statement is executed, so it is not held on the heap.  The
+             * statement can be executed with MyBatis or JDBC, but cannot be rendered for Spring.
+             * 
+             * @param property the property that holds the LOB source
+             * @return the builder
+             */
+            public InsertModelMappingBuilder toLob(String property) {
+                columnMappings.add(PropertyMapping.of(LobSource.lobColumn(column), property));
+                return InsertModelMappingBuilder.this;
+            }
+            
             public InsertModelMappingBuilder toNull() {
                 columnMappings.add(NullMapping.of(column));
                 return InsertModelMappingBuilder.this;
@@ -0,0 +1,87 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectRenderer;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+public class InsertSelectModel {
+    private SqlTable table;
+    private List<SqlColumn<?>> columns;
+    private SelectModel selectModel;
+    
+    private InsertSelectModel() {
+        super();
+    }
+    
+    public SqlTable table() {
+        return table;
+    }
+    
+    public Optional<Stream<SqlColumn<?>>> columns() {
+        return columns.isEmpty() ? Optional.empty() : Optional.of(columns.stream());
+    }
+    
+    public SelectModel selectModel() {
+        return selectModel;
+    }
+    
+    public InsertSelectSupport render(RenderingStrategy renderingStrategy) {
+        return InsertSelectRenderer.of(this).render(renderingStrategy);
+    }
+    
+    public InsertSelectSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return InsertSelectRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
+    public static class Builder {
+        private SqlTable table;
+        private List<SqlColumn<?>> columns = new ArrayList<>();
+        private SelectModel selectModel;
+        
+        public Builder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public Builder withColumns(List<SqlColumn<?>> columns) {
+            this.columns.addAll(columns);
+            return this;
+        }
+        
+        public Builder withSelectModel(SelectModel selectModel) {
+            this.selectModel = selectModel;
+            return this;
+        }
+        
+        public InsertSelectModel build() {
+            InsertSelectModel insertSelectModel = new InsertSelectModel();
+            insertSelectModel.table = table;
+            insertSelectModel.columns = columns;
+            insertSelectModel.selectModel = selectModel;
+            return insertSelectModel;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * Builds an "insert into ... select" statement.  The rows are copied inside the database, so
+ * nothing is read into the JVM no matter how many rows the select returns.
+ * 
+ * <p>The column list is optional.  If it is not supplied, the select must return a value
+ * for every column of the table in table order.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class InsertSelectModelBuilder {
+
+    private SqlTable table;
+    
+    private InsertSelectModelBuilder(SqlTable table) {
+        this.table = table;
+    }
+    
+    public InsertSelectColumnListBuilder withColumnList(SqlColumn<?>...columns) {
+        return new InsertSelectColumnListBuilder(Arrays.asList(columns));
+    }
+    
+    public InsertSelectAfterSelectBuilder withSelectStatement(SelectModel selectModel) {
+        return new InsertSelectAfterSelectBuilder(Collections.emptyList(), selectModel);
+    }
+    
+    public static InsertSelectModelBuilder insertInto(SqlTable table) {
+        return new InsertSelectModelBuilder(table);
+    }
+    
+    public class InsertSelectColumnListBuilder {
+        private List<SqlColumn<?>> columns;
+        
+        private InsertSelectColumnListBuilder(List<SqlColumn<?>> columns) {
+            this.columns = columns;
+        }
+        
+        public InsertSelectAfterSelectBuilder withSelectStatement(SelectModel selectModel) {
+            return new InsertSelectAfterSelectBuilder(columns, selectModel);
+        }
+    }
+    
+    public class InsertSelectAfterSelectBuilder {
+        private List<SqlColumn<?>> columns;
+        private SelectModel selectModel;
+        
+        private InsertSelectAfterSelectBuilder(List<SqlColumn<?>> columns, SelectModel selectModel) {
+            this.columns = columns;
+            this.selectModel = selectModel;
+        }
+        
+        public InsertSelectModel build() {
+            return new InsertSelectModel.Builder(table)
+                    .withColumns(columns)
+                    .withSelectModel(selectModel)
+                    .build();
+        }
+    }
+}
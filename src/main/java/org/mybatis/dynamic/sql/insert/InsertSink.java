@@ -0,0 +1,283 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsertSupport;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+import org.mybatis.dynamic.sql.util.InsertMapping;
+
+/**
+ * Accepts records one at a time and writes them in groups.  At most "buffer size" records are held
+ * before they are written - either as a JDBC batch or as multi-row inserts - and then released.
+ * 
+ * <p>By default, records are written on the thread that adds them.  With asynchronous flushes, writes run
+ * on the supplied executor and at most "max pending flushes" writes may be waiting or running.  When that
+ * limit is reached, adding a record blocks until a write finishes.  Memory use is therefore bounded by
+ * (max pending flushes + 1) * buffer size records no matter how many records are loaded.
+ * 
+ * <p>If a key order is declared with {@link Builder#inKeyOrder(org.mybatis.dynamic.sql.SqlColumn...)}, each buffer
+ * is sorted by key before it is written.  Ids from sequence blocks are assigned just before a buffer is written.
+ * 
+ * <p>With an adaptive buffer size, every write is timed and the buffer size is taken from the
+ * {@link AdaptiveBatchSize} before each record is added.
+ * 
+ * <p>A sink is not thread safe - records should be added by one thread.  If an asynchronous write fails,
+ * the exception is thrown by the next call to {@link #add(Object)}, {@link #flush()} or {@link #close()}.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class InsertSink<T> implements AutoCloseable {
+    private int bufferSize;
+    private Optional<AdaptiveBatchSize> adaptiveBufferSize;
+    private ToIntFunction<List<T>> writer;
+    private Optional<Executor> executor;
+    private int maxPendingFlushes;
+    private Semaphore pendingFlushes;
+    private List<T> buffer;
+    private AtomicLong rowsWritten = new AtomicLong();
+    private AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    
+    private InsertSink(Builder<T> builder, ToIntFunction<List<T>> writer) {
+        this.bufferSize = builder.bufferSize;
+        this.adaptiveBufferSize = builder.adaptiveBufferSize;
+        this.writer = writer;
+        this.executor = builder.executor;
+        this.maxPendingFlushes = builder.maxPendingFlushes;
+        this.pendingFlushes = new Semaphore(maxPendingFlushes);
+        this.buffer = new ArrayList<>(bufferSize());
+    }
+    
+    public void add(T record) {
+        checkFailure();
+        buffer.add(record);
+        if (buffer.size() >= bufferSize()) {
+            flush();
+        }
+    }
+    
+    public void addAll(Stream<T> records) {
+        records.forEachOrdered(this::add);
+    }
+    
+    /**
+     * Writes any buffered records.  With asynchronous flushes this method returns when the write
+     * has been handed to the executor, not when it is complete.
+     */
+    public void flush() {
+        checkFailure();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        
+        List<T> records = buffer;
+        buffer = new ArrayList<>(bufferSize());
+        if (executor.isPresent()) {
+            acquire(1);
+            try {
+                executor.get().execute(() -> writeAndRelease(records));
+            } catch (RejectedExecutionException e) {
+                // keep the records so the flush can be retried
+                pendingFlushes.release();
+                buffer = records;
+                throw e;
+            }
+        } else {
+            write(records);
+        }
+    }
+    
+    /**
+     * Writes any buffered records and waits for all pending writes to complete.
+     */
+    @Override
+    public void close() {
+        flush();
+        acquire(maxPendingFlushes);
+        pendingFlushes.release(maxPendingFlushes);
+        checkFailure();
+    }
+    
+    /**
+     * Returns the total of the counts returned by the write function for all completed writes.
+     * 
+     * @return the number of rows written
+     */
+    public long rowsWritten() {
+        return rowsWritten.get();
+    }
+    
+    private int bufferSize() {
+        return adaptiveBufferSize.map(AdaptiveBatchSize::batchSize).orElse(bufferSize);
+    }
+    
+    private void write(List<T> records) {
+        long start = System.nanoTime();
+        rowsWritten.addAndGet(writer.applyAsInt(records));
+        adaptiveBufferSize.ifPresent(a -> a.record(records.size(), System.nanoTime() - start));
+    }
+    
+    private void writeAndRelease(List<T> records) {
+        try {
+            write(records);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            pendingFlushes.release();
+        }
+    }
+    
+    private void acquire(int permits) {
+        try {
+            pendingFlushes.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for pending inserts", e); //$NON-NLS-1$
+        }
+    }
+    
+    private void checkFailure() {
+        RuntimeException e = failure.getAndSet(null);
+        if (e != null) {
+            throw e;
+        }
+    }
+    
+    public static class Builder<T> extends AbstractMultiRecordInsertBuilder<Builder<T>> {
+        private SqlTable table;
+        private int bufferSize = 1000;
+        private Optional<AdaptiveBatchSize> adaptiveBufferSize = Optional.empty();
+        private Dialect dialect = Dialect.GENERIC;
+        private Optional<Executor> executor = Optional.empty();
+        private int maxPendingFlushes = 1;
+        
+        public Builder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public Builder<T> withBufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("The buffer size must be greater than zero"); //$NON-NLS-1$
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+        
+        /**
+         * Lets the buffer size follow the measured write times instead of using a fixed size.
+         * 
+         * @param adaptiveBufferSize the controller that chooses the buffer size
+         * @return this builder
+         */
+        public Builder<T> withAdaptiveBufferSize(AdaptiveBatchSize adaptiveBufferSize) {
+            this.adaptiveBufferSize = Optional.of(adaptiveBufferSize);
+            return this;
+        }
+        
+        /**
+         * Sets the dialect used to limit the size of multi-row inserts.  Buffered records are split
+         * into as many statements as needed to stay within the dialect's bind parameter limit.
+         * 
+         * @param dialect the dialect
+         * @return this builder
+         */
+        public Builder<T> withDialect(Dialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+        
+        public Builder<T> withAsyncFlushes(Executor executor, int maxPendingFlushes) {
+            if (maxPendingFlushes < 1) {
+                throw new IllegalArgumentException(
+                        "The maximum number of pending flushes must be greater than zero"); //$NON-NLS-1$
+            }
+            this.executor = Optional.of(executor);
+            this.maxPendingFlushes = maxPendingFlushes;
+            return this;
+        }
+        
+        /**
+         * Builds a sink that writes each group of records as a JDBC batch.
+         * 
+         * @param renderingStrategy the rendering strategy
+         * @param batchWriter executes the batch and returns the number of rows inserted
+         * @return the sink
+         */
+        public InsertSink<T> buildForBatches(RenderingStrategy renderingStrategy,
+                ToIntFunction<BatchInsertSupport<T>> batchWriter) {
+            List<InsertMapping> columnMappings = new ArrayList<>(columnMappings());
+            ToIntFunction<List<T>> writer = records -> batchWriter.applyAsInt(
+                    new BatchInsertModel.Builder<T>(table)
+                        .withRecords(records)
+                        .withColumnMappings(columnMappings)
+                        .build()
+                        .render(renderingStrategy));
+            return new InsertSink<>(this, preparingRecords(writer));
+        }
+        
+        /**
+         * Builds a sink that writes each group of records with multi-row insert statements.
+         * 
+         * @param renderingStrategy the rendering strategy
+         * @param multiRowWriter executes an insert statement and returns the number of rows inserted
+         * @return the sink
+         */
+        public InsertSink<T> buildForMultiRowInserts(RenderingStrategy renderingStrategy,
+                ToIntFunction<MultiRowInsertSupport<T>> multiRowWriter) {
+            List<InsertMapping> columnMappings = new ArrayList<>(columnMappings());
+            int maxRows = Math.max(1, dialect.getMaxBindParameters() / Math.max(1, columnMappings.size()));
+            ToIntFunction<List<T>> writer = records -> {
+                int rows = 0;
+                for (int start = 0; start < records.size(); start += maxRows) {
+                    rows += multiRowWriter.applyAsInt(new MultiRowInsertModel.Builder<T>(table)
+                            .withRecords(records.subList(start, Math.min(start + maxRows, records.size())))
+                            .withColumnMappings(columnMappings)
+                            .build()
+                            .render(renderingStrategy));
+                }
+                return rows;
+            };
+            return new InsertSink<>(this, preparingRecords(writer));
+        }
+        
+        private ToIntFunction<List<T>> preparingRecords(ToIntFunction<List<T>> writer) {
+            UnaryOperator<List<T>> recordPreparer = recordPreparer();
+            return records -> writer.applyAsInt(recordPreparer.apply(records));
+        }
+        
+        @Override
+        protected Builder<T> getThis() {
+            return this;
+        }
+    }
+}
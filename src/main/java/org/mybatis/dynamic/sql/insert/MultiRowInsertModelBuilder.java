@@ -0,0 +1,67 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Builds an insert statement that inserts every record with one statement - "insert into ... values (...), (...)".
+ * The caller is responsible for keeping the number of records within the bind parameter limit of the database.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class MultiRowInsertModelBuilder<T> {
+
+    private List<T> records;
+    
+    private MultiRowInsertModelBuilder(Collection<T> records) {
+        this.records = new ArrayList<>(records);
+    }
+    
+    public MultiRowInsertMappingBuilder into(SqlTable table) {
+        return new MultiRowInsertMappingBuilder(table);
+    }
+    
+    public static <T> MultiRowInsertModelBuilder<T> insertMultiple(Collection<T> records) {
+        return new MultiRowInsertModelBuilder<>(records);
+    }
+    
+    public class MultiRowInsertMappingBuilder extends AbstractMultiRecordInsertBuilder<MultiRowInsertMappingBuilder> {
+        private SqlTable table;
+        
+        private MultiRowInsertMappingBuilder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public MultiRowInsertModel<T> build() {
+            return new MultiRowInsertModel.Builder<T>(table)
+                    .withRecords(this.<T>recordPreparer().apply(records))
+                    .withColumnMappings(columnMappings())
+                    .build();
+        }
+        
+        @Override
+        protected MultiRowInsertMappingBuilder getThis() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+public class BatchInsertRenderer<T> {
+
+    private BatchInsertModel<T> model;
+    
+    private BatchInsertRenderer(BatchInsertModel<T> model) {
+        this.model = model;
+    }
+    
+    public BatchInsertSupport<T> render(RenderingStrategy renderingStrategy) {
+        ValuePhraseVisitor visitor = new ValuePhraseVisitor(renderingStrategy);
+        List<FieldAndValue> fieldsAndValues = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(Collectors.toList());
+        
+        return BatchInsertSupport.of(model.table().name(), calculateColumnsPhrase(fieldsAndValues),
+                calculateValuesPhrase(fieldsAndValues), model.records());
+    }
+    
+    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
+        return fieldsAndValues.stream()
+                .map(FieldAndValue::fieldName)
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    private String calculateValuesPhrase(List<FieldAndValue> fieldsAndValues) {
+        return fieldsAndValues.stream()
+                .map(FieldAndValue::valuePhrase)
+                .collect(Collectors.joining(", ", "values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    public static <T> BatchInsertRenderer<T> of(BatchInsertModel<T> model) {
+        return new BatchInsertRenderer<>(model);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * This class holds an insert statement that is rendered once for a batch of records, and the records.
+ * 
+ * <p>With MyBatis, execute each of the supports returned by {@link #insertSupports()} in a session opened with
+ * {@code ExecutorType.BATCH}.  With Spring, pass {@link #getFullInsertStatement()} and
+ * {@code SqlParameterSourceUtils.createBatch(getRecords().toArray())} to
+ * {@code NamedParameterJdbcTemplate.batchUpdate(...)}.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the records
+ */
+public class BatchInsertSupport<T> extends AbstractSqlSupport {
+    
+    private String columnsPhrase;
+    private String valuesPhrase;
+    private List<T> records;
+    
+    private BatchInsertSupport(String tableName, String columnsPhrase, String valuesPhrase, List<T> records) {
+        super(tableName);
+        this.columnsPhrase = columnsPhrase;
+        this.valuesPhrase = valuesPhrase;
+        this.records = Collections.unmodifiableList(new ArrayList<>(records));
+    }
+    
+    public String getColumnsPhrase() {
+        return columnsPhrase;
+    }
+
+    public String getValuesPhrase() {
+        return valuesPhrase;
+    }
+    
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    public String getFullInsertStatement() {
+        return "insert into " //$NON-NLS-1$
+                + tableName()
+                + ONE_SPACE
+                + getColumnsPhrase()
+                + ONE_SPACE
+                + getValuesPhrase();
+    }
+    
+    /**
+     * Returns an insert support for each record.  Every support has the same statement.
+     * 
+     * @return a stream of single record supports
+     */
+    public Stream<InsertSupport<T>> insertSupports() {
+        return records.stream()
+                .map(r -> InsertSupport.of(tableName(), columnsPhrase, valuesPhrase, r));
+    }
+
+    public static <T> BatchInsertSupport<T> of(String tableName, String columnsPhrase, String valuesPhrase,
+            List<T> records) {
+        return new BatchInsertSupport<>(tableName, columnsPhrase, valuesPhrase, records);
+    }
+}
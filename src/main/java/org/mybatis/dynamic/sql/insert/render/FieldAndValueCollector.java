@@ -17,6 +17,7 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -28,10 +29,16 @@ public class FieldAndValueCollector<T> {
     private List<String> valuePhrases = new ArrayList<>();
     private T record;
     private SqlTable table;
+    private Optional<String> returningClause;
     
     public FieldAndValueCollector(T record, SqlTable table) {
+        this(record, table, Optional.empty());
+    }
+    
+    public FieldAndValueCollector(T record, SqlTable table, Optional<String> returningClause) {
         this.record = record;
         this.table = table;
+        this.returningClause = returningClause;
     }
     
     public void add(FieldAndValue fieldAndValue) {
@@ -56,12 +63,17 @@ public class FieldAndValueCollector<T> {
     }
     
     public InsertSupport<T> toInsertSupport() {
-        return InsertSupport.of(table.name(), columnsPhrase(), valuesPhrase(), record);
+        return InsertSupport.of(table.name(), columnsPhrase(), valuesPhrase(), record, returningClause);
     }
     
     public static <T> Collector<FieldAndValue, FieldAndValueCollector<T>, InsertSupport<T>> toInsertSupport(T record,
             SqlTable table) {
-        return Collector.of(() -> new FieldAndValueCollector<>(record, table),
+        return toInsertSupport(record, table, Optional.empty());
+    }
+    
+    public static <T> Collector<FieldAndValue, FieldAndValueCollector<T>, InsertSupport<T>> toInsertSupport(T record,
+            SqlTable table, Optional<String> returningClause) {
+        return Collector.of(() -> new FieldAndValueCollector<>(record, table, returningClause),
                 FieldAndValueCollector::add,
                 FieldAndValueCollector::merge,
                 FieldAndValueCollector::toInsertSupport);
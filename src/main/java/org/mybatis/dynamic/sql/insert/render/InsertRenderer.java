@@ -15,7 +15,12 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.InsertMapping;
 
@@ -28,10 +33,21 @@ public class InsertRenderer<T> {
     }
     
     public InsertSupport<T> render(RenderingStrategy renderingStrategy) {
+        return render(renderingStrategy, Dialect.GENERIC);
+    }
+    
+    public InsertSupport<T> render(RenderingStrategy renderingStrategy, Dialect dialect) {
         ValuePhraseVisitor visitor = new ValuePhraseVisitor(renderingStrategy);
         return model.columnMappings()
                 .map(cv -> transform(cv, visitor))
-                .collect(FieldAndValueCollector.toInsertSupport(model.record(), model.table()));
+                .collect(FieldAndValueCollector.toInsertSupport(model.record(), model.table(),
+                        calculateReturningClause(dialect)));
+    }
+    
+    private Optional<String> calculateReturningClause(Dialect dialect) {
+        return model.returningColumns()
+                .map(rc -> rc.map(SqlColumn::name).collect(Collectors.joining(", "))) //$NON-NLS-1$
+                .map(dialect::getReturningClause);
     }
     
     private FieldAndValue transform(InsertMapping mapping, ValuePhraseVisitor visitor) {
@@ -0,0 +1,99 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * This class holds a rendered "insert into ... select" statement and the parameters
+ * of the select's where clause.  It can be used with a MyBatis {@code @Insert("${fullInsertStatement}")}
+ * method, or with Spring's {@code NamedParameterJdbcTemplate.update(...)} and the parameter map.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class InsertSelectSupport extends AbstractSqlSupport {
+    
+    private Optional<String> columnsPhrase;
+    private String selectStatement;
+    private Map<String, Object> parameters;
+    
+    private InsertSelectSupport(String tableName) {
+        super(tableName);
+    }
+    
+    public String getColumnsPhrase() {
+        return columnsPhrase().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> columnsPhrase() {
+        return columnsPhrase;
+    }
+    
+    public String getSelectStatement() {
+        return selectStatement;
+    }
+    
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    public String getFullInsertStatement() {
+        return "insert into " //$NON-NLS-1$
+                + tableName()
+                + columnsPhrase().map(c -> ONE_SPACE + c).orElse(EMPTY_STRING)
+                + ONE_SPACE
+                + getSelectStatement();
+    }
+    
+    public static class Builder {
+        private String tableName;
+        private Optional<String> columnsPhrase = Optional.empty();
+        private String selectStatement;
+        private Map<String, Object> parameters = new HashMap<>();
+        
+        public Builder(String tableName) {
+            this.tableName = tableName;
+        }
+        
+        public Builder withColumnsPhrase(Optional<String> columnsPhrase) {
+            this.columnsPhrase = columnsPhrase;
+            return this;
+        }
+        
+        public Builder withSelectStatement(String selectStatement) {
+            this.selectStatement = selectStatement;
+            return this;
+        }
+        
+        public Builder withParameters(Map<String, Object> parameters) {
+            this.parameters.putAll(parameters);
+            return this;
+        }
+        
+        public InsertSelectSupport build() {
+            InsertSelectSupport insertSelectSupport = new InsertSelectSupport(tableName);
+            insertSelectSupport.columnsPhrase = columnsPhrase;
+            insertSelectSupport.selectStatement = selectStatement;
+            insertSelectSupport.parameters = parameters;
+            return insertSelectSupport;
+        }
+    }
+}
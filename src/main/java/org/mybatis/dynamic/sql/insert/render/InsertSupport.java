@@ -15,19 +15,35 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.util.Optional;
+
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
 
+/**
+ * This class holds a rendered insert statement and the record whose properties supply the values.
+ * 
+ * <p>When the statement has a "returning" clause it produces a result set, so it should be mapped
+ * like a select - for example with a MyBatis {@code @Select("${fullInsertStatement}")} method and a result map,
+ * or with Spring's {@code NamedParameterJdbcTemplate.query(...)} and a row mapper.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the record
+ */
 public class InsertSupport<T> extends AbstractSqlSupport {
     
     private String columnsPhrase;
     private String valuesPhrase;
     private T record;
+    private Optional<String> returningClause;
     
-    private InsertSupport(String tableName, String columnsPhrase, String valuesPhrase, T record) {
+    private InsertSupport(String tableName, String columnsPhrase, String valuesPhrase, T record,
+            Optional<String> returningClause) {
         super(tableName);
         this.columnsPhrase = columnsPhrase;
         this.valuesPhrase = valuesPhrase;
         this.record = record;
+        this.returningClause = returningClause;
     }
     
     public String getColumnsPhrase() {
@@ -42,16 +58,30 @@ public class InsertSupport<T> extends AbstractSqlSupport {
         return record;
     }
     
+    public String getReturningClause() {
+        return returningClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> returningClause() {
+        return returningClause;
+    }
+    
     public String getFullInsertStatement() {
         return "insert into " //$NON-NLS-1$
                 + tableName()
                 + ONE_SPACE
                 + getColumnsPhrase()
                 + ONE_SPACE
-                + getValuesPhrase();
+                + getValuesPhrase()
+                + returningClause().map(r -> ONE_SPACE + r).orElse(EMPTY_STRING);
     }
 
     public static <T> InsertSupport<T> of(String tableName, String columnsPhrase, String valuesPhrase, T record) {
-        return new InsertSupport<>(tableName, columnsPhrase, valuesPhrase, record);
+        return of(tableName, columnsPhrase, valuesPhrase, record, Optional.empty());
+    }
+
+    public static <T> InsertSupport<T> of(String tableName, String columnsPhrase, String valuesPhrase, T record,
+            Optional<String> returningClause) {
+        return new InsertSupport<>(tableName, columnsPhrase, valuesPhrase, record, returningClause);
     }
 }
@@ -0,0 +1,70 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+public class MultiRowInsertRenderer<T> {
+
+    private MultiRowInsertModel<T> model;
+    
+    private MultiRowInsertRenderer(MultiRowInsertModel<T> model) {
+        this.model = model;
+    }
+    
+    public MultiRowInsertSupport<T> render(RenderingStrategy renderingStrategy) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        Map<String, Object> parameters = new HashMap<>();
+        
+        String columnsPhrase = model.columnMappings()
+                .map(m -> m.column().name())
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        
+        String valuesPhrase = model.records().stream()
+                .map(r -> renderRow(r, renderingStrategy, sequence, parameters))
+                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        
+        return new MultiRowInsertSupport.Builder<T>(model.table().name())
+                .withColumnsPhrase(columnsPhrase)
+                .withValuesPhrase(valuesPhrase)
+                .withParameters(parameters)
+                .withRecords(model.records())
+                .build();
+    }
+    
+    private String renderRow(T record, RenderingStrategy renderingStrategy, AtomicInteger sequence,
+            Map<String, Object> parameters) {
+        MultiRowValuePhraseVisitor visitor =
+                new MultiRowValuePhraseVisitor(renderingStrategy, record, sequence, parameters);
+        List<FieldAndValue> fieldsAndValues = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(Collectors.toList());
+        return fieldsAndValues.stream()
+                .map(FieldAndValue::valuePhrase)
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    public static <T> MultiRowInsertRenderer<T> of(MultiRowInsertModel<T> model) {
+        return new MultiRowInsertRenderer<>(model);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * This class holds an insert statement with one row of values for each record.  The record values
+ * are copied into the parameter map, so the statement can be used with a MyBatis
+ * {@code @Insert("${fullInsertStatement}")} method or with Spring's {@code NamedParameterJdbcTemplate}
+ * and {@link #getParameters()}.  Generated keys are not written back to the records.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the records
+ */
+public class MultiRowInsertSupport<T> extends AbstractSqlSupport {
+    
+    private String columnsPhrase;
+    private String valuesPhrase;
+    private Map<String, Object> parameters;
+    private List<T> records;
+    
+    private MultiRowInsertSupport(String tableName) {
+        super(tableName);
+    }
+    
+    public String getColumnsPhrase() {
+        return columnsPhrase;
+    }
+
+    public String getValuesPhrase() {
+        return valuesPhrase;
+    }
+    
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    public String getFullInsertStatement() {
+        return "insert into " //$NON-NLS-1$
+                + tableName()
+                + ONE_SPACE
+                + getColumnsPhrase()
+                + ONE_SPACE
+                + getValuesPhrase();
+    }
+    
+    public static class Builder<T> {
+        private String tableName;
+        private String columnsPhrase;
+        private String valuesPhrase;
+        private Map<String, Object> parameters = new HashMap<>();
+        private List<T> records = new ArrayList<>();
+        
+        public Builder(String tableName) {
+            this.tableName = tableName;
+        }
+        
+        public Builder<T> withColumnsPhrase(String columnsPhrase) {
+            this.columnsPhrase = columnsPhrase;
+            return this;
+        }
+        
+        public Builder<T> withValuesPhrase(String valuesPhrase) {
+            this.valuesPhrase = valuesPhrase;
+            return this;
+        }
+        
+        public Builder<T> withParameters(Map<String, Object> parameters) {
+            this.parameters.putAll(parameters);
+            return this;
+        }
+        
+        public Builder<T> withRecords(List<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+        
+        public MultiRowInsertSupport<T> build() {
+            MultiRowInsertSupport<T> support = new MultiRowInsertSupport<>(tableName);
+            support.columnsPhrase = columnsPhrase;
+            support.valuesPhrase = valuesPhrase;
+            support.parameters = Collections.unmodifiableMap(parameters);
+            support.records = Collections.unmodifiableList(records);
+            return support;
+        }
+    }
+}
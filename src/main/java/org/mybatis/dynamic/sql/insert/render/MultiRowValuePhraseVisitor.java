@@ -0,0 +1,74 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Renders the value phrases for one row of a multi-row insert.  Property values are copied into the
+ * parameter map because each row needs its own placeholders.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class MultiRowValuePhraseVisitor implements InsertMappingVisitor<FieldAndValue> {
+    
+    private RenderingStrategy renderingStrategy;
+    private Object record;
+    private AtomicInteger sequence;
+    private Map<String, Object> parameters;
+    
+    public MultiRowValuePhraseVisitor(RenderingStrategy renderingStrategy, Object record, AtomicInteger sequence,
+            Map<String, Object> parameters) {
+        this.renderingStrategy = renderingStrategy;
+        this.record = record;
+        this.sequence = sequence;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public FieldAndValue visit(NullMapping mapping) {
+        return FieldAndValue.of(mapping.column().name(), "null"); //$NON-NLS-1$
+    }
+
+    @Override
+    public FieldAndValue visit(ConstantMapping mapping) {
+        return FieldAndValue.of(mapping.column().name(), mapping.constant());
+    }
+
+    @Override
+    public FieldAndValue visit(StringConstantMapping mapping) {
+        return FieldAndValue.of(mapping.column().name(), "'" + mapping.constant() + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    
+    @Override
+    public FieldAndValue visit(PropertyMapping mapping) {
+        String mapKey = "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        parameters.put(mapKey, BeanPropertyGetter.instance().getPropertyValue(record, mapping.property()));
+        String placeholder = renderingStrategy.getFormattedJdbcPlaceholder(mapping.column(),
+                "parameters", mapKey); //$NON-NLS-1$
+        return FieldAndValue.of(mapping.column().name(), placeholder);
+    }
+}
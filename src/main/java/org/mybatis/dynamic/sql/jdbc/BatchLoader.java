@@ -0,0 +1,307 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+
+/**
+ * Loads rows by key in batches, so that many callers asking for one row each cause one select with an
+ * <code>in</code> condition instead of one select per caller.
+ * 
+ * <p>Keys passed to {@link #load(Object)} are collected until the batch is dispatched, and a key requested more
+ * than once in a batch is selected once and shares one future.  A batch is dispatched when
+ * {@link #dispatch()} is called, when it reaches the maximum batch size, or - when a window is configured - a
+ * fixed time after its first key was requested.  Each batch is selected with the template, with
+ * <code>key in (...)</code> added to its where clause, and the futures are completed in the order the keys were
+ * requested.  A future completes with an empty optional if no row has its key, and completes exceptionally if
+ * more than one row has its key or the select fails.
+ * 
+ * <p>The template's where clause is kept, so it can hold filters that apply to every key.  Its criteria must
+ * be connected with "and", and it cannot have a limit.
+ * 
+ * <p>This class is thread safe.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded rows
+ */
+public class BatchLoader<K, V> {
+    private JdbcExecutor executor;
+    private SelectModel template;
+    private SqlColumn<K> keyColumn;
+    private RowMapper<V> rowMapper;
+    private Function<? super V, ? extends K> keyFunction;
+    private int maxBatchSize;
+    private long windowMillis;
+    private ScheduledExecutorService scheduler;
+    private List<SqlCriterion<?>> templateCriteria;
+    
+    private Map<K, CompletableFuture<Optional<V>>> pending = new LinkedHashMap<>();
+    private long generation;
+    private AtomicLong selects = new AtomicLong();
+    
+    private BatchLoader(Builder<K, V> builder) {
+        executor = Objects.requireNonNull(builder.executor);
+        template = Objects.requireNonNull(builder.template);
+        keyColumn = Objects.requireNonNull(builder.keyColumn);
+        rowMapper = Objects.requireNonNull(builder.rowMapper);
+        keyFunction = Objects.requireNonNull(builder.keyFunction);
+        maxBatchSize = Math.min(builder.maxBatchSize, executor.dialect().getMaxInListSize());
+        windowMillis = builder.windowMillis;
+        scheduler = builder.scheduler;
+        templateCriteria = templateCriteria(template);
+    }
+    
+    /**
+     * Requests the row with a key.
+     * 
+     * @param key the key
+     * @return a future completed with the row, or an empty optional if there is no row with the key
+     */
+    public CompletableFuture<Optional<V>> load(K key) {
+        Objects.requireNonNull(key);
+        Map<K, CompletableFuture<Optional<V>>> fullBatch = null;
+        CompletableFuture<Optional<V>> future;
+        synchronized (this) {
+            future = pending.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(key, future);
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = takePending();
+                } else if (pending.size() == 1 && scheduler != null) {
+                    long batch = generation;
+                    scheduler.schedule(() -> dispatch(batch), windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        
+        if (fullBatch != null) {
+            Map<K, CompletableFuture<Optional<V>>> batch = fullBatch;
+            if (scheduler == null) {
+                execute(batch);
+            } else {
+                scheduler.execute(() -> execute(batch));
+            }
+        }
+        return future;
+    }
+    
+    /**
+     * Selects the keys requested so far on the calling thread, and completes their futures.
+     */
+    public void dispatch() {
+        Map<K, CompletableFuture<Optional<V>>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        execute(batch);
+    }
+    
+    /**
+     * Returns the number of selects executed by this loader.
+     * 
+     * @return the number of selects
+     */
+    public long selects() {
+        return selects.get();
+    }
+    
+    private void dispatch(long batch) {
+        Map<K, CompletableFuture<Optional<V>>> keys;
+        synchronized (this) {
+            if (batch != generation) {
+                return;
+            }
+            keys = takePending();
+        }
+        execute(keys);
+    }
+    
+    private Map<K, CompletableFuture<Optional<V>>> takePending() {
+        Map<K, CompletableFuture<Optional<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        return batch;
+    }
+    
+    private void execute(Map<K, CompletableFuture<Optional<V>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        Map<K, V> rows = new HashMap<>();
+        Set<K> duplicateKeys = new HashSet<>();
+        try {
+            selects.incrementAndGet();
+            for (V row : executor.selectList(selectModelFor(batch.keySet()), rowMapper)) {
+                K key = keyFunction.apply(row);
+                if (rows.put(key, row) != null) {
+                    duplicateKeys.add(key);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            batch.values().forEach(f -> f.completeExceptionally(e));
+            return;
+        }
+        
+        batch.forEach((key, future) -> {
+            if (duplicateKeys.contains(key)) {
+                future.completeExceptionally(new IllegalStateException(
+                        "More than one row was selected for key " + key)); //$NON-NLS-1$
+            } else {
+                future.complete(Optional.ofNullable(rows.get(key)));
+            }
+        });
+    }
+    
+    SelectModel selectModelFor(Set<K> keys) {
+        SqlCriterion<K> keyCriterion = new SqlCriterion.Builder<K>()
+                .withColumn(keyColumn)
+                .withCondition(IsIn.of(keys.stream()))
+                .build();
+        
+        SelectModel.Builder builder = new SelectModel.Builder(template.table())
+                .withCommonTableExpressions(template.commonTableExpressions().collect(Collectors.toList()))
+                .isDistinct(template.isDistinct())
+                .withColumns(template.columns().collect(Collectors.toList()))
+                .withJoins(template.joins().collect(Collectors.toList()))
+                .withJoinTableAliases(template.tableAliases())
+                .withWhereModel(WhereModel.of(Stream.concat(Stream.of(keyCriterion), templateCriteria.stream())));
+        template.orderByColumns().ifPresent(c -> builder.withOrderByColumns(c.collect(Collectors.toList())));
+        template.lockMode().ifPresent(builder::withLockMode);
+        return builder.build();
+    }
+    
+    private static List<SqlCriterion<?>> templateCriteria(SelectModel template) {
+        if (template.limit().isPresent()) {
+            throw new IllegalArgumentException("A batch loader template cannot have a limit"); //$NON-NLS-1$
+        }
+        
+        List<SqlCriterion<?>> criteria = template.whereModel()
+                .map(w -> w.criteria().collect(Collectors.toList()))
+                .orElseGet(ArrayList::new);
+        if (criteria.stream().anyMatch(c -> c.connector().filter("or"::equalsIgnoreCase).isPresent())) { //$NON-NLS-1$
+            throw new IllegalArgumentException(
+                    "The where clause of a batch loader template must connect its criteria with \"and\""); //$NON-NLS-1$
+        }
+        
+        if (!criteria.isEmpty()) {
+            criteria.set(0, withAnd(criteria.get(0)));
+        }
+        return criteria;
+    }
+    
+    private static <T> SqlCriterion<T> withAnd(SqlCriterion<T> criterion) {
+        SqlCriterion.Builder<T> builder = new SqlCriterion.Builder<T>()
+                .withConnector("and") //$NON-NLS-1$
+                .withColumn(criterion.column())
+                .withCondition(criterion.condition());
+        criterion.subCriteria().ifPresent(s -> builder.withSubCriteria(s.collect(Collectors.toList())));
+        return builder.build();
+    }
+    
+    public static class Builder<K, V> {
+        private JdbcExecutor executor;
+        private SelectModel template;
+        private SqlColumn<K> keyColumn;
+        private RowMapper<V> rowMapper;
+        private Function<? super V, ? extends K> keyFunction;
+        private int maxBatchSize = 500;
+        private long windowMillis;
+        private ScheduledExecutorService scheduler;
+        
+        public Builder(JdbcExecutor executor, SelectModel template) {
+            this.executor = executor;
+            this.template = template;
+        }
+        
+        /**
+         * Sets the key column, and how to find the key of a loaded row.
+         * 
+         * @param keyColumn the column selected with an in condition
+         * @param keyFunction returns the key of a loaded row
+         * @return this builder
+         */
+        public Builder<K, V> withKey(SqlColumn<K> keyColumn, Function<? super V, ? extends K> keyFunction) {
+            this.keyColumn = keyColumn;
+            this.keyFunction = keyFunction;
+            return this;
+        }
+        
+        public Builder<K, V> withRowMapper(RowMapper<V> rowMapper) {
+            this.rowMapper = rowMapper;
+            return this;
+        }
+        
+        /**
+         * Sets the largest number of keys selected at once.  A batch is dispatched as soon as it is full.  The
+         * default is 500.  A larger size is reduced to the in list limit of the executor's dialect.
+         * 
+         * @param maxBatchSize the largest number of keys in one select
+         * @return this builder
+         */
+        public Builder<K, V> withMaxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("The maximum batch size must be at least 1"); //$NON-NLS-1$
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+        
+        /**
+         * Dispatches each batch a fixed time after its first key is requested, on the scheduler.  Full batches
+         * are also executed on the scheduler.  Without a window, batches are dispatched only by
+         * {@link BatchLoader#dispatch()} or when they are full.
+         * 
+         * @param windowMillis the time to collect keys, in milliseconds
+         * @param scheduler the scheduler that dispatches batches
+         * @return this builder
+         */
+        public Builder<K, V> withWindow(long windowMillis, ScheduledExecutorService scheduler) {
+            this.windowMillis = windowMillis;
+            this.scheduler = scheduler;
+            return this;
+        }
+        
+        public BatchLoader<K, V> build() {
+            return new BatchLoader<>(this);
+        }
+    }
+}
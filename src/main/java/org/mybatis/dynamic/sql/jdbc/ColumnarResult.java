@@ -0,0 +1,116 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * The rows of a select statement held column by column in primitive arrays.  No object is created for any
+ * row, so fetching millions of ids or measurements takes little more memory than the values themselves.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class ColumnarResult {
+    private List<PrimitiveColumn> columns;
+    private int rowCount;
+    
+    private ColumnarResult(List<PrimitiveColumn> columns, int rowCount) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.rowCount = rowCount;
+    }
+    
+    public int rowCount() {
+        return rowCount;
+    }
+    
+    public List<PrimitiveColumn> columns() {
+        return columns;
+    }
+    
+    public PrimitiveColumn column(SqlColumn<?> column) {
+        return columns.stream()
+                .filter(c -> c.column() == column)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Column " + column.name() //$NON-NLS-1$
+                        + " was not selected")); //$NON-NLS-1$
+    }
+    
+    public LongColumn longColumn(SqlColumn<?> column) {
+        return column(column, LongColumn.class);
+    }
+    
+    public IntColumn intColumn(SqlColumn<?> column) {
+        return column(column, IntColumn.class);
+    }
+    
+    public DoubleColumn doubleColumn(SqlColumn<?> column) {
+        return column(column, DoubleColumn.class);
+    }
+    
+    private <C extends PrimitiveColumn> C column(SqlColumn<?> column, Class<C> type) {
+        PrimitiveColumn primitiveColumn = column(column);
+        if (!type.isInstance(primitiveColumn)) {
+            throw new IllegalArgumentException("Column " + column.name() //$NON-NLS-1$
+                    + " was fetched as a " + primitiveColumn.getClass().getSimpleName()); //$NON-NLS-1$
+        }
+        return type.cast(primitiveColumn);
+    }
+    
+    /**
+     * Returns a handler that reads the columns of a select statement into a columnar result.  The primitive
+     * representation of every column is chosen here, so an unsupported column fails before the statement runs.
+     * 
+     * @param selectModel the select statement
+     * @param decimalTypes {@link LongColumn} or {@link DoubleColumn} for each selected DECIMAL or NUMERIC column
+     * @return the handler
+     * @throws IllegalArgumentException if a selected column has no primitive representation
+     */
+    static ResultSetHandler<ColumnarResult> handlerFor(SelectModel selectModel,
+            Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> decimalTypes) {
+        return handlerFor(selectModel.columns().collect(Collectors.toList()), decimalTypes);
+    }
+    
+    static ResultSetHandler<ColumnarResult> handlerFor(List<SqlColumn<?>> selectedColumns,
+            Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> decimalTypes) {
+        selectedColumns.forEach(c -> PrimitiveColumn.of(c, decimalTypes.get(c)));
+        return resultSet -> read(resultSet, selectedColumns, decimalTypes);
+    }
+    
+    private static ColumnarResult read(ResultSet resultSet, List<SqlColumn<?>> selectedColumns,
+            Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> decimalTypes) throws SQLException {
+        List<PrimitiveColumn> columns = new ArrayList<>();
+        selectedColumns.forEach(c -> columns.add(PrimitiveColumn.of(c, decimalTypes.get(c))));
+        PrimitiveColumn[] columnArray = columns.toArray(new PrimitiveColumn[columns.size()]);
+        int rowCount = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < columnArray.length; i++) {
+                columnArray[i].append(resultSet, i + 1);
+            }
+            rowCount++;
+        }
+        return new ColumnarResult(columns, rowCount);
+    }
+}
@@ -0,0 +1,456 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.reflection.ReflectionException;
+import org.mybatis.dynamic.sql.reflection.ReflectorFactory;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.util.IgnoreJRERequirement;
+
+/**
+ * Maps rows to beans with setters and result set getters resolved once, when the mapper is built.  Each column
+ * is read by index with the typed getter that matches its setter (<code>getInt</code> for an <code>int</code>
+ * property, <code>getString</code> for a <code>String</code>, and so on) and written with a method handle bound
+ * to the setter.  Mapping a row does no name lookups or reflection, and primitive values are not boxed.
+ * 
+ * <p>Columns are read in the order they are added to the mapper, which must be the order they are selected.
+ * When the mapper reads only some of the selected columns, such as one table of a join, set the index of its
+ * first column with {@link Builder#withFirstIndex(int)}.
+ * Unless a property is named, it is derived from the column alias or name: names that contain underscores or
+ * are all upper case are converted to camel case (<code>animal_name</code> becomes <code>animalName</code>),
+ * other names are used as they are.
+ * 
+ * <p>Setters are not called for null values, so properties keep the value set by the constructor.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <R> the type of bean created for each row
+ */
+public class CompiledRowMapper<R> implements RowMapper<R> {
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    
+    private Class<R> type;
+    private MethodHandle constructor;
+    private ColumnBinding[] bindings;
+    
+    private CompiledRowMapper(Builder<R> builder) {
+        type = builder.type;
+        constructor = compileConstructor(type);
+        bindings = new ColumnBinding[builder.columns.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            bindings[i] = compileBinding(builder.firstIndex + i, builder.columns.get(i), builder.properties.get(i));
+        }
+    }
+    
+    @Override
+    public R mapRow(ResultSet resultSet) throws SQLException {
+        Object row = newInstance();
+        for (ColumnBinding binding : bindings) {
+            binding.apply(resultSet, row);
+        }
+        return type.cast(row);
+    }
+    
+    @IgnoreJRERequirement
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            ReflectionException reflectionException = new ReflectionException(
+                    "Error creating an instance of " + type.getName()); //$NON-NLS-1$
+            reflectionException.initCause(e);
+            throw reflectionException;
+        }
+    }
+    
+    private static MethodHandle compileConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            ReflectionException reflectionException = new ReflectionException("Class " + type.getName() //$NON-NLS-1$
+                    + " does not have an accessible no argument constructor"); //$NON-NLS-1$
+            reflectionException.initCause(e);
+            throw reflectionException;
+        }
+    }
+    
+    private ColumnBinding compileBinding(int index, SqlColumn<?> column, String property) {
+        Method setter = ReflectorFactory.instance().findForClass(type).getSetMethod(property)
+                .orElseThrow(() -> new ReflectionException("There is no setter for property " //$NON-NLS-1$
+                        + property + " on class " + type.getName() //$NON-NLS-1$
+                        + " for column " + column.name())); //$NON-NLS-1$
+        MethodHandle setterHandle;
+        try {
+            setterHandle = MethodHandles.lookup().unreflect(setter);
+        } catch (IllegalAccessException e) {
+            ReflectionException reflectionException = new ReflectionException(
+                    "Cannot access setter for property " + property //$NON-NLS-1$
+                    + " on class " + type.getName()); //$NON-NLS-1$
+            reflectionException.initCause(e);
+            throw reflectionException;
+        }
+        
+        Class<?> propertyType = setter.getParameterTypes()[0];
+        if (propertyType == int.class) {
+            return new IntBinding(index, property, setterHandle);
+        } else if (propertyType == long.class) {
+            return new LongBinding(index, property, setterHandle);
+        } else if (propertyType == double.class) {
+            return new DoubleBinding(index, property, setterHandle);
+        } else if (propertyType == float.class) {
+            return new FloatBinding(index, property, setterHandle);
+        } else if (propertyType == short.class) {
+            return new ShortBinding(index, property, setterHandle);
+        } else if (propertyType == byte.class) {
+            return new ByteBinding(index, property, setterHandle);
+        } else if (propertyType == boolean.class) {
+            return new BooleanBinding(index, property, setterHandle);
+        } else {
+            return new ObjectBinding(index, property, setterHandle.asType(OBJECT_SETTER), readerFor(propertyType));
+        }
+    }
+    
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ColumnReader readerFor(Class<?> propertyType) {
+        if (propertyType == String.class) {
+            return ResultSet::getString;
+        } else if (propertyType == Integer.class || propertyType == int.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getInt(i));
+        } else if (propertyType == Long.class || propertyType == long.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getLong(i));
+        } else if (propertyType == Double.class || propertyType == double.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getDouble(i));
+        } else if (propertyType == Float.class || propertyType == float.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getFloat(i));
+        } else if (propertyType == Short.class || propertyType == short.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getShort(i));
+        } else if (propertyType == Byte.class || propertyType == byte.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getByte(i));
+        } else if (propertyType == Boolean.class || propertyType == boolean.class) {
+            return (rs, i) -> nullIfWasNull(rs, rs.getBoolean(i));
+        } else if (propertyType == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        } else if (propertyType == byte[].class) {
+            return ResultSet::getBytes;
+        } else if (propertyType == Timestamp.class || propertyType == java.util.Date.class) {
+            return ResultSet::getTimestamp;
+        } else if (propertyType == java.sql.Date.class) {
+            return ResultSet::getDate;
+        } else if (propertyType == Time.class) {
+            return ResultSet::getTime;
+        } else if (propertyType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) propertyType;
+            return (rs, i) -> {
+                String name = rs.getString(i);
+                return name == null ? null : Enum.valueOf(enumType, name);
+            };
+        } else if (propertyType == Object.class) {
+            return ResultSet::getObject;
+        } else {
+            return (rs, i) -> rs.getObject(i, propertyType);
+        }
+    }
+    
+    private static Object nullIfWasNull(ResultSet resultSet, Object value) throws SQLException {
+        return resultSet.wasNull() ? null : value;
+    }
+    
+    private static ReflectionException setterError(String property, Throwable cause) {
+        ReflectionException reflectionException = new ReflectionException("Error setting property " //$NON-NLS-1$
+                + property);
+        reflectionException.initCause(cause);
+        return reflectionException;
+    }
+    
+    /**
+     * Returns the property a column is mapped to when no property is named.
+     * 
+     * @param column the column
+     * @return the property name
+     */
+    static String propertyFor(SqlColumn<?> column) {
+        String name = column.alias().orElse(column.name());
+        if (name.indexOf('_') < 0 && !name.equals(name.toUpperCase(Locale.ENGLISH))) {
+            return name;
+        }
+        
+        StringBuilder property = new StringBuilder(name.length());
+        boolean upperNext = false;
+        for (char c : name.toLowerCase(Locale.ENGLISH).toCharArray()) {
+            if (c == '_') {
+                upperNext = property.length() > 0;
+            } else {
+                property.append(upperNext ? Character.toUpperCase(c) : c);
+                upperNext = false;
+            }
+        }
+        return property.toString();
+    }
+    
+    public static <R> CompiledRowMapper<R> of(Class<R> type, SqlColumn<?>...columns) {
+        return of(type, Arrays.asList(columns));
+    }
+    
+    public static <R> CompiledRowMapper<R> of(Class<R> type, List<SqlColumn<?>> columns) {
+        Builder<R> builder = new Builder<>(type);
+        columns.forEach(builder::withColumn);
+        return builder.build();
+    }
+    
+    /**
+     * Creates a mapper for the columns selected by a select statement.
+     * 
+     * @param type the type of bean created for each row
+     * @param selectModel the select statement
+     * @param <R> the type of bean created for each row
+     * @return the mapper
+     */
+    public static <R> CompiledRowMapper<R> of(Class<R> type, SelectModel selectModel) {
+        return of(type, selectModel.columns().collect(Collectors.toList()));
+    }
+    
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet resultSet, int index) throws SQLException;
+    }
+    
+    private abstract static class ColumnBinding {
+        protected int index;
+        protected String property;
+        protected MethodHandle setter;
+        
+        protected ColumnBinding(int index, String property, MethodHandle setter) {
+            this.index = index;
+            this.property = property;
+            this.setter = setter;
+        }
+        
+        abstract void apply(ResultSet resultSet, Object row) throws SQLException;
+    }
+    
+    private static class IntBinding extends ColumnBinding {
+        private IntBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, int.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            int value = resultSet.getInt(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class LongBinding extends ColumnBinding {
+        private LongBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, long.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            long value = resultSet.getLong(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class DoubleBinding extends ColumnBinding {
+        private DoubleBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, double.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            double value = resultSet.getDouble(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class FloatBinding extends ColumnBinding {
+        private FloatBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, float.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            float value = resultSet.getFloat(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class ShortBinding extends ColumnBinding {
+        private ShortBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, short.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            short value = resultSet.getShort(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class ByteBinding extends ColumnBinding {
+        private ByteBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, byte.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            byte value = resultSet.getByte(index);
+            if (value != 0 || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class BooleanBinding extends ColumnBinding {
+        private BooleanBinding(int index, String property, MethodHandle setter) {
+            super(index, property, setter.asType(MethodType.methodType(void.class, Object.class, boolean.class)));
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            boolean value = resultSet.getBoolean(index);
+            if (value || !resultSet.wasNull()) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    private static class ObjectBinding extends ColumnBinding {
+        private ColumnReader reader;
+        
+        private ObjectBinding(int index, String property, MethodHandle setter, ColumnReader reader) {
+            super(index, property, setter);
+            this.reader = reader;
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        void apply(ResultSet resultSet, Object row) throws SQLException {
+            Object value = reader.read(resultSet, index);
+            if (value != null) {
+                try {
+                    setter.invokeExact(row, value);
+                } catch (Throwable e) {
+                    throw setterError(property, e);
+                }
+            }
+        }
+    }
+    
+    public static class Builder<R> {
+        private Class<R> type;
+        private List<SqlColumn<?>> columns = new ArrayList<>();
+        private List<String> properties = new ArrayList<>();
+        private int firstIndex = 1;
+        
+        public Builder(Class<R> type) {
+            this.type = type;
+        }
+        
+        /**
+         * Sets the result set index of the first column.  The default is 1.
+         * 
+         * @param firstIndex the index of the first column, starting at 1
+         * @return this builder
+         */
+        public Builder<R> withFirstIndex(int firstIndex) {
+            this.firstIndex = firstIndex;
+            return this;
+        }
+        
+        public Builder<R> withColumn(SqlColumn<?> column) {
+            return withColumn(column, propertyFor(column));
+        }
+        
+        public Builder<R> withColumn(SqlColumn<?> column, String property) {
+            columns.add(column);
+            properties.add(property);
+            return this;
+        }
+        
+        public CompiledRowMapper<R> build() {
+            return new CompiledRowMapper<>(this);
+        }
+    }
+}
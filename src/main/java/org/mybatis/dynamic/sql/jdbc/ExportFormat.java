@@ -0,0 +1,36 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+/**
+ * The formats results can be exported in.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public enum ExportFormat {
+    /**
+     * Comma separated values as described in RFC 4180.  Values are quoted only when they contain the delimiter,
+     * a quote or a line break.  Null values are empty.
+     */
+    CSV,
+    
+    /**
+     * One JSON object per line, keyed by column name.  Numbers and booleans are written as JSON numbers and
+     * booleans, other values as strings.
+     */
+    JSON_LINES
+}
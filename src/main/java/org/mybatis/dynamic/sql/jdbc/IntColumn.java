@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * A selected column held as <code>int</code> values.  Null values are held as zero and reported by
+ * {@link #isNull(int)}.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class IntColumn extends PrimitiveColumn {
+    private int[] values = new int[INITIAL_CAPACITY];
+    
+    IntColumn(SqlColumn<?> column) {
+        super(column);
+    }
+    
+    public int get(int row) {
+        checkRow(row);
+        return values[row];
+    }
+    
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+    
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+    
+    @Override
+    void append(ResultSet resultSet, int index) throws SQLException {
+        int value = resultSet.getInt(index);
+        if (value == 0 && resultSet.wasNull()) {
+            markNull(size);
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(size));
+        }
+        values[size++] = value;
+    }
+}
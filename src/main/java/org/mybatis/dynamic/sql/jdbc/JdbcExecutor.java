@@ -0,0 +1,268 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+/**
+ * Executes statements with plain JDBC, without MyBatis or Spring.  Models are rendered with
+ * {@link PositionalStatement}, so parameters are bound in placeholder order with the JDBC type of their column.
+ * 
+ * <p>Prepared statements are cached for each session, not for each physical connection - a pooled data source
+ * hands out a new logical connection every time, and closing it closes its statements.  Open a {@link JdbcSession}
+ * to execute several statements on one connection and reuse its cached statements.  The methods of this class
+ * open a session for each call, so their statements are never reused unless the executor is built with
+ * {@link Builder#withIdleSessions(int)}.  Idle sessions keep their connections and cached statements between
+ * calls, so the executor must then be closed.
+ * 
+ * <p>This class is thread safe.  Sessions are not.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class JdbcExecutor implements AutoCloseable {
+    private DataSource dataSource;
+    private Dialect dialect;
+    private int statementCacheSize;
+    private int fetchSize;
+    private int maxIdleSessions;
+    private BlockingDeque<JdbcSession> idleSessions;
+    
+    private JdbcExecutor(Builder builder) {
+        dataSource = builder.dataSource;
+        dialect = builder.dialect;
+        statementCacheSize = builder.statementCacheSize;
+        fetchSize = builder.fetchSize;
+        maxIdleSessions = builder.maxIdleSessions;
+        idleSessions = new LinkedBlockingDeque<>(Math.max(1, maxIdleSessions));
+    }
+    
+    /**
+     * Opens a session on a new connection from the data source.  The session must be closed.
+     * 
+     * @return the session
+     * @throws SQLException if a connection cannot be opened
+     */
+    public JdbcSession openSession() throws SQLException {
+        return new JdbcSession(dataSource.getConnection(), dialect, statementCacheSize, fetchSize);
+    }
+    
+    Dialect dialect() {
+        return dialect;
+    }
+    
+    public <R> List<R> selectList(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        return execute(session -> session.selectList(selectModel, rowMapper));
+    }
+    
+    public <R> Optional<R> selectOne(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        return execute(session -> session.selectOne(selectModel, rowMapper));
+    }
+    
+    public ColumnarResult selectColumnar(SelectModel selectModel) throws SQLException {
+        return execute(session -> session.selectColumnar(selectModel));
+    }
+    
+    public ColumnarResult selectColumnar(SelectModel selectModel,
+            Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> decimalTypes) throws SQLException {
+        return execute(session -> session.selectColumnar(selectModel, decimalTypes));
+    }
+    
+    public <P> List<P> selectGraph(SelectModel selectModel, ResultAssembler<P> assembler) throws SQLException {
+        return execute(session -> session.selectGraph(selectModel, assembler));
+    }
+    
+    public <P> long selectGraph(SelectModel selectModel, ResultAssembler<P> assembler, Consumer<? super P> consumer)
+            throws SQLException {
+        return execute(session -> session.selectGraph(selectModel, assembler, consumer));
+    }
+    
+    public long export(SelectModel selectModel, ResultExporter exporter, Writer writer)
+            throws SQLException, IOException {
+        return execute(session -> session.export(selectModel, exporter, writer));
+    }
+    
+    public long export(SelectModel selectModel, ResultExporter exporter, OutputStream outputStream)
+            throws SQLException, IOException {
+        return execute(session -> session.export(selectModel, exporter, outputStream));
+    }
+    
+    public int insert(InsertModel<?> insertModel) throws SQLException {
+        return execute(session -> session.insert(insertModel));
+    }
+    
+    public int update(UpdateModel updateModel) throws SQLException {
+        return execute(session -> session.update(updateModel));
+    }
+    
+    public int delete(DeleteModel deleteModel) throws SQLException {
+        return execute(session -> session.delete(deleteModel));
+    }
+    
+    /**
+     * Closes the idle sessions.  Close the executor after its last call - a call that completes later keeps
+     * its session open again.
+     * 
+     * @throws SQLException if a session cannot be closed
+     */
+    @Override
+    public void close() throws SQLException {
+        SQLException exception = null;
+        for (JdbcSession session = idleSessions.pollFirst(); session != null; session = idleSessions.pollFirst()) {
+            try {
+                session.close();
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        
+        if (exception != null) {
+            throw exception;
+        }
+    }
+    
+    /**
+     * Runs a call with an idle session, or a new one when none is idle, and keeps the session for the next call
+     * if the call completes.
+     */
+    <R, X extends Exception> R execute(SessionCall<R, X> call) throws SQLException, X {
+        JdbcSession session = borrowSession();
+        boolean completed = false;
+        try {
+            R result = call.apply(session);
+            completed = true;
+            return result;
+        } finally {
+            if (completed) {
+                returnSession(session);
+            } else {
+                session.close();
+            }
+        }
+    }
+    
+    private JdbcSession borrowSession() throws SQLException {
+        for (JdbcSession session = idleSessions.pollFirst(); session != null; session = idleSessions.pollFirst()) {
+            if (!session.connection().isClosed()) {
+                return session;
+            }
+            session.close();
+        }
+        return openSession();
+    }
+    
+    private void returnSession(JdbcSession session) throws SQLException {
+        boolean kept = false;
+        try {
+            if (maxIdleSessions > 0) {
+                // discard uncommitted work, as closing the connection would
+                if (!session.connection().getAutoCommit()) {
+                    session.rollback();
+                }
+                kept = idleSessions.offerFirst(session);
+            }
+        } finally {
+            if (!kept) {
+                session.close();
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    interface SessionCall<R, X extends Exception> {
+        R apply(JdbcSession session) throws SQLException, X;
+    }
+    
+    public static class Builder {
+        private DataSource dataSource;
+        private Dialect dialect = Dialect.GENERIC;
+        private int statementCacheSize = 50;
+        private int fetchSize;
+        private int maxIdleSessions;
+        
+        public Builder(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+        
+        public Builder withDialect(Dialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+        
+        /**
+         * Sets the number of prepared statements cached for each connection.  Zero disables the cache.
+         * 
+         * @param statementCacheSize the number of statements to cache
+         * @return this builder
+         */
+        public Builder withStatementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+        
+        /**
+         * Sets the number of rows fetched from the database at a time by queries.  Large results are streamed
+         * rather than read into memory at once only with a fetch size, and with some drivers (PostgreSQL, for
+         * example) only when auto commit is off.  Zero leaves the driver default.
+         * 
+         * @param fetchSize the number of rows to fetch at a time
+         * @return this builder
+         */
+        public Builder withFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+        
+        /**
+         * Sets the number of sessions kept open between calls to the methods of the executor, so their prepared
+         * statements are reused.  Each idle session holds a connection from the data source until the executor
+         * is closed.  Zero, the default, closes the session after every call.
+         * 
+         * @param maxIdleSessions the number of sessions to keep open
+         * @return this builder
+         */
+        public Builder withIdleSessions(int maxIdleSessions) {
+            this.maxIdleSessions = maxIdleSessions;
+            return this;
+        }
+        
+        public JdbcExecutor build() {
+            return new JdbcExecutor(this);
+        }
+    }
+}
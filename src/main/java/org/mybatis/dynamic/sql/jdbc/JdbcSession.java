@@ -0,0 +1,297 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+/**
+ * Executes statements on one connection.  Prepared statements are cached by statement text, so a statement
+ * executed again in the same session is bound and executed without being prepared again.
+ * 
+ * <p>A session is not thread safe.  Closing the session closes the cached statements and the connection.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class JdbcSession implements AutoCloseable {
+    private Connection connection;
+    private Dialect dialect;
+    private int fetchSize;
+    private StatementCache statementCache;
+    
+    JdbcSession(Connection connection, Dialect dialect, int statementCacheSize, int fetchSize) {
+        this.connection = connection;
+        this.dialect = dialect;
+        this.fetchSize = fetchSize;
+        this.statementCache = new StatementCache(connection, statementCacheSize);
+    }
+    
+    public <R> List<R> selectList(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        return query(PositionalStatement.of(selectModel, dialect), rowMapper);
+    }
+    
+    /**
+     * Selects at most one row.
+     * 
+     * @param selectModel the select statement
+     * @param rowMapper the mapper for the row
+     * @param <R> the type of the mapped row
+     * @return the mapped row, or empty if no row was selected
+     * @throws SQLException if the statement fails
+     * @throws IllegalStateException if more than one row was selected
+     */
+    public <R> Optional<R> selectOne(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        List<R> rows = selectList(selectModel, rowMapper);
+        if (rows.size() > 1) {
+            throw new IllegalStateException("Expected at most one row, but " + rows.size() //$NON-NLS-1$
+                    + " rows were selected"); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+    
+    /**
+     * Selects columns into primitive arrays, without creating an object for any row.  Every selected column
+     * must be a numeric type other than DECIMAL or NUMERIC.
+     * 
+     * @param selectModel the select statement
+     * @return the selected values, column by column
+     * @throws SQLException if the statement fails
+     * @throws IllegalArgumentException if a selected column is not a numeric type
+     */
+    public ColumnarResult selectColumnar(SelectModel selectModel) throws SQLException {
+        return selectColumnar(selectModel, Collections.emptyMap());
+    }
+    
+    /**
+     * Selects columns into primitive arrays, without creating an object for any row.  Every selected column
+     * must be a numeric type, and every DECIMAL or NUMERIC column must be given the primitive column type it is
+     * read into: {@link LongColumn} when its values are integral, {@link DoubleColumn} when a rounded value is
+     * acceptable.  Values are converted by the driver, so a fraction read into a {@link LongColumn} is lost.
+     * 
+     * @param selectModel the select statement
+     * @param decimalTypes the primitive column type of each selected DECIMAL or NUMERIC column
+     * @return the selected values, column by column
+     * @throws SQLException if the statement fails
+     * @throws IllegalArgumentException if a selected column is not a numeric type, or is a DECIMAL or NUMERIC
+     *     column without a type, before the statement is executed
+     */
+    public ColumnarResult selectColumnar(SelectModel selectModel,
+            Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> decimalTypes) throws SQLException {
+        return queryResultSet(PositionalStatement.of(selectModel, dialect),
+                ColumnarResult.handlerFor(selectModel, decimalTypes));
+    }
+    
+    /**
+     * Selects parents with child collections from a join, with rows in any order.
+     * 
+     * @param selectModel the select statement
+     * @param assembler builds parents and children from the rows
+     * @param <P> the type of the parents
+     * @return the parents, in the order they are first seen
+     * @throws SQLException if the statement fails
+     */
+    public <P> List<P> selectGraph(SelectModel selectModel, ResultAssembler<P> assembler) throws SQLException {
+        return queryResultSet(PositionalStatement.of(selectModel, dialect),
+                assembler.handlerFor(selectModel.columns().collect(Collectors.toList())));
+    }
+    
+    /**
+     * Selects parents with child collections from a join, passing each parent to a consumer as soon as all of
+     * its rows are read.  Rows must be ordered by the parent key.  Set a fetch size on the executor so that the
+     * driver streams rows rather than reading the whole result first.
+     * 
+     * @param selectModel the select statement
+     * @param assembler builds parents and children from the rows
+     * @param consumer the consumer of parents
+     * @param <P> the type of the parents
+     * @return the number of parents passed to the consumer
+     * @throws SQLException if the statement fails
+     */
+    public <P> long selectGraph(SelectModel selectModel, ResultAssembler<P> assembler, Consumer<? super P> consumer)
+            throws SQLException {
+        return queryResultSet(PositionalStatement.of(selectModel, dialect),
+                assembler.handlerFor(selectModel.columns().collect(Collectors.toList()), consumer));
+    }
+    
+    /**
+     * Writes the selected rows to a writer as they are fetched.  Set a fetch size on the executor so that the
+     * driver streams rows rather than reading the whole result first.  The writer is flushed but not closed.
+     * 
+     * @param selectModel the select statement
+     * @param exporter the format to write
+     * @param writer the writer
+     * @return the number of rows written
+     * @throws SQLException if the statement fails
+     * @throws IOException if writing fails
+     */
+    public long export(SelectModel selectModel, ResultExporter exporter, Writer writer)
+            throws SQLException, IOException {
+        List<SqlColumn<?>> columns = selectModel.columns().collect(Collectors.toList());
+        try {
+            long rows = queryResultSet(PositionalStatement.of(selectModel, dialect),
+                    exporter.handlerFor(columns, writer));
+            writer.flush();
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * Writes the selected rows to an output stream, encoded as UTF-8.  The stream is flushed but not closed.
+     * 
+     * @param selectModel the select statement
+     * @param exporter the format to write
+     * @param outputStream the output stream
+     * @return the number of rows written
+     * @throws SQLException if the statement fails
+     * @throws IOException if writing fails
+     */
+    public long export(SelectModel selectModel, ResultExporter exporter, OutputStream outputStream)
+            throws SQLException, IOException {
+        return export(selectModel, exporter,
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+    
+    public int insert(InsertModel<?> insertModel) throws SQLException {
+        return execute(PositionalStatement.of(insertModel, dialect));
+    }
+    
+    public int update(UpdateModel updateModel) throws SQLException {
+        return execute(PositionalStatement.of(updateModel, dialect));
+    }
+    
+    public int delete(DeleteModel deleteModel) throws SQLException {
+        return execute(PositionalStatement.of(deleteModel, dialect));
+    }
+    
+    public <R> List<R> query(PositionalStatement statement, RowMapper<R> rowMapper) throws SQLException {
+        return queryResultSet(statement, resultSet -> {
+            List<R> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                rows.add(rowMapper.mapRow(resultSet));
+            }
+            return rows;
+        });
+    }
+    
+    /**
+     * Executes a query and passes the whole result set to a handler.  If a fetch size is configured, it is set
+     * on the statement, so drivers that support it stream rows to the handler rather than reading them all
+     * first.
+     * 
+     * @param statement the query
+     * @param handler the handler of the result set
+     * @param <R> the type of result
+     * @return the result of the handler
+     * @throws SQLException if the statement fails
+     */
+    public <R> R queryResultSet(PositionalStatement statement, ResultSetHandler<R> handler) throws SQLException {
+        PreparedStatement preparedStatement = prepare(statement);
+        try {
+            if (fetchSize > 0) {
+                preparedStatement.setFetchSize(fetchSize);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return handler.handle(resultSet);
+            }
+        } finally {
+            statementCache.release(preparedStatement);
+        }
+    }
+    
+    public int execute(PositionalStatement statement) throws SQLException {
+        PreparedStatement preparedStatement = prepare(statement);
+        try {
+            return preparedStatement.executeUpdate();
+        } finally {
+            statementCache.release(preparedStatement);
+        }
+    }
+    
+    private PreparedStatement prepare(PositionalStatement statement) throws SQLException {
+        PreparedStatement preparedStatement = statementCache.prepare(statement.statement());
+        try {
+            statement.bind(preparedStatement);
+            return preparedStatement;
+        } catch (SQLException | RuntimeException e) {
+            statementCache.release(preparedStatement);
+            throw e;
+        }
+    }
+    
+    public void commit() throws SQLException {
+        connection.commit();
+    }
+    
+    public void rollback() throws SQLException {
+        connection.rollback();
+    }
+    
+    /**
+     * Returns the connection of this session, for work this class does not support.  Do not close it.
+     * 
+     * @return the connection
+     */
+    public Connection connection() {
+        return connection;
+    }
+    
+    public int cachedStatements() {
+        return statementCache.size();
+    }
+    
+    public long statementCacheHits() {
+        return statementCache.hits();
+    }
+    
+    public long statementCacheMisses() {
+        return statementCache.misses();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            statementCache.close();
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+/**
+ * Receives progress reports from a {@link ParallelBulkLoader}.  Methods are called on the thread that loads
+ * the partition, so implementations must be thread safe.
+ * 
+ * @author Jeff Butler
+ *
+ */
+@FunctionalInterface
+public interface LoadListener {
+    
+    /**
+     * Called after each batch in a partition is committed.
+     * 
+     * @param partition the index of the partition
+     * @param rowsWritten the total rows committed in the partition so far
+     */
+    void batchCommitted(int partition, long rowsWritten);
+    
+    /**
+     * Called when a partition stops because of an error.  Rows committed before the error remain in the database.
+     * 
+     * @param partition the index of the partition
+     * @param rowsWritten the total rows committed in the partition before the error
+     * @param exception the error
+     */
+    default void partitionFailed(int partition, long rowsWritten, Exception exception) {
+        // do nothing by default
+    }
+}
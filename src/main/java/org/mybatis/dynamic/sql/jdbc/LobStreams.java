@@ -0,0 +1,104 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Streams large column values out of a result set, so LOBs can be copied to a file or a response
+ * without being read into a <code>byte[]</code> or <code>String</code>.
+ * 
+ * <p>Drivers only stream values for result sets that are read forward.  Copy the value before moving
+ * to the next row, and do not read the same column twice.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public interface LobStreams {
+    int BUFFER_SIZE = 8192;
+
+    /**
+     * Copies a binary column of the current row to an output stream.
+     * 
+     * @param resultSet the result set, positioned on a row
+     * @param columnLabel the label of the column
+     * @param out the stream to write to.  The stream is not closed.
+     * @return the number of bytes copied, or -1 if the value is null
+     * @throws SQLException if the value cannot be read
+     * @throws IOException if the value cannot be written
+     */
+    static long copyBinary(ResultSet resultSet, String columnLabel, OutputStream out)
+            throws SQLException, IOException {
+        try (InputStream in = resultSet.getBinaryStream(columnLabel)) {
+            if (in == null) {
+                return -1;
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long count = 0;
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+                count += n;
+            }
+            return count;
+        }
+    }
+    
+    static long copyBinary(ResultSet resultSet, SqlColumn<?> column, OutputStream out)
+            throws SQLException, IOException {
+        return copyBinary(resultSet, column.name(), out);
+    }
+    
+    /**
+     * Copies a character column of the current row to a writer.
+     * 
+     * @param resultSet the result set, positioned on a row
+     * @param columnLabel the label of the column
+     * @param out the writer to write to.  The writer is not closed.
+     * @return the number of characters copied, or -1 if the value is null
+     * @throws SQLException if the value cannot be read
+     * @throws IOException if the value cannot be written
+     */
+    static long copyCharacters(ResultSet resultSet, String columnLabel, Writer out)
+            throws SQLException, IOException {
+        try (Reader in = resultSet.getCharacterStream(columnLabel)) {
+            if (in == null) {
+                return -1;
+            }
+            char[] buffer = new char[BUFFER_SIZE];
+            long count = 0;
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+                count += n;
+            }
+            return count;
+        }
+    }
+    
+    static long copyCharacters(ResultSet resultSet, SqlColumn<?> column, Writer out)
+            throws SQLException, IOException {
+        return copyCharacters(resultSet, column.name(), out);
+    }
+}
@@ -0,0 +1,287 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.AbstractMultiRecordInsertBuilder;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+import org.mybatis.dynamic.sql.util.InsertMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * Loads records into a table over several connections at once.  The records are split into partitions, and each
+ * partition is written by one thread on its own connection from the data source.  Within a partition, rows are
+ * sent as JDBC batches and committed after every batch, so an error loses at most one batch.
+ * 
+ * <p>With an adaptive batch size, all partitions share one {@link AdaptiveBatchSize} and each batch is sized from
+ * its current decision.  The time to execute and commit each batch is recorded.
+ * 
+ * <p>Ids from sequence blocks are assigned to each batch before it is bound.  If a key order is declared, each batch
+ * is then sorted by key.  Partitions split by key range therefore write in key order throughout.
+ * 
+ * <p>Properties that hold a {@link org.mybatis.dynamic.sql.util.LobSource} are bound as streams of known length.
+ * 
+ * <p>A partition that fails does not stop the other partitions.  The result of every partition, including the
+ * rows committed before any error, is returned from the load methods.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class ParallelBulkLoader<T> {
+    private static final RenderingStrategy JDBC_PLACEHOLDERS = new RenderingStrategy() {
+        @Override
+        public String getFormattedJdbcPlaceholder(SqlColumn<?> column, String prefix, String parameterName) {
+            return "?"; //$NON-NLS-1$
+        }
+    };
+    
+    private DataSource dataSource;
+    private String insertStatement;
+    private List<PropertyMapping> boundMappings;
+    private int threads;
+    private int batchSize;
+    private Optional<AdaptiveBatchSize> adaptiveBatchSize;
+    private LoadListener listener;
+    private UnaryOperator<List<T>> recordPreparer;
+    
+    private ParallelBulkLoader(Builder<T> builder, List<InsertMapping> columnMappings,
+            UnaryOperator<List<T>> recordPreparer) {
+        dataSource = builder.dataSource;
+        threads = builder.threads;
+        batchSize = builder.batchSize;
+        adaptiveBatchSize = builder.adaptiveBatchSize;
+        listener = builder.listener;
+        this.recordPreparer = recordPreparer;
+        
+        insertStatement = new BatchInsertModel.Builder<T>(builder.table)
+                .withRecords(Collections.emptyList())
+                .withColumnMappings(columnMappings)
+                .build()
+                .render(JDBC_PLACEHOLDERS)
+                .getFullInsertStatement();
+        boundMappings = columnMappings.stream()
+                .filter(PropertyMapping.class::isInstance)
+                .map(PropertyMapping.class::cast)
+                .collect(Collectors.toList());
+    }
+    
+    public String insertStatement() {
+        return insertStatement;
+    }
+    
+    /**
+     * Splits the records into one contiguous partition per thread and loads them.
+     * 
+     * @param records the records to load
+     * @return the result of each partition, in partition order
+     */
+    public List<PartitionResult> load(List<T> records) {
+        int partitionCount = Math.max(1, Math.min(threads, records.size()));
+        int partitionSize = (records.size() + partitionCount - 1) / partitionCount;
+        return loadPartitions(IntStream.range(0, partitionCount)
+                .mapToObj(i -> records.subList(Math.min(i * partitionSize, records.size()),
+                        Math.min((i + 1) * partitionSize, records.size())).stream())
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Loads partitions that the caller has already split - for example one stream per input file or per key range.
+     * At most "threads" partitions are loaded at the same time.
+     * 
+     * @param partitions the partitions to load
+     * @return the result of each partition, in partition order
+     */
+    public List<PartitionResult> loadPartitions(List<? extends Stream<T>> partitions) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, partitions.size())));
+        try {
+            List<Future<PartitionResult>> futures = IntStream.range(0, partitions.size())
+                    .mapToObj(i -> executor.submit(() -> loadPartition(i, partitions.get(i))))
+                    .collect(Collectors.toList());
+            return futures.stream()
+                    .map(this::awaitResult)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private int batchSize() {
+        return adaptiveBatchSize.map(AdaptiveBatchSize::batchSize).orElse(batchSize);
+    }
+    
+    private PartitionResult awaitResult(Future<PartitionResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for partitions to load", e); //$NON-NLS-1$
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected error loading a partition", e.getCause()); //$NON-NLS-1$
+        }
+    }
+    
+    private PartitionResult loadPartition(int partition, Stream<T> records) {
+        PartitionWriter writer = new PartitionWriter(partition);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(insertStatement)) {
+                writer.write(connection, preparedStatement, records.iterator());
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            listener.partitionFailed(partition, writer.rowsWritten, e);
+            return PartitionResult.failed(partition, writer.rowsWritten, e);
+        }
+        return PartitionResult.completed(partition, writer.rowsWritten);
+    }
+    
+    /**
+     * Writes one partition.  The parameter buffer is reused for every row in the partition.
+     */
+    private class PartitionWriter {
+        private int partition;
+        private Object[] parameters = new Object[boundMappings.size()];
+        private long rowsWritten;
+        
+        private PartitionWriter(int partition) {
+            this.partition = partition;
+        }
+        
+        private void write(Connection connection, PreparedStatement preparedStatement, Iterator<T> records)
+                throws SQLException {
+            List<T> batch = new ArrayList<>();
+            while (records.hasNext()) {
+                batch.add(records.next());
+                if (batch.size() >= batchSize()) {
+                    writeBatch(connection, preparedStatement, batch);
+                    batch.clear();
+                }
+            }
+            
+            if (!batch.isEmpty()) {
+                writeBatch(connection, preparedStatement, batch);
+            }
+        }
+        
+        private void writeBatch(Connection connection, PreparedStatement preparedStatement, List<T> batch)
+                throws SQLException {
+            for (T record : recordPreparer.apply(batch)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    parameters[i] = BeanPropertyGetter.instance().getPropertyValue(record,
+                            boundMappings.get(i).property());
+                }
+                bind(preparedStatement);
+                preparedStatement.addBatch();
+            }
+            commit(connection, preparedStatement, batch.size());
+        }
+        
+        private void bind(PreparedStatement preparedStatement) throws SQLException {
+            for (int i = 0; i < parameters.length; i++) {
+                PositionalStatement.bind(preparedStatement, i + 1, parameters[i],
+                        boundMappings.get(i).column().jdbcType());
+            }
+        }
+        
+        private void commit(Connection connection, PreparedStatement preparedStatement, int pendingRows)
+                throws SQLException {
+            long start = System.nanoTime();
+            preparedStatement.executeBatch();
+            connection.commit();
+            adaptiveBatchSize.ifPresent(a -> a.record(pendingRows, System.nanoTime() - start));
+            rowsWritten += pendingRows;
+            listener.batchCommitted(partition, rowsWritten);
+        }
+    }
+    
+    public static class Builder<T> extends AbstractMultiRecordInsertBuilder<Builder<T>> {
+        private DataSource dataSource;
+        private SqlTable table;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int batchSize = 1000;
+        private Optional<AdaptiveBatchSize> adaptiveBatchSize = Optional.empty();
+        private LoadListener listener = (partition, rowsWritten) -> { };
+        
+        public Builder(DataSource dataSource, SqlTable table) {
+            this.dataSource = dataSource;
+            this.table = table;
+        }
+        
+        /**
+         * Sets the number of partitions loaded at the same time, which is also the number of connections used.
+         * 
+         * @param threads the number of threads
+         * @return this builder
+         */
+        public Builder<T> withThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+        
+        public Builder<T> withBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+        
+        public Builder<T> withAdaptiveBatchSize(AdaptiveBatchSize adaptiveBatchSize) {
+            this.adaptiveBatchSize = Optional.of(adaptiveBatchSize);
+            return this;
+        }
+        
+        public Builder<T> withListener(LoadListener listener) {
+            this.listener = listener;
+            return this;
+        }
+        
+        public ParallelBulkLoader<T> build() {
+            return new ParallelBulkLoader<>(this, new ArrayList<>(columnMappings()), recordPreparer());
+        }
+        
+        @Override
+        protected Builder<T> getThis() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.util.Optional;
+
+/**
+ * The outcome of loading one partition with a {@link ParallelBulkLoader}.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class PartitionResult {
+    private int partition;
+    private long rowsWritten;
+    private Optional<Exception> error;
+    
+    private PartitionResult(int partition, long rowsWritten, Optional<Exception> error) {
+        this.partition = partition;
+        this.rowsWritten = rowsWritten;
+        this.error = error;
+    }
+    
+    public int partition() {
+        return partition;
+    }
+    
+    public long rowsWritten() {
+        return rowsWritten;
+    }
+    
+    public Optional<Exception> error() {
+        return error;
+    }
+    
+    public boolean isSuccessful() {
+        return !error.isPresent();
+    }
+    
+    public static PartitionResult completed(int partition, long rowsWritten) {
+        return new PartitionResult(partition, rowsWritten, Optional.empty());
+    }
+    
+    public static PartitionResult failed(int partition, long rowsWritten, Exception error) {
+        return new PartitionResult(partition, rowsWritten, Optional.of(error));
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+
+/**
+ * A rendering strategy for plain JDBC placeholders.  Renderers do not always ask for placeholders in the order
+ * they appear in the statement (the where clause of an update is rendered before the set clause, for example),
+ * so each placeholder is first rendered as a numbered marker.  The markers are then replaced with <code>?</code>
+ * in one pass over the statement, collecting the parameters in statement order.
+ * 
+ * <p>This strategy records the placeholders it renders, so a new instance must be used for every statement.
+ * 
+ * @author Jeff Butler
+ *
+ */
+class PositionalRenderingStrategy extends RenderingStrategy {
+    private static final char MARKER = '\u0000';
+    
+    private List<Placeholder> placeholders = new ArrayList<>();
+    
+    @Override
+    public String getFormattedJdbcPlaceholder(SqlColumn<?> column, String prefix, String parameterName) {
+        placeholders.add(new Placeholder(column.jdbcType(), prefix, parameterName));
+        return MARKER + Integer.toString(placeholders.size() - 1) + MARKER;
+    }
+    
+    PositionalStatement toStatement(String renderedStatement, Map<String, Object> parameters, Object record) {
+        StringBuilder statement = new StringBuilder(renderedStatement.length());
+        List<Object> values = new ArrayList<>();
+        List<JDBCType> jdbcTypes = new ArrayList<>();
+        
+        int position = 0;
+        int start;
+        while ((start = renderedStatement.indexOf(MARKER, position)) >= 0) {
+            int end = renderedStatement.indexOf(MARKER, start + 1);
+            Placeholder placeholder = placeholders.get(Integer.parseInt(renderedStatement.substring(start + 1, end)));
+            statement.append(renderedStatement, position, start).append('?');
+            values.add(placeholder.value(parameters, record));
+            jdbcTypes.add(placeholder.jdbcType);
+            position = end + 1;
+        }
+        statement.append(renderedStatement, position, renderedStatement.length());
+        
+        return new PositionalStatement(statement.toString(), values.toArray(),
+                jdbcTypes.toArray(new JDBCType[jdbcTypes.size()]));
+    }
+    
+    private static class Placeholder {
+        private JDBCType jdbcType;
+        private String prefix;
+        private String parameterName;
+        
+        private Placeholder(JDBCType jdbcType, String prefix, String parameterName) {
+            this.jdbcType = jdbcType;
+            this.prefix = prefix;
+            this.parameterName = parameterName;
+        }
+        
+        private Object value(Map<String, Object> parameters, Object record) {
+            switch (prefix) {
+            case "parameters": //$NON-NLS-1$
+                return parameters.get(parameterName);
+            case "record": //$NON-NLS-1$
+                return BeanPropertyGetter.instance().getPropertyValue(record, parameterName);
+            default:
+                throw new IllegalStateException("Unknown parameter prefix " + prefix); //$NON-NLS-1$
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectSupport;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectSupport;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+import org.mybatis.dynamic.sql.upsert.UpsertModel;
+import org.mybatis.dynamic.sql.upsert.render.UpsertSupport;
+import org.mybatis.dynamic.sql.util.LobSource;
+
+/**
+ * A statement rendered with plain JDBC <code>?</code> placeholders, with the parameter values and
+ * their JDBC types in placeholder order.  A prepared statement can be bound directly from this object,
+ * without looking parameters up by name or parsing the statement.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class PositionalStatement {
+    private static final Map<String, Object> NO_PARAMETERS = Collections.emptyMap();
+    
+    private String statement;
+    private Object[] parameters;
+    private JDBCType[] jdbcTypes;
+    
+    PositionalStatement(String statement, Object[] parameters, JDBCType[] jdbcTypes) {
+        this.statement = statement;
+        this.parameters = parameters;
+        this.jdbcTypes = jdbcTypes;
+    }
+    
+    public String statement() {
+        return statement;
+    }
+    
+    public int parameterCount() {
+        return parameters.length;
+    }
+    
+    public Object[] parameters() {
+        return parameters.clone();
+    }
+    
+    public JDBCType[] jdbcTypes() {
+        return jdbcTypes.clone();
+    }
+    
+    /**
+     * Binds every parameter to the statement in order.  Null values are bound with their column's
+     * JDBC type, and {@link LobSource} values are bound as streams.
+     * 
+     * @param preparedStatement a statement prepared from {@link #statement()}
+     * @throws SQLException if the driver rejects a parameter
+     */
+    public void bind(PreparedStatement preparedStatement) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            bind(preparedStatement, i + 1, parameters[i], jdbcTypes[i]);
+        }
+    }
+    
+    static void bind(PreparedStatement preparedStatement, int parameterIndex, Object value, JDBCType jdbcType)
+            throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex, jdbcType.getVendorTypeNumber());
+        } else if (value instanceof LobSource) {
+            ((LobSource) value).bind(preparedStatement, parameterIndex);
+        } else {
+            preparedStatement.setObject(parameterIndex, value, jdbcType.getVendorTypeNumber());
+        }
+    }
+    
+    public static PositionalStatement of(SelectModel selectModel) {
+        return of(selectModel, Dialect.GENERIC);
+    }
+    
+    public static PositionalStatement of(SelectModel selectModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        SelectSupport selectSupport = selectModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(selectSupport.getFullSelectStatement(), selectSupport.getParameters(),
+                null);
+    }
+    
+    public static PositionalStatement of(UpdateModel updateModel) {
+        return of(updateModel, Dialect.GENERIC);
+    }
+    
+    public static PositionalStatement of(UpdateModel updateModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        UpdateSupport updateSupport = updateModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(updateSupport.getFullUpdateStatement(), updateSupport.getParameters(),
+                null);
+    }
+    
+    public static PositionalStatement of(DeleteModel deleteModel) {
+        return of(deleteModel, Dialect.GENERIC);
+    }
+    
+    public static PositionalStatement of(DeleteModel deleteModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        DeleteSupport deleteSupport = deleteModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(deleteSupport.getFullDeleteStatement(), deleteSupport.getParameters(),
+                null);
+    }
+    
+    public static PositionalStatement of(InsertModel<?> insertModel) {
+        return of(insertModel, Dialect.GENERIC);
+    }
+    
+    public static PositionalStatement of(InsertModel<?> insertModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        InsertSupport<?> insertSupport = insertModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(insertSupport.getFullInsertStatement(), NO_PARAMETERS,
+                insertSupport.getRecord());
+    }
+    
+    public static PositionalStatement of(InsertSelectModel insertSelectModel) {
+        return of(insertSelectModel, Dialect.GENERIC);
+    }
+    
+    public static PositionalStatement of(InsertSelectModel insertSelectModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        InsertSelectSupport insertSelectSupport = insertSelectModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(insertSelectSupport.getFullInsertStatement(),
+                insertSelectSupport.getParameters(), null);
+    }
+    
+    public static PositionalStatement of(MultiRowInsertModel<?> multiRowInsertModel) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        MultiRowInsertSupport<?> multiRowInsertSupport = multiRowInsertModel.render(renderingStrategy);
+        return renderingStrategy.toStatement(multiRowInsertSupport.getFullInsertStatement(),
+                multiRowInsertSupport.getParameters(), null);
+    }
+    
+    public static PositionalStatement of(UpsertModel<?> upsertModel, Dialect dialect) {
+        PositionalRenderingStrategy renderingStrategy = new PositionalRenderingStrategy();
+        UpsertSupport<?> upsertSupport = upsertModel.render(renderingStrategy, dialect);
+        return renderingStrategy.toStatement(upsertSupport.getFullUpsertStatement(), upsertSupport.getParameters(),
+                upsertSupport.getRecord());
+    }
+}
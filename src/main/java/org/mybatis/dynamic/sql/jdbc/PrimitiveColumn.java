@@ -0,0 +1,125 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * The values of one selected column, held in a primitive array rather than as one object per row.  Nulls are
+ * recorded in a bitmap that is only created when the first null is read.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public abstract class PrimitiveColumn {
+    protected static final int INITIAL_CAPACITY = 1024;
+    
+    private SqlColumn<?> column;
+    private BitSet nulls;
+    protected int size;
+    
+    protected PrimitiveColumn(SqlColumn<?> column) {
+        this.column = column;
+    }
+    
+    public SqlColumn<?> column() {
+        return column;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isNull(int row) {
+        checkRow(row);
+        return nulls != null && nulls.get(row);
+    }
+    
+    public int nullCount() {
+        return nulls == null ? 0 : nulls.cardinality();
+    }
+    
+    protected void markNull(int row) {
+        if (nulls == null) {
+            nulls = new BitSet();
+        }
+        nulls.set(row);
+    }
+    
+    protected void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+    
+    protected static int grow(int capacity) {
+        return capacity + (capacity >> 1);
+    }
+    
+    /**
+     * Appends the value of the current row.
+     * 
+     * @param resultSet the result set, positioned on a row
+     * @param index the index of this column in the result set (1 based)
+     * @throws SQLException if the value cannot be read
+     */
+    abstract void append(ResultSet resultSet, int index) throws SQLException;
+    
+    /**
+     * Creates an empty column for the JDBC type of a selected column.  BIGINT columns are read into
+     * <code>long</code> values, smaller integer types into <code>int</code> values, and floating point types
+     * into <code>double</code> values.  DECIMAL and NUMERIC columns have no single primitive representation -
+     * a <code>long</code> drops any fraction and a <code>double</code> rounds large values - so they are read
+     * into the type chosen for them, and are rejected if no type was chosen.
+     * 
+     * @param column the selected column
+     * @param decimalType {@link LongColumn} or {@link DoubleColumn} for a DECIMAL or NUMERIC column, otherwise
+     *     ignored and may be null
+     * @return the empty column
+     * @throws IllegalArgumentException if the column type has no primitive representation
+     */
+    static PrimitiveColumn of(SqlColumn<?> column, Class<? extends PrimitiveColumn> decimalType) {
+        switch (column.jdbcType()) {
+        case BIGINT:
+            return new LongColumn(column);
+        case DECIMAL:
+        case NUMERIC:
+            if (decimalType == LongColumn.class) {
+                return new LongColumn(column);
+            } else if (decimalType == DoubleColumn.class) {
+                return new DoubleColumn(column);
+            }
+            throw new IllegalArgumentException("Column " + column.name() + " of type " //$NON-NLS-1$ //$NON-NLS-2$
+                    + column.jdbcType().getName()
+                    + " must be fetched as a LongColumn or a DoubleColumn"); //$NON-NLS-1$
+        case INTEGER:
+        case SMALLINT:
+        case TINYINT:
+            return new IntColumn(column);
+        case DOUBLE:
+        case FLOAT:
+        case REAL:
+            return new DoubleColumn(column);
+        default:
+            throw new IllegalArgumentException("Column " + column.name() + " of type " //$NON-NLS-1$ //$NON-NLS-2$
+                    + column.jdbcType().getName() + " cannot be fetched into a primitive column"); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Assembles parent objects with child collections from the rows of a join, so a parent and its children are
+ * read with one select instead of one select per parent.
+ * 
+ * <p>Rows are grouped by the primary key column of the parent table.  A parent is mapped from the first row
+ * with its key, and every child is mapped from the first row with its own key and added to the parent.  Rows
+ * with a null parent key are skipped, as are null child keys, so outer joins to parents without children
+ * work as expected.
+ * 
+ * <p>When the results are collected into a list, parents are found with an identity map that lives for one
+ * result set, and rows can be in any order.  When the results are streamed, rows must be ordered by the parent
+ * key: each parent is passed on as soon as the key changes, and only the current parent is kept in memory.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <P> the type of the parent objects
+ */
+public class ResultAssembler<P> {
+    private SqlColumn<?> key;
+    private RowMapper<P> rowMapper;
+    private List<ChildCollection<P, ?>> children;
+    
+    private ResultAssembler(Builder<P> builder) {
+        key = builder.key;
+        rowMapper = builder.rowMapper;
+        children = new ArrayList<>(builder.children);
+    }
+    
+    /**
+     * Returns a handler that collects every parent, in the order the parents are first seen.
+     * 
+     * @param columns the selected columns, in the order they are selected
+     * @return the handler
+     * @throws IllegalArgumentException if a key column is not selected
+     */
+    ResultSetHandler<List<P>> handlerFor(List<SqlColumn<?>> columns) {
+        int keyIndex = indexOf(columns, key);
+        int[] childKeyIndexes = childKeyIndexes(columns);
+        return resultSet -> {
+            Map<Object, Group> groups = new LinkedHashMap<>();
+            while (resultSet.next()) {
+                Object parentKey = resultSet.getObject(keyIndex);
+                if (parentKey != null) {
+                    Group group = groups.get(parentKey);
+                    if (group == null) {
+                        group = new Group(parentKey, rowMapper.mapRow(resultSet));
+                        groups.put(parentKey, group);
+                    }
+                    group.addChildren(resultSet, childKeyIndexes);
+                }
+            }
+            
+            List<P> parents = new ArrayList<>(groups.size());
+            groups.values().forEach(g -> parents.add(g.parent));
+            return parents;
+        };
+    }
+    
+    /**
+     * Returns a handler that passes each parent to a consumer once all of its rows are read.  Rows must be
+     * ordered by the parent key.
+     * 
+     * @param columns the selected columns, in the order they are selected
+     * @param consumer the consumer of parents
+     * @return a handler that returns the number of parents passed to the consumer
+     * @throws IllegalArgumentException if a key column is not selected
+     */
+    ResultSetHandler<Long> handlerFor(List<SqlColumn<?>> columns, Consumer<? super P> consumer) {
+        int keyIndex = indexOf(columns, key);
+        int[] childKeyIndexes = childKeyIndexes(columns);
+        return resultSet -> {
+            long count = 0;
+            Group current = null;
+            while (resultSet.next()) {
+                Object parentKey = resultSet.getObject(keyIndex);
+                if (parentKey == null) {
+                    continue;
+                }
+                
+                if (current == null || !current.key.equals(parentKey)) {
+                    if (current != null) {
+                        consumer.accept(current.parent);
+                        count++;
+                    }
+                    current = new Group(parentKey, rowMapper.mapRow(resultSet));
+                }
+                current.addChildren(resultSet, childKeyIndexes);
+            }
+            
+            if (current != null) {
+                consumer.accept(current.parent);
+                count++;
+            }
+            return count;
+        };
+    }
+    
+    private int[] childKeyIndexes(List<SqlColumn<?>> columns) {
+        int[] indexes = new int[children.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexOf(columns, children.get(i).key);
+        }
+        return indexes;
+    }
+    
+    private static int indexOf(List<SqlColumn<?>> columns, SqlColumn<?> column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i) == column) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Column " + column.name() + " was not selected"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    
+    /**
+     * A parent and the keys of the children already added to it.
+     */
+    private class Group {
+        private Object key;
+        private P parent;
+        private List<Set<Object>> childKeys = new ArrayList<>(children.size());
+        
+        private Group(Object key, P parent) {
+            this.key = key;
+            this.parent = parent;
+            children.forEach(c -> childKeys.add(new HashSet<>()));
+        }
+        
+        private void addChildren(ResultSet resultSet, int[] childKeyIndexes) throws SQLException {
+            for (int i = 0; i < childKeyIndexes.length; i++) {
+                Object childKey = resultSet.getObject(childKeyIndexes[i]);
+                if (childKey != null && childKeys.get(i).add(childKey)) {
+                    children.get(i).addTo(parent, resultSet);
+                }
+            }
+        }
+    }
+    
+    private static class ChildCollection<P, C> {
+        private SqlColumn<?> key;
+        private RowMapper<C> rowMapper;
+        private BiConsumer<? super P, ? super C> adder;
+        
+        private ChildCollection(SqlColumn<?> key, RowMapper<C> rowMapper, BiConsumer<? super P, ? super C> adder) {
+            this.key = key;
+            this.rowMapper = rowMapper;
+            this.adder = adder;
+        }
+        
+        private void addTo(P parent, ResultSet resultSet) throws SQLException {
+            adder.accept(parent, rowMapper.mapRow(resultSet));
+        }
+    }
+    
+    public static class Builder<P> {
+        private SqlColumn<?> key;
+        private RowMapper<P> rowMapper;
+        private List<ChildCollection<P, ?>> children = new ArrayList<>();
+        
+        /**
+         * Starts an assembler for parents of one table.
+         * 
+         * @param key the primary key column of the parent table
+         * @param rowMapper maps a row to a parent
+         */
+        public Builder(SqlColumn<?> key, RowMapper<P> rowMapper) {
+            this.key = key;
+            this.rowMapper = rowMapper;
+        }
+        
+        /**
+         * Adds a collection of children from a joined table.
+         * 
+         * @param key the primary key column of the child table
+         * @param rowMapper maps a row to a child
+         * @param adder adds a child to its parent
+         * @param <C> the type of the children
+         * @return this builder
+         */
+        public <C> Builder<P> withChildren(SqlColumn<?> key, RowMapper<C> rowMapper,
+                BiConsumer<? super P, ? super C> adder) {
+            children.add(new ChildCollection<>(key, rowMapper, adder));
+            return this;
+        }
+        
+        public ResultAssembler<P> build() {
+            return new ResultAssembler<>(this);
+        }
+    }
+}
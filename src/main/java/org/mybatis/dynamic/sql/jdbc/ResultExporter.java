@@ -0,0 +1,330 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Writes query results straight to a writer as CSV or JSON Lines, one row at a time.  How each value is
+ * written is decided once per column from its JDBC type, and every row is formatted into the same buffer, so
+ * memory use does not grow with the size of the export.
+ * 
+ * <p>Integer types are read with <code>getLong</code>, floating point types with <code>getDouble</code>,
+ * decimal types with <code>getBigDecimal</code> and booleans with <code>getBoolean</code>.  Dates, times and
+ * timestamps are written in ISO 8601 format, binary values in base 64 and all other values as strings.
+ * 
+ * <p>An exporter holds no state between exports, so one exporter can be shared.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class ResultExporter {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    
+    private ExportFormat format;
+    private boolean header;
+    private char delimiter;
+    
+    private ResultExporter(Builder builder) {
+        format = builder.format;
+        header = builder.header;
+        delimiter = builder.delimiter;
+    }
+    
+    /**
+     * Returns a handler that writes every row of a result set to a writer.  The writer is not flushed or closed.
+     * Errors writing are thrown as {@link UncheckedIOException}.
+     * 
+     * @param columns the selected columns, in the order they are selected
+     * @param writer the writer
+     * @return a handler that returns the number of rows written
+     */
+    ResultSetHandler<Long> handlerFor(List<SqlColumn<?>> columns, Writer writer) {
+        return resultSet -> export(resultSet, columns, writer);
+    }
+    
+    private long export(ResultSet resultSet, List<SqlColumn<?>> columns, Writer writer) throws SQLException {
+        ValueAppender[] appenders = new ValueAppender[columns.size()];
+        String[] names = new String[columns.size()];
+        for (int i = 0; i < appenders.length; i++) {
+            appenders[i] = appenderFor(columns.get(i));
+            names[i] = columns.get(i).alias().orElse(columns.get(i).name());
+        }
+        
+        RowBuffer buffer = new RowBuffer(writer);
+        if (header && format == ExportFormat.CSV) {
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    buffer.row.append(delimiter);
+                }
+                appendCsvText(buffer.row, names[i]);
+            }
+            buffer.endRow();
+        }
+        
+        long rows = 0;
+        while (resultSet.next()) {
+            for (int i = 0; i < appenders.length; i++) {
+                appendValue(resultSet, i, names[i], appenders[i], buffer.row);
+            }
+            if (format == ExportFormat.JSON_LINES) {
+                buffer.row.append('}');
+            }
+            buffer.endRow();
+            rows++;
+        }
+        return rows;
+    }
+    
+    private void appendValue(ResultSet resultSet, int column, String name, ValueAppender appender,
+            StringBuilder row) throws SQLException {
+        if (format == ExportFormat.CSV) {
+            if (column > 0) {
+                row.append(delimiter);
+            }
+            appender.append(resultSet, column + 1, row);
+        } else {
+            row.append(column == 0 ? '{' : ',');
+            appendJsonText(row, name);
+            row.append(':');
+            if (!appender.append(resultSet, column + 1, row)) {
+                row.append("null"); //$NON-NLS-1$
+            }
+        }
+    }
+    
+    private ValueAppender appenderFor(SqlColumn<?> column) {
+        switch (column.jdbcType()) {
+        case BIGINT:
+        case INTEGER:
+        case SMALLINT:
+        case TINYINT:
+            return (rs, i, row) -> {
+                long value = rs.getLong(i);
+                if (value == 0 && rs.wasNull()) {
+                    return false;
+                }
+                row.append(value);
+                return true;
+            };
+        case DOUBLE:
+        case FLOAT:
+        case REAL:
+            return (rs, i, row) -> {
+                double value = rs.getDouble(i);
+                if (value == 0 && rs.wasNull()) {
+                    return false;
+                }
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    return appendText(row, Double.toString(value));
+                }
+                row.append(value);
+                return true;
+            };
+        case DECIMAL:
+        case NUMERIC:
+            return (rs, i, row) -> {
+                BigDecimal value = rs.getBigDecimal(i);
+                if (value == null) {
+                    return false;
+                }
+                row.append(value.toPlainString());
+                return true;
+            };
+        case BOOLEAN:
+        case BIT:
+            return (rs, i, row) -> {
+                boolean value = rs.getBoolean(i);
+                if (!value && rs.wasNull()) {
+                    return false;
+                }
+                row.append(value);
+                return true;
+            };
+        case DATE:
+            return (rs, i, row) -> {
+                Date value = rs.getDate(i);
+                return value != null && appendText(row, value.toLocalDate().toString());
+            };
+        case TIME:
+            return (rs, i, row) -> {
+                Time value = rs.getTime(i);
+                return value != null && appendText(row, value.toLocalTime().toString());
+            };
+        case TIMESTAMP:
+            return (rs, i, row) -> {
+                Timestamp value = rs.getTimestamp(i);
+                return value != null && appendText(row, value.toLocalDateTime().toString());
+            };
+        case BINARY:
+        case VARBINARY:
+        case LONGVARBINARY:
+        case BLOB:
+            return (rs, i, row) -> {
+                byte[] value = rs.getBytes(i);
+                return value != null && appendText(row, Base64.getEncoder().encodeToString(value));
+            };
+        default:
+            return (rs, i, row) -> {
+                String value = rs.getString(i);
+                return value != null && appendText(row, value);
+            };
+        }
+    }
+    
+    private boolean appendText(StringBuilder row, String text) {
+        if (format == ExportFormat.CSV) {
+            appendCsvText(row, text);
+        } else {
+            appendJsonText(row, text);
+        }
+        return true;
+    }
+    
+    private void appendCsvText(StringBuilder row, String text) {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        
+        if (!quote) {
+            row.append(text);
+            return;
+        }
+        
+        row.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+    
+    private static void appendJsonText(StringBuilder row, String text) {
+        row.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"':
+                row.append("\\\""); //$NON-NLS-1$
+                break;
+            case '\\':
+                row.append("\\\\"); //$NON-NLS-1$
+                break;
+            case '\n':
+                row.append("\\n"); //$NON-NLS-1$
+                break;
+            case '\r':
+                row.append("\\r"); //$NON-NLS-1$
+                break;
+            case '\t':
+                row.append("\\t"); //$NON-NLS-1$
+                break;
+            default:
+                if (c < 0x20) {
+                    row.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+                } else {
+                    row.append(c);
+                }
+            }
+        }
+        row.append('"');
+    }
+    
+    @FunctionalInterface
+    private interface ValueAppender {
+        /**
+         * Appends the value of a column of the current row.
+         * 
+         * @return false if the value is null, in which case nothing is appended
+         */
+        boolean append(ResultSet resultSet, int index, StringBuilder row) throws SQLException;
+    }
+    
+    /**
+     * A row formatted in a reused buffer, copied to the writer through a reused character array.
+     */
+    private static class RowBuffer {
+        private Writer writer;
+        private StringBuilder row = new StringBuilder(INITIAL_BUFFER_SIZE);
+        private char[] chars = new char[INITIAL_BUFFER_SIZE];
+        
+        private RowBuffer(Writer writer) {
+            this.writer = writer;
+        }
+        
+        private void endRow() {
+            row.append('\n');
+            int length = row.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            row.getChars(0, length, chars, 0);
+            row.setLength(0);
+            try {
+                writer.write(chars, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+    
+    public static class Builder {
+        private ExportFormat format;
+        private boolean header = true;
+        private char delimiter = ',';
+        
+        public Builder(ExportFormat format) {
+            this.format = format;
+        }
+        
+        /**
+         * Sets whether a CSV export starts with a row of column names.  The default is true.
+         * 
+         * @param header true to write a header row
+         * @return this builder
+         */
+        public Builder withHeader(boolean header) {
+            this.header = header;
+            return this;
+        }
+        
+        public Builder withDelimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+        
+        public ResultExporter build() {
+            return new ResultExporter(this);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * Executes selects so that identical selects running at the same time share one database call.  Selects are
+ * identical when they render to the same statement, bind equal parameter values and use the same row mapper.
+ * The first caller executes the select, and callers that arrive while it is running wait for it and receive
+ * the same result, or the same failure.  A select that arrives after the first has finished is executed again,
+ * so results are never cached.
+ * 
+ * <p>Shared results are unmodifiable lists, and the rows in them are shared between threads, so rows should
+ * not be changed.
+ * 
+ * <p>This class is thread safe.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class SingleFlightExecutor {
+    private JdbcExecutor executor;
+    private ConcurrentMap<FlightKey, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+    private AtomicLong executions = new AtomicLong();
+    private AtomicLong sharedResults = new AtomicLong();
+    
+    private SingleFlightExecutor(JdbcExecutor executor) {
+        this.executor = executor;
+    }
+    
+    public <R> List<R> selectList(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        PositionalStatement statement = PositionalStatement.of(selectModel, executor.dialect());
+        FlightKey key = new FlightKey(statement, rowMapper);
+        CompletableFuture<List<?>> flight = new CompletableFuture<>();
+        CompletableFuture<List<?>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedResults.incrementAndGet();
+            return await(existing);
+        }
+        
+        try {
+            executions.incrementAndGet();
+            List<R> rows = executor.execute(
+                    session -> Collections.unmodifiableList(session.query(statement, rowMapper)));
+            flight.complete(rows);
+            return rows;
+        } catch (SQLException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    public <R> Optional<R> selectOne(SelectModel selectModel, RowMapper<R> rowMapper) throws SQLException {
+        List<R> rows = selectList(selectModel, rowMapper);
+        if (rows.size() > 1) {
+            throw new IllegalStateException("Expected at most one row, but " + rows.size() //$NON-NLS-1$
+                    + " rows were selected"); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+    
+    /**
+     * Returns the number of selects sent to the database.
+     * 
+     * @return the number of selects executed
+     */
+    public long executions() {
+        return executions.get();
+    }
+    
+    /**
+     * Returns the number of calls that received the result of an identical select that was already running.
+     * 
+     * @return the number of shared results
+     */
+    public long sharedResults() {
+        return sharedResults.get();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> await(CompletableFuture<List<?>> flight) throws SQLException {
+        try {
+            return (List<R>) flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for an identical select", e); //$NON-NLS-1$
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                throw new SQLException(sqlException.getMessage(), sqlException.getSQLState(),
+                        sqlException.getErrorCode(), sqlException);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw (Error) cause;
+            }
+        }
+    }
+    
+    public static SingleFlightExecutor of(JdbcExecutor executor) {
+        return new SingleFlightExecutor(executor);
+    }
+    
+    /**
+     * The identity of a select: its statement, its parameter values and its row mapper.
+     */
+    private static class FlightKey {
+        private String statement;
+        private List<Object> parameters;
+        private RowMapper<?> rowMapper;
+        private int hashCode;
+        
+        private FlightKey(PositionalStatement statement, RowMapper<?> rowMapper) {
+            this.statement = statement.statement();
+            parameters = Arrays.asList(statement.parameters());
+            this.rowMapper = rowMapper;
+            hashCode = this.statement.hashCode() * 31 + parameters.hashCode();
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FlightKey)) {
+                return false;
+            }
+            FlightKey other = (FlightKey) obj;
+            return rowMapper == other.rowMapper
+                    && statement.equals(other.statement)
+                    && parameters.equals(other.parameters);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepared statements of one connection, keyed by statement text.  When the cache is full, the least
+ * recently used statement is closed to make room.
+ * 
+ * @author Jeff Butler
+ *
+ */
+class StatementCache {
+    private Connection connection;
+    private int maximumSize;
+    private Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits;
+    private long misses;
+    
+    StatementCache(Connection connection, int maximumSize) {
+        this.connection = connection;
+        this.maximumSize = maximumSize;
+    }
+    
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement preparedStatement = statements.get(sql);
+        if (preparedStatement != null) {
+            hits++;
+            return preparedStatement;
+        }
+        
+        misses++;
+        preparedStatement = connection.prepareStatement(sql);
+        if (maximumSize > 0) {
+            statements.put(sql, preparedStatement);
+            evictIfNecessary();
+        }
+        return preparedStatement;
+    }
+    
+    /**
+     * Closes a statement after use, unless it is held in the cache.  A statement that was just prepared is the
+     * most recently used, so it is always held unless caching is disabled.
+     * 
+     * @param preparedStatement a statement returned from {@link #prepare(String)}
+     * @throws SQLException if the statement cannot be closed
+     */
+    void release(PreparedStatement preparedStatement) throws SQLException {
+        if (maximumSize <= 0) {
+            preparedStatement.close();
+        }
+    }
+    
+    private void evictIfNecessary() throws SQLException {
+        Iterator<PreparedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maximumSize) {
+            PreparedStatement eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+        }
+    }
+    
+    int size() {
+        return statements.size();
+    }
+    
+    long hits() {
+        return hits;
+    }
+    
+    long misses() {
+        return misses;
+    }
+    
+    void close() throws SQLException {
+        List<PreparedStatement> cachedStatements = new ArrayList<>(statements.values());
+        statements.clear();
+        SQLException exception = null;
+        for (PreparedStatement preparedStatement : cachedStatements) {
+            try {
+                preparedStatement.close();
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
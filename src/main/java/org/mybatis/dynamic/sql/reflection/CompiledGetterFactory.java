@@ -0,0 +1,109 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.mybatis.dynamic.sql.reflection.invoker.Invoker;
+import org.mybatis.dynamic.sql.util.IgnoreJRERequirement;
+
+/**
+ * Creates and caches compiled property getters.  A compiled getter calls a method handle that is bound
+ * to the getter method (or field) once, so repeated calls avoid the property name parsing and
+ * reflective invocation done by {@link MetaObject}.
+ * 
+ * <p>Only simple property names on beans are compiled.  Nested or indexed properties, and properties of maps,
+ * are read with {@link MetaObject}.  Either way the getter returns the same value {@link MetaObject} would return.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class CompiledGetterFactory {
+    private static final Logger log = Logger.getLogger(CompiledGetterFactory.class.getName());
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    private static CompiledGetterFactory instance = new CompiledGetterFactory();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Function<Object, Object>>> getters =
+            new ConcurrentHashMap<>();
+    
+    private CompiledGetterFactory() {
+        super();
+    }
+    
+    public static CompiledGetterFactory instance() {
+        return instance;
+    }
+    
+    public Function<Object, Object> getterFor(Class<?> type, String property) {
+        return getters.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(property, p -> compile(type, p));
+    }
+    
+    private Function<Object, Object> compile(Class<?> type, String property) {
+        if (Map.class.isAssignableFrom(type) || property.indexOf('.') >= 0 || property.indexOf('[') >= 0) {
+            return bean -> MetaObject.forObject(bean).getValue(property);
+        }
+        
+        Optional<Invoker> invoker = ReflectorFactory.instance().findForClass(type).getGetInvoker(property);
+        if (!invoker.isPresent()) {
+            return bean -> null;
+        }
+        
+        return toMethodHandle(invoker.get())
+                .<Function<Object, Object>>map(CompiledGetter::new)
+                .orElseGet(() -> bean -> MetaObject.forObject(bean).getValue(property));
+    }
+    
+    private Optional<MethodHandle> toMethodHandle(Invoker invoker) {
+        try {
+            return Optional.of(invoker.toMethodHandle(MethodHandles.lookup()).asType(GETTER_TYPE));
+        } catch (IllegalAccessException e) {
+            log.log(Level.FINEST, "Exception compiling property getter, using reflection", e); //$NON-NLS-1$
+            return Optional.empty();
+        }
+    }
+    
+    private static class CompiledGetter implements Function<Object, Object> {
+        private MethodHandle methodHandle;
+        
+        private CompiledGetter(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle;
+        }
+        
+        @Override
+        @IgnoreJRERequirement
+        public Object apply(Object bean) {
+            try {
+                return (Object) methodHandle.invokeExact(bean);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                log.log(Level.WARNING,
+                        "Exception while retrieving property value, returning null", e); //$NON-NLS-1$
+                return null;
+            }
+        }
+    }
+}
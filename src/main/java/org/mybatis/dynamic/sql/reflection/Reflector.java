@@ -45,17 +45,19 @@ public class Reflector {
     private static final Logger log = Logger.getLogger(Reflector.class.getName());
     private static final String IS = "is"; //$NON-NLS-1$
     private static final String GET = "get"; //$NON-NLS-1$
+    private static final String SET = "set"; //$NON-NLS-1$
     
     private Map<String, Invoker> getMethods = new HashMap<>();
+    private Map<String, Method> setMethods = new HashMap<>();
 
     public Reflector(Class<?> clazz) {
-        addGetMethods(clazz);
+        Map<String, Method> uniqueMethods = getClassMethods(clazz);
+        addGetMethods(uniqueMethods);
+        addSetMethods(uniqueMethods);
         addFields(clazz);
     }
     
-    private void addGetMethods(Class<?> cls) {
-        Map<String, Method> uniqueMethods = getClassMethods(cls);
-
+    private void addGetMethods(Map<String, Method> uniqueMethods) {
         uniqueMethods.values().stream()
                 .filter(Reflector::isAnIsGetter)
                 .collect(Collectors.toMap(Reflector::extractIsPropertyName,
@@ -67,6 +69,34 @@ public class Reflector {
                         MethodInvoker::new, (m1, m2) -> m1, () -> getMethods));
     }
 
+    private void addSetMethods(Map<String, Method> uniqueMethods) {
+        Map<String, Class<?>> getterTypes = uniqueMethods.values().stream()
+                .filter(Reflector::isAGetter)
+                .collect(Collectors.toMap(Reflector::extractGetPropertyName, Method::getReturnType, (t1, t2) -> t1));
+        
+        uniqueMethods.values().stream()
+                .filter(Reflector::isASetter)
+                .collect(Collectors.toMap(Reflector::extractSetPropertyName, Function.identity(),
+                        (m1, m2) -> preferSetterMatchingGetter(m1, m2, getterTypes), () -> setMethods));
+    }
+    
+    private static boolean isASetter(Method method) {
+        String methodName = method.getName();
+        return methodName.startsWith(SET)
+                && methodName.length() > SET.length()
+                && method.getParameterTypes().length == 1;
+    }
+    
+    private static String extractSetPropertyName(Method method) {
+        String propertyName = method.getName().substring(SET.length());
+        return fixPropertyCase(propertyName);
+    }
+    
+    private static Method preferSetterMatchingGetter(Method m1, Method m2, Map<String, Class<?>> getterTypes) {
+        Class<?> getterType = getterTypes.get(extractSetPropertyName(m1));
+        return m2.getParameterTypes()[0].equals(getterType) ? m2 : m1;
+    }
+    
     private static boolean isAnIsGetter(Method method) {
         String methodName = method.getName();
         return methodName.startsWith(IS)
@@ -210,4 +240,8 @@ public class Reflector {
     public Optional<Invoker> getGetInvoker(String propertyName) {
         return Optional.ofNullable(getMethods.get(propertyName));
     }
+    
+    public Optional<Method> getSetMethod(String propertyName) {
+        return Optional.ofNullable(setMethods.get(propertyName));
+    }
 }
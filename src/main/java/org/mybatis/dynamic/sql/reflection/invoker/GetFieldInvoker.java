@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.reflection.invoker;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 
 /**
@@ -39,4 +41,9 @@ public class GetFieldInvoker implements Invoker {
     public Class<?> getDeclaringClass() {
         return field.getDeclaringClass();
     }
+
+    @Override
+    public MethodHandle toMethodHandle(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        return lookup.unreflectGetter(field);
+    }
 }
@@ -15,6 +15,9 @@
  */
 package org.mybatis.dynamic.sql.reflection.invoker;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
 /**
  * Defines methods for retrieving values from methods or fields.
  * 
@@ -25,4 +28,14 @@ public interface Invoker {
     Object invoke(Object target, Object[] args) throws ReflectiveOperationException;
 
     Class<?> getDeclaringClass();
+    
+    /**
+     * Returns a method handle that performs the same operation as this invoker.  The handle
+     * takes the target object and returns the value.
+     * 
+     * @param lookup the lookup used to create the handle
+     * @return the method handle
+     * @throws IllegalAccessException if the method or field cannot be accessed
+     */
+    MethodHandle toMethodHandle(MethodHandles.Lookup lookup) throws IllegalAccessException;
 }
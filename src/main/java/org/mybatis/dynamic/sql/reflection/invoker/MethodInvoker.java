@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql.reflection.invoker;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 
 /**
@@ -40,4 +42,9 @@ public class MethodInvoker implements Invoker {
     public Class<?> getDeclaringClass() {
         return method.getDeclaringClass();
     }
+
+    @Override
+    public MethodHandle toMethodHandle(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        return lookup.unreflect(method);
+    }
 }
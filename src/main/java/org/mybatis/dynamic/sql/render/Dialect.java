@@ -0,0 +1,304 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.select.LockMode;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateFragments;
+import org.mybatis.dynamic.sql.upsert.render.UpsertFragments;
+
+/**
+ * A dialect renders the parts of a statement that are not written the same way in every database.
+ * Where a rendering strategy decides how parameters are written for MyBatis or Spring, a dialect
+ * decides how database specific clauses are written.
+ * 
+ * <p>Dialects throw {@link UnsupportedOperationException} when a statement asks for something the
+ * database cannot do.  This is better than rendering a statement that will fail at execution time.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public abstract class Dialect {
+    public static final Dialect GENERIC = new GenericDialect();
+    public static final Dialect HSQLDB = new HsqldbDialect();
+    public static final Dialect MYSQL = new MySqlDialect();
+    public static final Dialect ORACLE = new OracleDialect();
+    public static final Dialect POSTGRESQL = new PostgreSqlDialect();
+    
+    protected static final String SOURCE_ALIAS = "src"; //$NON-NLS-1$
+    
+    public abstract String getLimitClause(long limit);
+    
+    public abstract String getLockClause(LockMode lockMode);
+    
+    /**
+     * Renders the lock clause of a select statement that may also have a limit clause.  Dialects for databases
+     * that cannot lock the rows of a limited select override this method to throw an exception.
+     * 
+     * @param lockMode the lock mode
+     * @param isLimited true if the select statement also has a limit clause
+     * @return the rendered clause
+     */
+    public String getLockClause(LockMode lockMode, boolean isLimited) {
+        return getLockClause(lockMode);
+    }
+    
+    /**
+     * Renders a clause that returns the listed columns from the rows affected by an
+     * insert, update or delete statement.
+     * 
+     * @param columnList the comma separated list of columns to return
+     * @return the rendered clause
+     */
+    public abstract String getReturningClause(String columnList);
+    
+    /**
+     * Renders the expression an upsert uses to refer to the incoming value of a column when
+     * an existing row is updated.
+     * 
+     * @param columnName the column name
+     * @return the rendered expression
+     */
+    public abstract String getUpsertSourceValue(String columnName);
+    
+    /**
+     * Assembles a complete "insert or update" statement.
+     * 
+     * @param fragments the rendered pieces of the statement
+     * @return the rendered statement
+     */
+    public abstract String getUpsertStatement(UpsertFragments fragments);
+    
+    /**
+     * Returns the largest number of bind parameters the database (or its JDBC driver) accepts in one statement.
+     * Statements that bind a value for every row are split into chunks that stay within this limit.
+     * 
+     * @return the bind parameter limit
+     */
+    public abstract int getMaxBindParameters();
+    
+    /**
+     * Returns the largest number of values the database accepts in one "in" list.  Statements that select or
+     * update rows by a list of keys are split into chunks that stay within this limit.
+     * 
+     * @return the in list limit
+     */
+    public abstract int getMaxInListSize();
+    
+    /**
+     * Renders a statement that returns the next value of a sequence.
+     * 
+     * @param sequenceName the sequence name
+     * @return the rendered statement
+     */
+    public abstract String getSequenceNextValueStatement(String sequenceName);
+    
+    /**
+     * Assembles an update statement that sets different values for each key in a single statement.
+     * 
+     * @param fragments the rendered pieces of the statement
+     * @return the rendered statement
+     */
+    public abstract String getBulkUpdateStatement(BulkUpdateFragments fragments);
+    
+    /**
+     * Renders a where clause that limits a delete or update statement to at most {@code limit} rows.
+     * Running the limited statement until no rows are affected breaks a large delete or update into
+     * short transactions.
+     * 
+     * @param tableName the table name
+     * @param keyColumnName a column that identifies rows - used by dialects that limit rows with a sub-select
+     * @param whereClause the original where clause (including the "where" keyword), if any
+     * @param limit the maximum number of rows to affect
+     * @return the rendered where clause
+     */
+    public abstract String getLimitedWhereClause(String tableName, String keyColumnName,
+            Optional<String> whereClause, long limit);
+    
+    protected String standardLockClause(LockMode lockMode) {
+        switch (lockMode) {
+        case FOR_UPDATE_SKIP_LOCKED:
+            return "for update skip locked"; //$NON-NLS-1$
+        case FOR_UPDATE_NOWAIT:
+            return "for update nowait"; //$NON-NLS-1$
+        case FOR_SHARE:
+            return "for share"; //$NON-NLS-1$
+        default:
+            return "for update"; //$NON-NLS-1$
+        }
+    }
+    
+    protected String standardReturningClause(String columnList) {
+        return "returning " + columnList; //$NON-NLS-1$
+    }
+    
+    protected String onConflictUpsertStatement(UpsertFragments fragments) {
+        return insertStatement(fragments)
+                + " on conflict " //$NON-NLS-1$
+                + fragments.keyColumnNames()
+                        .collect(Collectors.joining(", ", "(", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + (fragments.hasSetPhrases()
+                        ? " do update set " //$NON-NLS-1$
+                                + fragments.setPhrases().collect(Collectors.joining(", ")) //$NON-NLS-1$
+                        : " do nothing"); //$NON-NLS-1$
+    }
+    
+    protected String insertStatement(UpsertFragments fragments) {
+        return "insert into " //$NON-NLS-1$
+                + fragments.tableName()
+                + " " //$NON-NLS-1$
+                + fragments.columnNames()
+                        .collect(Collectors.joining(", ", "(", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + " values " //$NON-NLS-1$
+                + fragments.valuePhrases()
+                        .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    /**
+     * Renders a SQL standard merge statement.  The source is a single row table aliased as
+     * {@link #SOURCE_ALIAS}.
+     * 
+     * @param fragments the rendered pieces of the statement
+     * @param sourcePhrase the phrase that defines the source row, including the alias
+     * @param parenthesizeCondition whether the join condition must be enclosed in parentheses
+     * @return the rendered statement
+     */
+    protected String mergeUpsertStatement(UpsertFragments fragments, String sourcePhrase,
+            boolean parenthesizeCondition) {
+        String condition = fragments.keyColumnNames()
+                .map(k -> fragments.tableName() + "." + k + " = " + sourceValue(k)) //$NON-NLS-1$ //$NON-NLS-2$
+                .collect(Collectors.joining(" and ")); //$NON-NLS-1$
+        
+        return "merge into " //$NON-NLS-1$
+                + fragments.tableName()
+                + " using " //$NON-NLS-1$
+                + sourcePhrase
+                + " on " //$NON-NLS-1$
+                + (parenthesizeCondition ? "(" + condition + ")" : condition) //$NON-NLS-1$ //$NON-NLS-2$
+                + (fragments.hasSetPhrases()
+                        ? " when matched then update set " //$NON-NLS-1$
+                                + fragments.setPhrases().collect(Collectors.joining(", ")) //$NON-NLS-1$
+                        : "") //$NON-NLS-1$
+                + " when not matched then insert " //$NON-NLS-1$
+                + fragments.columnNames()
+                        .collect(Collectors.joining(", ", "(", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + " values " //$NON-NLS-1$
+                + fragments.columnNames().map(this::sourceValue)
+                        .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    protected String valuesMergeSource(UpsertFragments fragments) {
+        return "(values " //$NON-NLS-1$
+                + fragments.valuePhrases()
+                        .collect(Collectors.joining(", ", "(", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + ") as " //$NON-NLS-1$
+                + SOURCE_ALIAS
+                + " " //$NON-NLS-1$
+                + fragments.columnNames()
+                        .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    protected String sourceValue(String columnName) {
+        return SOURCE_ALIAS + "." + columnName; //$NON-NLS-1$
+    }
+    
+    /**
+     * Renders a bulk update with a "case" expression for each column.  This form works in every database.
+     * 
+     * @param fragments the rendered pieces of the statement
+     * @return the rendered statement
+     */
+    protected String caseBulkUpdateStatement(BulkUpdateFragments fragments) {
+        String setPhrases = IntStream.range(0, fragments.columnCount())
+                .mapToObj(c -> fragments.columnName(c) + " = case " + fragments.keyColumnName() //$NON-NLS-1$
+                        + IntStream.range(0, fragments.rowCount())
+                            .mapToObj(r -> " when " + fragments.keyPlaceholder(r) //$NON-NLS-1$
+                                    + " then " + fragments.valuePlaceholder(r, c)) //$NON-NLS-1$
+                            .collect(Collectors.joining())
+                        + " end") //$NON-NLS-1$
+                .collect(Collectors.joining(", ")); //$NON-NLS-1$
+        
+        return "update " //$NON-NLS-1$
+                + fragments.tableName()
+                + " set " //$NON-NLS-1$
+                + setPhrases
+                + " where " //$NON-NLS-1$
+                + fragments.keyColumnName()
+                + " in " //$NON-NLS-1$
+                + fragments.keyPlaceholders()
+                        .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    
+    /**
+     * Renders a bulk update that joins the table to a "values" list.  This form binds half as many
+     * parameters as the "case" form and lets the database match rows with an index.
+     * 
+     * @param fragments the rendered pieces of the statement
+     * @return the rendered statement
+     */
+    protected String valuesJoinBulkUpdateStatement(BulkUpdateFragments fragments) {
+        String rows = IntStream.range(0, fragments.rowCount())
+                .mapToObj(r -> IntStream.range(0, fragments.columnCount())
+                        .mapToObj(c -> fragments.valuePlaceholder(r, c))
+                        .collect(Collectors.joining(", ", //$NON-NLS-1$
+                                "(" + fragments.keyPlaceholder(r) + ", ", //$NON-NLS-1$ //$NON-NLS-2$
+                                ")"))) //$NON-NLS-1$
+                .collect(Collectors.joining(", ")); //$NON-NLS-1$
+        
+        return "update " //$NON-NLS-1$
+                + fragments.tableName()
+                + " set " //$NON-NLS-1$
+                + fragments.columnNames().map(c -> c + " = " + sourceValue(c)) //$NON-NLS-1$
+                        .collect(Collectors.joining(", ")) //$NON-NLS-1$
+                + " from (values " //$NON-NLS-1$
+                + rows
+                + ") as " //$NON-NLS-1$
+                + SOURCE_ALIAS
+                + " (" //$NON-NLS-1$
+                + fragments.keyColumnName()
+                + fragments.columnNames().map(c -> ", " + c).collect(Collectors.joining()) //$NON-NLS-1$
+                + ") where " //$NON-NLS-1$
+                + fragments.tableName() + "." + fragments.keyColumnName() //$NON-NLS-1$
+                + " = " //$NON-NLS-1$
+                + sourceValue(fragments.keyColumnName());
+    }
+    
+    protected String subSelectLimitedWhereClause(String tableName, String keyColumnName,
+            Optional<String> whereClause, long limit) {
+        return "where " //$NON-NLS-1$
+                + keyColumnName
+                + " in (select " //$NON-NLS-1$
+                + keyColumnName
+                + " from " //$NON-NLS-1$
+                + tableName
+                + whereClause.map(w -> " " + w).orElse("") //$NON-NLS-1$ //$NON-NLS-2$
+                + " " //$NON-NLS-1$
+                + getLimitClause(limit)
+                + ")"; //$NON-NLS-1$
+    }
+    
+    protected String stripWhere(String whereClause) {
+        return whereClause.startsWith("where ") ? whereClause.substring(6) : whereClause; //$NON-NLS-1$
+    }
+    
+    protected UnsupportedOperationException unsupported(String feature) {
+        return new UnsupportedOperationException(feature + " is not supported by " //$NON-NLS-1$
+                + getClass().getSimpleName());
+    }
+}
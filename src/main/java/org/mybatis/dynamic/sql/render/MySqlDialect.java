@@ -0,0 +1,90 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.select.LockMode;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateFragments;
+import org.mybatis.dynamic.sql.upsert.render.UpsertFragments;
+
+/**
+ * Dialect for MySQL 8.0 and later.  Earlier versions do not support "skip locked", "nowait" or "for share".
+ * MySQL does not let an upsert name its conflict key - any unique index can trigger the update.  The declared
+ * key columns are only used to keep them out of the update list.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class MySqlDialect extends Dialect {
+
+    @Override
+    public String getLimitClause(long limit) {
+        return "limit " + limit; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getLockClause(LockMode lockMode) {
+        return standardLockClause(lockMode);
+    }
+
+    @Override
+    public String getReturningClause(String columnList) {
+        throw unsupported("RETURNING"); //$NON-NLS-1$
+    }
+
+    @Override
+    public String getUpsertSourceValue(String columnName) {
+        return "values(" + columnName + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public String getUpsertStatement(UpsertFragments fragments) {
+        String setPhrases = fragments.hasSetPhrases()
+                ? fragments.setPhrases().collect(Collectors.joining(", ")) //$NON-NLS-1$
+                : fragments.keyColumnNames().findFirst().map(k -> k + " = " + k).orElse(""); //$NON-NLS-1$ //$NON-NLS-2$
+        return insertStatement(fragments)
+                + " on duplicate key update " //$NON-NLS-1$
+                + setPhrases;
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public int getMaxInListSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String getSequenceNextValueStatement(String sequenceName) {
+        throw unsupported("SEQUENCE"); //$NON-NLS-1$
+    }
+
+    @Override
+    public String getBulkUpdateStatement(BulkUpdateFragments fragments) {
+        return caseBulkUpdateStatement(fragments);
+    }
+
+    @Override
+    public String getLimitedWhereClause(String tableName, String keyColumnName, Optional<String> whereClause,
+            long limit) {
+        return whereClause.map(w -> w + " ").orElse("") + getLimitClause(limit); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
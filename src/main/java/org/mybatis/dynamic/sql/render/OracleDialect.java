@@ -0,0 +1,112 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.select.LockMode;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateFragments;
+import org.mybatis.dynamic.sql.upsert.render.UpsertFragments;
+
+/**
+ * Dialect for Oracle 12c and later.  Note that Oracle will not accept a locking clause in the
+ * same statement as a "fetch first" clause, so rendering a select with both throws an exception.
+ * Oracle's "returning into" clause requires output parameters rather than a result set, so it is
+ * not supported.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class OracleDialect extends Dialect {
+
+    @Override
+    public String getLimitClause(long limit) {
+        return "fetch first " + limit + " rows only"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public String getLockClause(LockMode lockMode) {
+        if (lockMode == LockMode.FOR_SHARE) {
+            throw unsupported(lockMode.name());
+        }
+        return standardLockClause(lockMode);
+    }
+
+    @Override
+    public String getLockClause(LockMode lockMode, boolean isLimited) {
+        if (isLimited) {
+            throw unsupported("A lock clause with FETCH FIRST"); //$NON-NLS-1$
+        }
+        return getLockClause(lockMode);
+    }
+
+    @Override
+    public String getReturningClause(String columnList) {
+        throw unsupported("RETURNING"); //$NON-NLS-1$
+    }
+
+    @Override
+    public String getUpsertSourceValue(String columnName) {
+        return sourceValue(columnName);
+    }
+
+    @Override
+    public String getUpsertStatement(UpsertFragments fragments) {
+        return mergeUpsertStatement(fragments, dualMergeSource(fragments), true);
+    }
+
+    private String dualMergeSource(UpsertFragments fragments) {
+        List<String> columnNames = fragments.columnNames().collect(Collectors.toList());
+        List<String> valuePhrases = fragments.valuePhrases().collect(Collectors.toList());
+        return IntStream.range(0, columnNames.size())
+                .mapToObj(i -> valuePhrases.get(i) + " " + columnNames.get(i)) //$NON-NLS-1$
+                .collect(Collectors.joining(", ", "(select ", //$NON-NLS-1$ //$NON-NLS-2$
+                        " from dual) " + SOURCE_ALIAS)); //$NON-NLS-1$
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public int getMaxInListSize() {
+        return 1000;
+    }
+
+    @Override
+    public String getSequenceNextValueStatement(String sequenceName) {
+        return "select " + sequenceName + ".nextval from dual"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public String getBulkUpdateStatement(BulkUpdateFragments fragments) {
+        return caseBulkUpdateStatement(fragments);
+    }
+
+    @Override
+    public String getLimitedWhereClause(String tableName, String keyColumnName, Optional<String> whereClause,
+            long limit) {
+        return "where " //$NON-NLS-1$
+                + whereClause.map(w -> "(" + stripWhere(w) + ") and ") //$NON-NLS-1$ //$NON-NLS-2$
+                        .orElse("") //$NON-NLS-1$
+                + "rownum <= " //$NON-NLS-1$
+                + limit;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.select.LockMode;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateFragments;
+import org.mybatis.dynamic.sql.upsert.render.UpsertFragments;
+
+public class PostgreSqlDialect extends Dialect {
+
+    @Override
+    public String getLimitClause(long limit) {
+        return "limit " + limit; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getLockClause(LockMode lockMode) {
+        return standardLockClause(lockMode);
+    }
+
+    @Override
+    public String getReturningClause(String columnList) {
+        return standardReturningClause(columnList);
+    }
+
+    @Override
+    public String getUpsertSourceValue(String columnName) {
+        return "excluded." + columnName; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getUpsertStatement(UpsertFragments fragments) {
+        return onConflictUpsertStatement(fragments);
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        return 32767;
+    }
+
+    @Override
+    public int getMaxInListSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String getSequenceNextValueStatement(String sequenceName) {
+        return "select nextval('" + sequenceName + "')"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public String getBulkUpdateStatement(BulkUpdateFragments fragments) {
+        return valuesJoinBulkUpdateStatement(fragments);
+    }
+
+    @Override
+    public String getLimitedWhereClause(String tableName, String keyColumnName, Optional<String> whereClause,
+            long limit) {
+        return subSelectLimitedWhereClause(tableName, keyColumnName, whereClause, limit);
+    }
+}
@@ -16,11 +16,16 @@
 package org.mybatis.dynamic.sql.render;
 
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.LobSource;
 
 public class SpringNamedParameterRenderingStrategy extends RenderingStrategy {
     
     @Override
     public String getFormattedJdbcPlaceholder(SqlColumn<?> column, String prefix, String parameterName) {
+        if (LobSource.isLobColumn(column)) {
+            throw new UnsupportedOperationException("Column " + column.name() //$NON-NLS-1$
+                    + " is set from a LOB source, which cannot be bound with Spring named parameters"); //$NON-NLS-1$
+        }
         return ":" + parameterName; //$NON-NLS-1$
     }
 
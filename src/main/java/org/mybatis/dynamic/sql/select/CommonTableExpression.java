@@ -0,0 +1,93 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * This class represents a named subquery in a "with" clause.  The body of the common table expression
+ * is one or more select models that will be combined with "union all".  The name of the common table
+ * expression is a normal {@link SqlTable}, so columns can be defined on it and it can be used in the
+ * "from" clause, or in a join, of any other select model in the statement.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class CommonTableExpression {
+    private SqlTable table;
+    private boolean isRecursive;
+    private List<SqlColumn<?>> columns = new ArrayList<>();
+    private List<SelectModel> selectModels = new ArrayList<>();
+    
+    private CommonTableExpression(SqlTable table) {
+        this.table = table;
+    }
+    
+    public SqlTable table() {
+        return table;
+    }
+    
+    public boolean isRecursive() {
+        return isRecursive;
+    }
+    
+    public Stream<SqlColumn<?>> columns() {
+        return columns.stream();
+    }
+    
+    public Stream<SelectModel> selectModels() {
+        return selectModels.stream();
+    }
+    
+    public static class Builder {
+        private SqlTable table;
+        private boolean isRecursive;
+        private List<SqlColumn<?>> columns = new ArrayList<>();
+        private List<SelectModel> selectModels = new ArrayList<>();
+        
+        public Builder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public Builder isRecursive(boolean isRecursive) {
+            this.isRecursive = isRecursive;
+            return this;
+        }
+        
+        public Builder withColumns(List<SqlColumn<?>> columns) {
+            this.columns.addAll(columns);
+            return this;
+        }
+        
+        public Builder withSelectModels(List<SelectModel> selectModels) {
+            this.selectModels.addAll(selectModels);
+            return this;
+        }
+        
+        public CommonTableExpression build() {
+            CommonTableExpression commonTableExpression = new CommonTableExpression(table);
+            commonTableExpression.isRecursive = isRecursive;
+            commonTableExpression.columns.addAll(columns);
+            commonTableExpression.selectModels.addAll(selectModels);
+            return commonTableExpression;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * This class represents an inner join to another table (or common table expression) on the
+ * equality of two columns.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class JoinModel {
+    private SqlTable table;
+    private SqlColumn<?> leftColumn;
+    private SqlColumn<?> rightColumn;
+    
+    private JoinModel() {
+        super();
+    }
+    
+    public SqlTable table() {
+        return table;
+    }
+    
+    public SqlColumn<?> leftColumn() {
+        return leftColumn;
+    }
+    
+    public SqlColumn<?> rightColumn() {
+        return rightColumn;
+    }
+    
+    public static <T> JoinModel of(SqlTable table, SqlColumn<T> leftColumn, SqlColumn<T> rightColumn) {
+        JoinModel joinModel = new JoinModel();
+        joinModel.table = table;
+        joinModel.leftColumn = leftColumn;
+        joinModel.rightColumn = rightColumn;
+        return joinModel;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+/**
+ * Row locking clauses that can be added to the end of a select statement.  Rendering, and the
+ * clauses a particular database accepts, is controlled by the {@link org.mybatis.dynamic.sql.render.Dialect}.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public enum LockMode {
+    FOR_UPDATE,
+    FOR_UPDATE_SKIP_LOCKED,
+    FOR_UPDATE_NOWAIT,
+    FOR_SHARE
+}
@@ -24,23 +24,36 @@ import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectSupport;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class SelectModel {
+    private List<CommonTableExpression> commonTableExpressions = new ArrayList<>();
     private boolean isDistinct;
     private List<SqlColumn<?>> columns = new ArrayList<>();
     private SqlTable table;
     private Map<SqlTable, String> tableAliases = new HashMap<>();
+    private List<JoinModel> joins = new ArrayList<>();
     private Optional<WhereModel> whereModel;
     private Optional<List<SqlColumn<?>>> orderByColumns;
+    private Optional<Long> limit;
+    private Optional<LockMode> lockMode;
 
     private SelectModel(SqlTable table) {
         this.table = table;
     }
     
+    public Stream<CommonTableExpression> commonTableExpressions() {
+        return commonTableExpressions.stream();
+    }
+    
+    public boolean isRecursive() {
+        return commonTableExpressions().anyMatch(CommonTableExpression::isRecursive);
+    }
+    
     public boolean isDistinct() {
         return isDistinct;
     }
@@ -61,6 +74,10 @@ public class SelectModel {
         return tableAliases;
     }
 
+    public Stream<JoinModel> joins() {
+        return joins.stream();
+    }
+    
     public Optional<WhereModel> whereModel() {
         return whereModel;
     }
@@ -69,22 +86,43 @@ public class SelectModel {
         return orderByColumns.flatMap(cl -> Optional.of(cl.stream()));
     }
     
+    public Optional<Long> limit() {
+        return limit;
+    }
+    
+    public Optional<LockMode> lockMode() {
+        return lockMode;
+    }
+    
     public SelectSupport render(RenderingStrategy renderingStrategy) {
         return SelectRenderer.of(this).render(renderingStrategy);
     }
     
+    public SelectSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return SelectRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
     public static class Builder {
+        private List<CommonTableExpression> commonTableExpressions = new ArrayList<>();
         private boolean isDistinct;
         private List<SqlColumn<?>> columns = new ArrayList<>();
         private SqlTable table;
         private Map<SqlTable, String> tableAliases = new HashMap<>();
+        private List<JoinModel> joins = new ArrayList<>();
         private WhereModel whereModel;
         private List<SqlColumn<?>> orderByColumns;
+        private Long limit;
+        private LockMode lockMode;
         
         public Builder(SqlTable table) {
             this.table = table;
         }
         
+        public Builder withCommonTableExpressions(List<CommonTableExpression> commonTableExpressions) {
+            this.commonTableExpressions.addAll(commonTableExpressions);
+            return this;
+        }
+        
         public Builder isDistinct(boolean isDistinct) {
             this.isDistinct = isDistinct;
             return this;
@@ -100,6 +138,16 @@ public class SelectModel {
             return this;
         }
         
+        public Builder withJoins(List<JoinModel> joins) {
+            this.joins.addAll(joins);
+            return this;
+        }
+        
+        public Builder withJoinTableAliases(Map<SqlTable, String> joinTableAliases) {
+            tableAliases.putAll(joinTableAliases);
+            return this;
+        }
+        
         public Builder withWhereModel(WhereModel whereModel) {
             this.whereModel = whereModel;
             return this;
@@ -110,13 +158,27 @@ public class SelectModel {
             return this;
         }
         
+        public Builder withLimit(Long limit) {
+            this.limit = limit;
+            return this;
+        }
+        
+        public Builder withLockMode(LockMode lockMode) {
+            this.lockMode = lockMode;
+            return this;
+        }
+        
         public SelectModel build() {
             SelectModel selectModel = new SelectModel(table);
+            selectModel.commonTableExpressions.addAll(commonTableExpressions);
             selectModel.columns.addAll(columns);
             selectModel.isDistinct = isDistinct;
             selectModel.orderByColumns = Optional.ofNullable(orderByColumns);
             selectModel.tableAliases.putAll(tableAliases);
+            selectModel.joins.addAll(joins);
             selectModel.whereModel = Optional.ofNullable(whereModel);
+            selectModel.limit = Optional.ofNullable(limit);
+            selectModel.lockMode = Optional.ofNullable(lockMode);
             return selectModel;
         }
     }
@@ -15,8 +15,11 @@
  */
 package org.mybatis.dynamic.sql.select;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.mybatis.dynamic.sql.Condition;
 import org.mybatis.dynamic.sql.SqlColumn;
@@ -27,12 +30,17 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class SelectModelBuilder {
 
+    private List<CommonTableExpression> commonTableExpressions = new ArrayList<>();
     private boolean isDistinct;
     private List<SqlColumn<?>> columns;
     private SqlTable table;
     private String tableAlias;
+    private List<JoinModel> joins = new ArrayList<>();
+    private Map<SqlTable, String> joinTableAliases = new HashMap<>();
     private WhereModel whereModel;
     private List<SqlColumn<?>> orderByColumns;
+    private Long limit;
+    private LockMode lockMode;
     
     private SelectModelBuilder(SqlColumn<?>...columns) {
         this.columns = Arrays.asList(columns);
@@ -59,21 +67,58 @@ public class SelectModelBuilder {
         return builder;
     }
     
+    SelectModelBuilder withCommonTableExpressions(List<CommonTableExpression> commonTableExpressions) {
+        this.commonTableExpressions.addAll(commonTableExpressions);
+        return this;
+    }
+    
     protected SelectModel buildModel() {
         return new SelectModel.Builder(table)
+                .withCommonTableExpressions(commonTableExpressions)
                 .isDistinct(isDistinct)
                 .withColumns(columns)
                 .withTableAlias(tableAlias)
+                .withJoins(joins)
+                .withJoinTableAliases(joinTableAliases)
                 .withWhereModel(whereModel)
                 .withOrderByColumns(orderByColumns)
+                .withLimit(limit)
+                .withLockMode(lockMode)
                 .build();
     }
     
+    private SelectSupportAfterLimitBuilder applyLimit(long limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be greater than zero"); //$NON-NLS-1$
+        }
+        this.limit = limit;
+        return new SelectSupportAfterLimitBuilder();
+    }
+    
+    private SelectSupportForUpdateBuilder applyForUpdate() {
+        lockMode = LockMode.FOR_UPDATE;
+        return new SelectSupportForUpdateBuilder();
+    }
+    
+    private SelectSupportAfterLockBuilder applyForShare() {
+        lockMode = LockMode.FOR_SHARE;
+        return new SelectSupportAfterLockBuilder();
+    }
+    
     public class SelectSupportAfterFromBuilder {
         private SelectSupportAfterFromBuilder() {
             super();
         }
         
+        public JoinOnBuilder join(SqlTable joinTable) {
+            return new JoinOnBuilder(joinTable);
+        }
+        
+        public JoinOnBuilder join(SqlTable joinTable, String joinTableAlias) {
+            joinTableAliases.put(joinTable, joinTableAlias);
+            return new JoinOnBuilder(joinTable);
+        }
+        
         public <T> SelectSupportWhereBuilder where(SqlColumn<T> column, Condition<T> condition) {
             return new SelectSupportWhereBuilder(column, condition);
         }
@@ -88,11 +133,36 @@ public class SelectModelBuilder {
             return new SelectSupportAfterOrderByBuilder();
         }
         
+        public SelectSupportAfterLimitBuilder limit(long limit) {
+            return applyLimit(limit);
+        }
+        
+        public SelectSupportForUpdateBuilder forUpdate() {
+            return applyForUpdate();
+        }
+        
+        public SelectSupportAfterLockBuilder forShare() {
+            return applyForShare();
+        }
+        
         public SelectModel build() {
             return buildModel();
         }
     }
     
+    public class JoinOnBuilder {
+        private SqlTable joinTable;
+        
+        private JoinOnBuilder(SqlTable joinTable) {
+            this.joinTable = joinTable;
+        }
+        
+        public <T> SelectSupportAfterFromBuilder on(SqlColumn<T> leftColumn, SqlColumn<T> rightColumn) {
+            joins.add(JoinModel.of(joinTable, leftColumn, rightColumn));
+            return new SelectSupportAfterFromBuilder();
+        }
+    }
+    
     public class SelectSupportWhereBuilder extends AbstractWhereModelBuilder<SelectSupportWhereBuilder> {
         private <T> SelectSupportWhereBuilder(SqlColumn<T> column, Condition<T> condition) {
             super(column, condition);
@@ -109,6 +179,21 @@ public class SelectModelBuilder {
             return new SelectSupportAfterOrderByBuilder();
         }
         
+        public SelectSupportAfterLimitBuilder limit(long limit) {
+            whereModel = buildWhereModel();
+            return applyLimit(limit);
+        }
+        
+        public SelectSupportForUpdateBuilder forUpdate() {
+            whereModel = buildWhereModel();
+            return applyForUpdate();
+        }
+        
+        public SelectSupportAfterLockBuilder forShare() {
+            whereModel = buildWhereModel();
+            return applyForShare();
+        }
+        
         public SelectModel build() {
             whereModel = buildWhereModel();
             return buildModel();
@@ -125,6 +210,66 @@ public class SelectModelBuilder {
             super();
         }
         
+        public SelectSupportAfterLimitBuilder limit(long limit) {
+            return applyLimit(limit);
+        }
+        
+        public SelectSupportForUpdateBuilder forUpdate() {
+            return applyForUpdate();
+        }
+        
+        public SelectSupportAfterLockBuilder forShare() {
+            return applyForShare();
+        }
+        
+        public SelectModel build() {
+            return buildModel();
+        }
+    }
+    
+    public class SelectSupportAfterLimitBuilder {
+        private SelectSupportAfterLimitBuilder() {
+            super();
+        }
+        
+        public SelectSupportForUpdateBuilder forUpdate() {
+            return applyForUpdate();
+        }
+        
+        public SelectSupportAfterLockBuilder forShare() {
+            return applyForShare();
+        }
+        
+        public SelectModel build() {
+            return buildModel();
+        }
+    }
+    
+    public class SelectSupportForUpdateBuilder {
+        private SelectSupportForUpdateBuilder() {
+            super();
+        }
+        
+        public SelectSupportAfterLockBuilder skipLocked() {
+            lockMode = LockMode.FOR_UPDATE_SKIP_LOCKED;
+            return new SelectSupportAfterLockBuilder();
+        }
+        
+        public SelectSupportAfterLockBuilder noWait() {
+            lockMode = LockMode.FOR_UPDATE_NOWAIT;
+            return new SelectSupportAfterLockBuilder();
+        }
+        
+        public SelectModel build() {
+            return buildModel();
+        }
+    }
+    
+    public class SelectSupportAfterLockBuilder {
+        private SelectSupportAfterLockBuilder() {
+            super();
+        }
+        
         public SelectModel build() {
             return buildModel();
         }
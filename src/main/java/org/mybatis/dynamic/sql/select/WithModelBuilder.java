@@ -0,0 +1,107 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Builds the "with" clause of a select statement.  Each common table expression is given a name
+ * (a {@link SqlTable}) and one or more select models that will be combined with "union all".  A
+ * recursive common table expression will typically have an anchor member and a recursive member
+ * that joins back to the common table expression itself.
+ * 
+ * <p>The builder finishes by starting the main select statement, which can then select from, or join to,
+ * any of the common table expressions.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class WithModelBuilder {
+    
+    private List<CommonTableExpression> commonTableExpressions = new ArrayList<>();
+    
+    private WithModelBuilder() {
+        super();
+    }
+    
+    public static WithAsBuilder with(SqlTable table, SqlColumn<?>...columns) {
+        return new WithModelBuilder().new WithAsBuilder(table, false, columns);
+    }
+    
+    public static WithAsBuilder withRecursive(SqlTable table, SqlColumn<?>...columns) {
+        return new WithModelBuilder().new WithAsBuilder(table, true, columns);
+    }
+    
+    public class WithAsBuilder {
+        private CommonTableExpression.Builder builder;
+        
+        private WithAsBuilder(SqlTable table, boolean isRecursive, SqlColumn<?>...columns) {
+            builder = new CommonTableExpression.Builder(table)
+                    .isRecursive(isRecursive)
+                    .withColumns(Arrays.asList(columns));
+        }
+        
+        public WithUnionBuilder as(SelectModel selectModel) {
+            return new WithUnionBuilder(builder, selectModel);
+        }
+    }
+    
+    public class WithUnionBuilder {
+        private CommonTableExpression.Builder builder;
+        private List<SelectModel> selectModels = new ArrayList<>();
+        
+        private WithUnionBuilder(CommonTableExpression.Builder builder, SelectModel selectModel) {
+            this.builder = builder;
+            selectModels.add(selectModel);
+        }
+        
+        public WithUnionBuilder unionAll(SelectModel selectModel) {
+            selectModels.add(selectModel);
+            return this;
+        }
+        
+        public WithAsBuilder with(SqlTable table, SqlColumn<?>...columns) {
+            addCommonTableExpression();
+            return new WithAsBuilder(table, false, columns);
+        }
+        
+        public WithAsBuilder withRecursive(SqlTable table, SqlColumn<?>...columns) {
+            addCommonTableExpression();
+            return new WithAsBuilder(table, true, columns);
+        }
+        
+        public SelectModelBuilder select(SqlColumn<?>...columns) {
+            addCommonTableExpression();
+            return SelectModelBuilder.of(columns)
+                    .withCommonTableExpressions(commonTableExpressions);
+        }
+        
+        public SelectModelBuilder selectDistinct(SqlColumn<?>...columns) {
+            addCommonTableExpression();
+            return SelectModelBuilder.ofDistinct(columns)
+                    .withCommonTableExpressions(commonTableExpressions);
+        }
+        
+        private void addCommonTableExpression() {
+            commonTableExpressions.add(builder.withSelectModels(selectModels).build());
+        }
+    }
+}
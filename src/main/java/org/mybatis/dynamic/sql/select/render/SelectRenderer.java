@@ -15,15 +15,21 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.CommonTableExpression;
+import org.mybatis.dynamic.sql.select.JoinModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 import org.mybatis.dynamic.sql.where.render.WhereSupport;
 
@@ -35,13 +41,40 @@ public class SelectRenderer {
     }
     
     public SelectSupport render(RenderingStrategy renderingStrategy) {
+        return render(renderingStrategy, Dialect.GENERIC);
+    }
+    
+    public SelectSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return render(renderingStrategy, dialect, new AtomicInteger(1));
+    }
+    
+    /**
+     * Renders the select statement, drawing parameter numbers from the supplied sequence.  Common table
+     * expressions are rendered first so that parameters are numbered in the order they appear in the statement.
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @param dialect the dialect used for database specific clauses
+     * @param sequence the parameter sequence shared by every part of the statement
+     * @return the rendered select statement
+     */
+    public SelectSupport render(RenderingStrategy renderingStrategy, Dialect dialect, AtomicInteger sequence) {
+        Optional<FragmentAndParameters> withClause = renderWithClause(renderingStrategy, dialect, sequence);
+        
         SelectSupport.Builder builder = new SelectSupport.Builder(calculateTableName(selectModel.table()))
+                .withWithClause(withClause.map(FragmentAndParameters::fragment))
                 .isDistinct(selectModel.isDistinct())
                 .withColumnList(calculateColumnList())
-                .withOrderByClause(calculateOrderByPhrase());
+                .withJoinClause(calculateJoinClause())
+                .withOrderByClause(calculateOrderByPhrase())
+                .withLimitClause(selectModel.limit().map(dialect::getLimitClause))
+                .withLockClause(selectModel.lockMode()
+                        .map(lm -> dialect.getLockClause(lm, selectModel.limit().isPresent())));
+        
+        withClause.ifPresent(wc -> builder.withParameters(wc.parameters()));
         
         selectModel.whereModel().ifPresent(wm -> {
-            WhereSupport whereSupport = WhereRenderer.of(wm, renderingStrategy, selectModel.tableAliases()).render();
+            WhereSupport whereSupport = WhereRenderer.of(wm, renderingStrategy, selectModel.tableAliases(), sequence)
+                    .render();
             builder.withWhereClause(whereSupport.getWhereClause())
                 .withParameters(whereSupport.getParameters());
         });
@@ -49,12 +82,65 @@ public class SelectRenderer {
         return builder.build();
     }
     
+    private Optional<FragmentAndParameters> renderWithClause(RenderingStrategy renderingStrategy, Dialect dialect,
+            AtomicInteger sequence) {
+        List<FragmentAndParameters> renderedExpressions = selectModel.commonTableExpressions()
+                .map(cte -> renderCommonTableExpression(cte, renderingStrategy, dialect, sequence))
+                .collect(Collectors.toList());
+        
+        if (renderedExpressions.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        String prefix = selectModel.isRecursive() ? "with recursive " : "with "; //$NON-NLS-1$ //$NON-NLS-2$
+        FragmentAndParameters.Builder builder = new FragmentAndParameters.Builder(renderedExpressions.stream()
+                .map(FragmentAndParameters::fragment)
+                .collect(Collectors.joining(", ", prefix, ""))); //$NON-NLS-1$ //$NON-NLS-2$
+        renderedExpressions.forEach(fp -> builder.withParameters(fp.parameters()));
+        return Optional.of(builder.build());
+    }
+    
+    private FragmentAndParameters renderCommonTableExpression(CommonTableExpression commonTableExpression,
+            RenderingStrategy renderingStrategy, Dialect dialect, AtomicInteger sequence) {
+        List<SelectSupport> members = commonTableExpression.selectModels()
+                .map(sm -> SelectRenderer.of(sm).render(renderingStrategy, dialect, sequence))
+                .collect(Collectors.toList());
+        
+        String fragment = commonTableExpression.table().name()
+                + commonTableExpression.columns()
+                    .map(SqlColumn::name)
+                    .collect(CustomCollectors.joining(", ", " (", ")")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + members.stream()
+                    .map(SelectSupport::getFullSelectStatement)
+                    .collect(Collectors.joining(" union all ", " as (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        
+        FragmentAndParameters.Builder builder = new FragmentAndParameters.Builder(fragment);
+        members.forEach(ss -> builder.withParameters(ss.getParameters()));
+        return builder.build();
+    }
+    
     private String calculateTableName(SqlTable table) {
         return selectModel.tableAlias(Optional.of(table))
                 .map(a -> table.name() + " " + a) //$NON-NLS-1$
                 .orElse(table.name());
     }
     
+    private Optional<String> calculateJoinClause() {
+        String joinClause = selectModel.joins()
+                .map(this::joinPhrase)
+                .collect(CustomCollectors.joining(" ", "", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return joinClause.isEmpty() ? Optional.empty() : Optional.of(joinClause);
+    }
+    
+    private String joinPhrase(JoinModel joinModel) {
+        return "join " //$NON-NLS-1$
+                + calculateTableName(joinModel.table())
+                + " on " //$NON-NLS-1$
+                + calculateColumnNameAndTableAlias(joinModel.leftColumn())
+                + " = " //$NON-NLS-1$
+                + calculateColumnNameAndTableAlias(joinModel.rightColumn());
+    }
+    
     private String calculateColumnList() {
         return selectModel.columns()
                 .map(this::nameIncludingTableAndColumnAlias)
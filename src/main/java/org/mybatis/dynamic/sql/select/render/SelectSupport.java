@@ -25,16 +25,28 @@ public class SelectSupport extends AbstractSqlSupport {
     
     private static final String DISTINCT_STRING = "distinct"; //$NON-NLS-1$
 
+    private Optional<String> withClause;
     private String columnList;
+    private Optional<String> joinClause;
     private Optional<String> whereClause;
     private Map<String, Object> parameters = new HashMap<>();
     private Optional<String> distinct;
     private Optional<String> orderByClause;
+    private Optional<String> limitClause;
+    private Optional<String> lockClause;
     
     private SelectSupport(String tableName) {
         super(tableName);
     }
     
+    public String getWithClause() {
+        return withClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> withClause() {
+        return withClause;
+    }
+    
     public String getDistinct() {
         return distinct().orElse(EMPTY_STRING);
     }
@@ -43,6 +55,14 @@ public class SelectSupport extends AbstractSqlSupport {
         return distinct;
     }
     
+    public String getJoinClause() {
+        return joinClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> joinClause() {
+        return joinClause;
+    }
+    
     public String getWhereClause() {
         return whereClause.orElse(EMPTY_STRING);
     }
@@ -63,32 +83,61 @@ public class SelectSupport extends AbstractSqlSupport {
         return orderByClause;
     }
     
+    public String getLimitClause() {
+        return limitClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> limitClause() {
+        return limitClause;
+    }
+    
+    public String getLockClause() {
+        return lockClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> lockClause() {
+        return lockClause;
+    }
+    
     public String getColumnList() {
         return columnList;
     }
     
     public String getFullSelectStatement() {
-        return "select " //$NON-NLS-1$
+        return withClause().map(w -> w + ONE_SPACE).orElse(EMPTY_STRING)
+                + "select " //$NON-NLS-1$
                 + distinct().map(d -> d + ONE_SPACE).orElse(EMPTY_STRING)
                 + getColumnList()
                 + " from " //$NON-NLS-1$
                 + tableName()
+                + joinClause().map(j -> ONE_SPACE + j).orElse(EMPTY_STRING)
                 + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING)
-                + orderByClause().map(o -> ONE_SPACE + o).orElse(EMPTY_STRING);
+                + orderByClause().map(o -> ONE_SPACE + o).orElse(EMPTY_STRING)
+                + limitClause().map(l -> ONE_SPACE + l).orElse(EMPTY_STRING)
+                + lockClause().map(l -> ONE_SPACE + l).orElse(EMPTY_STRING);
     }
     
     public static class Builder {
         private String tableName;
+        private Optional<String> withClause = Optional.empty();
         private String distinct;
         private Optional<String> orderByClause = Optional.empty();
         private String whereClause;
         private Map<String, Object> parameters = new HashMap<>();
         private String columnList;
+        private Optional<String> joinClause = Optional.empty();
+        private Optional<String> limitClause = Optional.empty();
+        private Optional<String> lockClause = Optional.empty();
         
         public Builder(String tableName) {
             this.tableName = tableName;
         }
         
+        public Builder withWithClause(Optional<String> withClause) {
+            this.withClause = withClause;
+            return this;
+        }
+        
         public Builder isDistinct(boolean isDistinct) {
             distinct = isDistinct ? DISTINCT_STRING : null;
             return this;
@@ -99,6 +148,21 @@ public class SelectSupport extends AbstractSqlSupport {
             return this;
         }
         
+        public Builder withJoinClause(Optional<String> joinClause) {
+            this.joinClause = joinClause;
+            return this;
+        }
+        
+        public Builder withLimitClause(Optional<String> limitClause) {
+            this.limitClause = limitClause;
+            return this;
+        }
+        
+        public Builder withLockClause(Optional<String> lockClause) {
+            this.lockClause = lockClause;
+            return this;
+        }
+        
         public Builder withWhereClause(String whereClause) {
             this.whereClause = whereClause;
             return this;
@@ -116,6 +180,10 @@ public class SelectSupport extends AbstractSqlSupport {
         
         public SelectSupport build() {
             SelectSupport selectSupport = new SelectSupport(tableName);
+            selectSupport.withClause = withClause;
+            selectSupport.joinClause = joinClause;
+            selectSupport.limitClause = limitClause;
+            selectSupport.lockClause = lockClause;
             selectSupport.distinct = Optional.ofNullable(distinct);
             selectSupport.orderByClause = orderByClause;
             selectSupport.whereClause = Optional.ofNullable(whereClause);
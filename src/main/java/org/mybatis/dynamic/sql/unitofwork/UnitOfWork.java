@@ -0,0 +1,219 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.unitofwork;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.unitofwork.WriteBatch.WriteType;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+
+/**
+ * Collects inserts, updates and deletes and executes them as few JDBC batches as possible.
+ * 
+ * <p>At flush time the statements are rendered and grouped by their SQL, so there is one batch for each distinct
+ * statement.  Inserts run first, then updates, then deletes.  Inserts and updates run in the declared table order
+ * (parent tables first) and deletes run in the reverse order (child tables first), so foreign keys are satisfied
+ * at every step.  Tables that are not declared follow the declared tables for inserts and updates, in the order
+ * they were first used.
+ * 
+ * <p>Statements with the same SQL are executed together, so the order of writes to one table can change.
+ * Do not queue two writes to the same row with different statements if their order matters.
+ * 
+ * <p>A unit of work is not thread safe.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class UnitOfWork {
+    private RenderingStrategy renderingStrategy;
+    private List<SqlTable> tableOrder;
+    private List<QueuedWrite> queuedWrites = new ArrayList<>();
+    
+    private UnitOfWork(RenderingStrategy renderingStrategy, List<SqlTable> tableOrder) {
+        this.renderingStrategy = renderingStrategy;
+        this.tableOrder = tableOrder;
+    }
+    
+    public UnitOfWork insert(InsertModel<?> insertModel) {
+        checkNoReturningClause(insertModel.returningColumns().isPresent());
+        queue(WriteType.INSERT, insertModel.table(), () -> {
+            InsertSupport<?> insertSupport = insertModel.render(renderingStrategy);
+            return new RenderedWrite(insertSupport.getFullInsertStatement(), insertSupport,
+                    insertSupport.getRecord());
+        });
+        return this;
+    }
+    
+    public UnitOfWork update(UpdateModel updateModel) {
+        checkNoReturningClause(updateModel.returningColumns().isPresent());
+        queue(WriteType.UPDATE, updateModel.table(), () -> {
+            UpdateSupport updateSupport = updateModel.render(renderingStrategy);
+            return new RenderedWrite(updateSupport.getFullUpdateStatement(), updateSupport,
+                    updateSupport.getParameters());
+        });
+        return this;
+    }
+    
+    public UnitOfWork delete(DeleteModel deleteModel) {
+        checkNoReturningClause(deleteModel.returningColumns().isPresent());
+        queue(WriteType.DELETE, deleteModel.table(), () -> {
+            DeleteSupport deleteSupport = deleteModel.render(renderingStrategy);
+            return new RenderedWrite(deleteSupport.getFullDeleteStatement(), deleteSupport,
+                    deleteSupport.getParameters());
+        });
+        return this;
+    }
+    
+    public int pendingWrites() {
+        return queuedWrites.size();
+    }
+    
+    /**
+     * Renders the queued writes and groups them into batches, in execution order.  The queue is not changed.
+     * 
+     * @return the batches
+     */
+    public List<WriteBatch> render() {
+        return Stream.of(WriteType.values())
+                .flatMap(this::batchesFor)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Executes every batch and clears the queue.  If the executor throws an exception, the queue is left
+     * unchanged - the caller should roll back the transaction.
+     * 
+     * <p>Drivers may report {@link java.sql.Statement#SUCCESS_NO_INFO} (a negative value) instead of an update
+     * count.  Negative counts are not added to the total, so the total is a lower bound when a driver does not
+     * report exact counts.
+     * 
+     * @param batchExecutor executes one batch and returns the update count of each statement
+     * @return the total number of rows reported as affected
+     */
+    public int flush(Function<WriteBatch, int[]> batchExecutor) {
+        int rows = render().stream()
+                .map(batchExecutor)
+                .flatMapToInt(IntStream::of)
+                .filter(count -> count > 0)
+                .sum();
+        queuedWrites.clear();
+        return rows;
+    }
+    
+    private Stream<WriteBatch> batchesFor(WriteType type) {
+        Map<String, WriteBatch> batches = new LinkedHashMap<>();
+        queuedWrites.stream()
+                .filter(w -> w.type == type)
+                .forEach(w -> {
+                    RenderedWrite renderedWrite = w.renderer.render();
+                    batches.computeIfAbsent(renderedWrite.statement,
+                            s -> new WriteBatch(type, w.table.name(), s))
+                        .add(renderedWrite.support, renderedWrite.parameterObject);
+                });
+        
+        Comparator<WriteBatch> tableOrder = Comparator.comparingInt(this::tableRank);
+        return batches.values().stream()
+                .sorted(type == WriteType.DELETE ? tableOrder.reversed() : tableOrder);
+    }
+    
+    private int tableRank(WriteBatch batch) {
+        return IntStream.range(0, tableOrder.size())
+                .filter(i -> tableOrder.get(i).name().equals(batch.tableName()))
+                .findFirst()
+                .orElse(tableOrder.size());
+    }
+    
+    private void queue(WriteType type, SqlTable table, Renderer renderer) {
+        queuedWrites.add(new QueuedWrite(type, table, renderer));
+    }
+    
+    private void checkNoReturningClause(boolean hasReturningClause) {
+        if (hasReturningClause) {
+            throw new IllegalArgumentException("Statements with a returning clause cannot be batched"); //$NON-NLS-1$
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Renderer {
+        RenderedWrite render();
+    }
+    
+    private static class QueuedWrite {
+        private WriteType type;
+        private SqlTable table;
+        private Renderer renderer;
+        
+        private QueuedWrite(WriteType type, SqlTable table, Renderer renderer) {
+            this.type = type;
+            this.table = table;
+            this.renderer = renderer;
+        }
+    }
+    
+    private static class RenderedWrite {
+        private String statement;
+        private AbstractSqlSupport support;
+        private Object parameterObject;
+        
+        private RenderedWrite(String statement, AbstractSqlSupport support, Object parameterObject) {
+            this.statement = statement;
+            this.support = support;
+            this.parameterObject = parameterObject;
+        }
+    }
+    
+    public static class Builder {
+        private RenderingStrategy renderingStrategy;
+        private List<SqlTable> tableOrder = new ArrayList<>();
+        
+        public Builder(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+        }
+        
+        /**
+         * Declares the order of tables for foreign keys.  A table that is referenced by another table must
+         * appear before it.
+         * 
+         * @param tables the tables, parents first
+         * @return this builder
+         */
+        public Builder withTableOrder(SqlTable...tables) {
+            tableOrder = Arrays.asList(tables);
+            return this;
+        }
+        
+        public UnitOfWork build() {
+            return new UnitOfWork(renderingStrategy, tableOrder);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.unitofwork;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * A group of rendered statements with identical SQL that can be executed as one JDBC batch.
+ * 
+ * <p>With MyBatis, execute each of the {@link #supports()} with the matching mapper method in a session opened
+ * with {@code ExecutorType.BATCH}.  With Spring, pass {@link #statement()} and one parameter source for each of the
+ * {@link #parameterObjects()} to {@code NamedParameterJdbcTemplate.batchUpdate(...)}.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class WriteBatch {
+    private WriteType type;
+    private String tableName;
+    private String statement;
+    private List<AbstractSqlSupport> supports = new ArrayList<>();
+    private List<Object> parameterObjects = new ArrayList<>();
+    
+    WriteBatch(WriteType type, String tableName, String statement) {
+        this.type = type;
+        this.tableName = tableName;
+        this.statement = statement;
+    }
+    
+    void add(AbstractSqlSupport support, Object parameterObject) {
+        supports.add(support);
+        parameterObjects.add(parameterObject);
+    }
+    
+    public WriteType type() {
+        return type;
+    }
+    
+    public String tableName() {
+        return tableName;
+    }
+    
+    public String statement() {
+        return statement;
+    }
+    
+    /**
+     * Returns the rendered supports - {@code InsertSupport}, {@code UpdateSupport} or {@code DeleteSupport}
+     * depending on the type of the batch.
+     * 
+     * @return the supports in the order they were added to the unit of work
+     */
+    public List<AbstractSqlSupport> supports() {
+        return Collections.unmodifiableList(supports);
+    }
+    
+    /**
+     * Returns the object that holds the parameters of each statement - the record for an insert, or the
+     * parameter map for an update or delete.
+     * 
+     * @return the parameter objects in the same order as the supports
+     */
+    public List<Object> parameterObjects() {
+        return Collections.unmodifiableList(parameterObjects);
+    }
+    
+    public int size() {
+        return supports.size();
+    }
+    
+    public enum WriteType {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateRenderer;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateSupport;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class BulkUpdateModel<T> {
+    private SqlTable table;
+    private List<T> records = new ArrayList<>();
+    private PropertyMapping keyMapping;
+    private List<PropertyMapping> columnMappings = new ArrayList<>();
+    private Optional<Integer> chunkSize;
+    
+    private BulkUpdateModel() {
+        super();
+    }
+    
+    public SqlTable table() {
+        return table;
+    }
+    
+    public List<T> records() {
+        return records;
+    }
+    
+    public PropertyMapping keyMapping() {
+        return keyMapping;
+    }
+    
+    public Stream<PropertyMapping> columnMappings() {
+        return columnMappings.stream();
+    }
+    
+    /**
+     * Returns the maximum number of records in each rendered statement.  If this is empty,
+     * the chunk size is calculated from the dialect's bind parameter limit.
+     * 
+     * @return the chunk size
+     */
+    public Optional<Integer> chunkSize() {
+        return chunkSize;
+    }
+    
+    /**
+     * Renders one statement for each chunk of records.
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @return a list with one support object per chunk
+     */
+    public List<BulkUpdateSupport<T>> render(RenderingStrategy renderingStrategy) {
+        return BulkUpdateRenderer.of(this).render(renderingStrategy);
+    }
+    
+    public List<BulkUpdateSupport<T>> render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return BulkUpdateRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
+    public static class Builder<T> {
+        private SqlTable table;
+        private List<T> records = new ArrayList<>();
+        private PropertyMapping keyMapping;
+        private List<PropertyMapping> columnMappings = new ArrayList<>();
+        private Integer chunkSize;
+        
+        public Builder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public Builder<T> withRecords(List<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+        
+        public Builder<T> withKeyMapping(PropertyMapping keyMapping) {
+            this.keyMapping = keyMapping;
+            return this;
+        }
+        
+        public Builder<T> withColumnMappings(List<PropertyMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+        
+        public Builder<T> withChunkSize(Integer chunkSize) {
+            if (chunkSize != null && chunkSize < 1) {
+                throw new IllegalArgumentException("The chunk size must be greater than zero"); //$NON-NLS-1$
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+        
+        public BulkUpdateModel<T> build() {
+            BulkUpdateModel<T> bulkUpdateModel = new BulkUpdateModel<>();
+            bulkUpdateModel.table = table;
+            bulkUpdateModel.records.addAll(records);
+            bulkUpdateModel.keyMapping = keyMapping;
+            bulkUpdateModel.columnMappings.addAll(columnMappings);
+            bulkUpdateModel.chunkSize = Optional.ofNullable(chunkSize);
+            return bulkUpdateModel;
+        }
+    }
+}
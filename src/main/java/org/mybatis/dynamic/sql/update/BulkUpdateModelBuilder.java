@@ -0,0 +1,111 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.KeyOrder;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * Builds a set based update that writes different values to many rows with a single statement.
+ * Each record supplies a key value and the new column values.  Large collections are split into
+ * chunks so that no statement exceeds the bind parameter limit of the database.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class BulkUpdateModelBuilder<T> {
+
+    private SqlTable table;
+    private List<T> records;
+    private List<PropertyMapping> columnMappings = new ArrayList<>();
+    
+    private BulkUpdateModelBuilder(SqlTable table, Collection<T> records) {
+        this.table = table;
+        this.records = new ArrayList<>(records);
+    }
+    
+    public <F> BulkUpdateSetFinisher<F> set(SqlColumn<F> column) {
+        return new BulkUpdateSetFinisher<>(column);
+    }
+    
+    public BulkUpdateAfterKeyBuilder byKey(SqlColumn<?> keyColumn, String keyProperty) {
+        return new BulkUpdateAfterKeyBuilder(PropertyMapping.of(keyColumn, keyProperty));
+    }
+    
+    public static <T> BulkUpdateModelBuilder<T> of(SqlTable table, Collection<T> records) {
+        return new BulkUpdateModelBuilder<>(table, records);
+    }
+    
+    public class BulkUpdateSetFinisher<F> {
+        private SqlColumn<F> column;
+        
+        public BulkUpdateSetFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+        
+        public BulkUpdateModelBuilder<T> equalToProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return BulkUpdateModelBuilder.this;
+        }
+    }
+    
+    public class BulkUpdateAfterKeyBuilder {
+        private PropertyMapping keyMapping;
+        private Integer chunkSize;
+        private boolean inKeyOrder;
+        
+        private BulkUpdateAfterKeyBuilder(PropertyMapping keyMapping) {
+            this.keyMapping = keyMapping;
+        }
+        
+        public BulkUpdateAfterKeyBuilder withChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+        
+        /**
+         * Sorts the records by key before they are split into chunks, so that every statement locks rows
+         * in key order.
+         * 
+         * @return this builder
+         */
+        public BulkUpdateAfterKeyBuilder inKeyOrder() {
+            this.inKeyOrder = true;
+            return this;
+        }
+        
+        public BulkUpdateModel<T> build() {
+            if (columnMappings.isEmpty()) {
+                throw new IllegalStateException("A bulk update must set at least one column"); //$NON-NLS-1$
+            }
+            KeyOrder keyOrder = KeyOrder.of(Collections.singletonList(keyMapping.property()));
+            return new BulkUpdateModel.Builder<T>(table)
+                    .withRecords(inKeyOrder ? keyOrder.sort(records) : records)
+                    .withKeyMapping(keyMapping)
+                    .withColumnMappings(columnMappings)
+                    .withChunkSize(chunkSize)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.reflection.CompiledGetterFactory;
+
+/**
+ * Builds an update statement that sets only the columns whose values differ between a "before"
+ * and an "after" snapshot of a record.  Property values are read with compiled getters and compared
+ * with {@link Objects#deepEquals(Object, Object)}, so array properties are compared by content.
+ * 
+ * <p>If nothing changed, {@link #hasChanges()} returns false and the statement should not be executed -
+ * an update without any set phrases is not valid SQL.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class ChangedColumnsUpdateModelBuilder<T> {
+
+    private UpdateModelBuilder updateModelBuilder;
+    private T before;
+    private T after;
+    private boolean hasChanges;
+    
+    private ChangedColumnsUpdateModelBuilder(SqlTable table, T before, T after) {
+        this.updateModelBuilder = UpdateModelBuilder.of(table);
+        this.before = before;
+        this.after = after;
+    }
+    
+    public <F> ChangedColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ChangedColumnMappingFinisher<>(column);
+    }
+    
+    public boolean hasChanges() {
+        return hasChanges;
+    }
+    
+    public <F> UpdateModelBuilder.UpdateSupportWhereBuilder where(SqlColumn<F> column, Condition<F> condition) {
+        return updateModelBuilder.where(column, condition);
+    }
+    
+    public <F> UpdateModelBuilder.UpdateSupportWhereBuilder where(SqlColumn<F> column, Condition<F> condition,
+            SqlCriterion<?>...subCriteria) {
+        return updateModelBuilder.where(column, condition, subCriteria);
+    }
+    
+    public static <T> ChangedColumnsUpdateModelBuilder<T> of(SqlTable table, T before, T after) {
+        return new ChangedColumnsUpdateModelBuilder<>(table, before, after);
+    }
+    
+    public class ChangedColumnMappingFinisher<F> {
+        private SqlColumn<F> column;
+        
+        public ChangedColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public ChangedColumnsUpdateModelBuilder<T> toProperty(String property) {
+            Object beforeValue = getPropertyValue(before, property);
+            Object afterValue = getPropertyValue(after, property);
+            if (!Objects.deepEquals(beforeValue, afterValue)) {
+                hasChanges = true;
+                if (afterValue == null) {
+                    updateModelBuilder.set(column).equalToNull();
+                } else {
+                    updateModelBuilder.set(column).equalTo((F) afterValue);
+                }
+            }
+            return ChangedColumnsUpdateModelBuilder.this;
+        }
+        
+        private Object getPropertyValue(T record, String property) {
+            if (record == null) {
+                return null;
+            }
+            Function<Object, Object> getter =
+                    CompiledGetterFactory.instance().getterFor(record.getClass(), property);
+            return getter.apply(record);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+import org.mybatis.dynamic.sql.util.ChunkedExecutor;
+import org.mybatis.dynamic.sql.where.render.WhereSupport;
+
+/**
+ * Executes an update statement in chunks.  Each chunk updates at most the chunk size number of rows,
+ * and chunks are executed until no rows are updated.
+ * 
+ * <p>WARNING! The update must change rows so that they no longer match the where clause.  If it does not,
+ * the same rows are updated in every chunk and execution will never end.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class ChunkedUpdate {
+    private UpdateModel updateModel;
+    private SqlColumn<?> keyColumn;
+    private int chunkSize;
+    private Optional<AdaptiveBatchSize> adaptiveChunkSize;
+    private long pauseMillis;
+    
+    private ChunkedUpdate() {
+        super();
+    }
+    
+    public int chunkSize() {
+        return adaptiveChunkSize.map(AdaptiveBatchSize::batchSize).orElse(chunkSize);
+    }
+    
+    public long pauseMillis() {
+        return pauseMillis;
+    }
+    
+    /**
+     * Renders the statement for one chunk.  The statement is the same for every chunk unless an adaptive
+     * chunk size is used.
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @param dialect the dialect
+     * @return the limited update statement
+     */
+    public UpdateSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return render(renderingStrategy, dialect, chunkSize());
+    }
+    
+    private UpdateSupport render(RenderingStrategy renderingStrategy, Dialect dialect, int limit) {
+        UpdateSupport updateSupport = updateModel.render(renderingStrategy, dialect);
+        String whereClause = dialect.getLimitedWhereClause(updateSupport.tableName(), keyColumn.name(),
+                updateSupport.whereClause(), limit);
+        return new UpdateSupport.Builder(updateSupport.tableName())
+                .withSetClause(updateSupport.getSetClause())
+                .withWhereSupport(Optional.of(WhereSupport.of(whereClause, updateSupport.getParameters())))
+                .withReturningClause(updateSupport.returningClause())
+                .build();
+    }
+    
+    public int execute(RenderingStrategy renderingStrategy, Dialect dialect, ToIntFunction<UpdateSupport> executor) {
+        if (adaptiveChunkSize.isPresent()) {
+            return ChunkedExecutor.executeUntilNoRowsAffected(
+                    limit -> executor.applyAsInt(render(renderingStrategy, dialect, limit)),
+                    adaptiveChunkSize.get(), pauseMillis);
+        }
+        
+        UpdateSupport updateSupport = render(renderingStrategy, dialect);
+        return ChunkedExecutor.executeUntilNoRowsAffected(() -> executor.applyAsInt(updateSupport), pauseMillis);
+    }
+    
+    public static class Builder {
+        private UpdateModel updateModel;
+        private SqlColumn<?> keyColumn;
+        private int chunkSize = 1000;
+        private Optional<AdaptiveBatchSize> adaptiveChunkSize = Optional.empty();
+        private long pauseMillis;
+        
+        public Builder(UpdateModel updateModel, SqlColumn<?> keyColumn) {
+            this.updateModel = updateModel;
+            this.keyColumn = keyColumn;
+        }
+        
+        public Builder withChunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("The chunk size must be greater than zero"); //$NON-NLS-1$
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+        
+        /**
+         * Lets the chunk size follow the measured execution times instead of using a fixed size.
+         * Each chunk is rendered with the current size, so the statement text changes when the size changes.
+         * 
+         * @param adaptiveChunkSize the controller that chooses the chunk size
+         * @return this builder
+         */
+        public Builder withAdaptiveChunkSize(AdaptiveBatchSize adaptiveChunkSize) {
+            this.adaptiveChunkSize = Optional.of(adaptiveChunkSize);
+            return this;
+        }
+        
+        public Builder withPauseMillis(long pauseMillis) {
+            if (pauseMillis < 0) {
+                throw new IllegalArgumentException("The pause must not be negative"); //$NON-NLS-1$
+            }
+            this.pauseMillis = pauseMillis;
+            return this;
+        }
+        
+        public ChunkedUpdate build() {
+            ChunkedUpdate chunkedUpdate = new ChunkedUpdate();
+            chunkedUpdate.updateModel = updateModel;
+            chunkedUpdate.keyColumn = keyColumn;
+            chunkedUpdate.chunkSize = chunkSize;
+            chunkedUpdate.adaptiveChunkSize = adaptiveChunkSize;
+            chunkedUpdate.pauseMillis = pauseMillis;
+            return chunkedUpdate;
+        }
+    }
+}
@@ -19,7 +19,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateSupport;
@@ -30,6 +32,7 @@ public class UpdateModel {
     private SqlTable table;
     private Optional<WhereModel> whereModel;
     private List<UpdateMapping> columnValues;
+    private Optional<List<SqlColumn<?>>> returningColumns;
     
     private UpdateModel() {
         super();
@@ -47,14 +50,23 @@ public class UpdateModel {
         return columnValues.stream();
     }
     
+    public Optional<Stream<SqlColumn<?>>> returningColumns() {
+        return returningColumns.flatMap(rc -> Optional.of(rc.stream()));
+    }
+    
     public UpdateSupport render(RenderingStrategy renderingStrategy) {
         return UpdateRenderer.of(this).render(renderingStrategy);
     }
     
+    public UpdateSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return UpdateRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
     public static class Builder {
         private SqlTable table;
         private WhereModel whereModel;
         private List<UpdateMapping> columnValues;
+        private List<SqlColumn<?>> returningColumns;
         
         public Builder(SqlTable table) {
             this.table = table;
@@ -70,11 +82,17 @@ public class UpdateModel {
             return this;
         }
         
+        public Builder withReturningColumns(List<SqlColumn<?>> returningColumns) {
+            this.returningColumns = returningColumns;
+            return this;
+        }
+        
         public UpdateModel build() {
             UpdateModel model = new UpdateModel();
             model.table = table;
             model.columnValues = columnValues;
             model.whereModel = Optional.ofNullable(whereModel);
+            model.returningColumns = Optional.ofNullable(returningColumns);
             return model;
         }
     }
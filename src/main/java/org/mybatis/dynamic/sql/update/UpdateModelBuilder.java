@@ -16,18 +16,25 @@
 package org.mybatis.dynamic.sql.update;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.mybatis.dynamic.sql.Condition;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.ArithmeticMapping;
+import org.mybatis.dynamic.sql.util.CoalesceMapping;
+import org.mybatis.dynamic.sql.util.ColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.LobSource;
 import org.mybatis.dynamic.sql.util.NullMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 import org.mybatis.dynamic.sql.util.UpdateMapping;
 import org.mybatis.dynamic.sql.util.ValueMapping;
 import org.mybatis.dynamic.sql.where.AbstractWhereModelBuilder;
+import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class UpdateModelBuilder {
 
@@ -63,6 +70,17 @@ public class UpdateModelBuilder {
                 .build();
     }
     
+    /**
+     * WARNING! Calling this method could result in an update statement that updates
+     * all rows in a table.
+     * 
+     * @param columns the columns to return from the updated rows
+     * @return the next step in the builder
+     */
+    public UpdateModelAfterReturningBuilder returning(SqlColumn<?>...columns) {
+        return new UpdateModelAfterReturningBuilder(Optional.empty(), Arrays.asList(columns));
+    }
+    
     public static UpdateModelBuilder of(SqlTable table) {
         return new UpdateModelBuilder(table);
     }
@@ -101,6 +119,46 @@ public class UpdateModelBuilder {
             }
             return UpdateModelBuilder.this;
         }
+        
+        /**
+         * Sets the column from a {@link LobSource}.  The value is bound as a stream of known length when the
+         * statement is executed, so it is not held on the heap.  The statement can be executed with MyBatis or
+         * JDBC, but cannot be rendered for Spring.
+         * 
+         * @param source the source of the value
+         * @return the builder
+         */
+        public UpdateModelBuilder equalToLob(LobSource source) {
+            columnsAndValues.add(ValueMapping.of(LobSource.lobColumn(column), source));
+            return UpdateModelBuilder.this;
+        }
+        
+        public UpdateModelBuilder equalToColumn(SqlColumn<T> otherColumn) {
+            columnsAndValues.add(ColumnMapping.of(column, otherColumn));
+            return UpdateModelBuilder.this;
+        }
+        
+        /**
+         * Sets the column to its current value plus the supplied value.  Note that the result
+         * is null if the current value is null.
+         * 
+         * @param value the value to add
+         * @return the builder
+         */
+        public UpdateModelBuilder equalToColumnPlus(T value) {
+            columnsAndValues.add(ArithmeticMapping.plus(column, value));
+            return UpdateModelBuilder.this;
+        }
+        
+        public UpdateModelBuilder equalToColumnMinus(T value) {
+            columnsAndValues.add(ArithmeticMapping.minus(column, value));
+            return UpdateModelBuilder.this;
+        }
+        
+        public UpdateModelBuilder equalToCoalesce(SqlColumn<T> otherColumn, T value) {
+            columnsAndValues.add(CoalesceMapping.of(column, otherColumn, value));
+            return UpdateModelBuilder.this;
+        }
     }
 
     public class UpdateSupportWhereBuilder extends AbstractWhereModelBuilder<UpdateSupportWhereBuilder> {
@@ -121,9 +179,32 @@ public class UpdateModelBuilder {
                     .build();
         }
         
+        public UpdateModelAfterReturningBuilder returning(SqlColumn<?>...columns) {
+            return new UpdateModelAfterReturningBuilder(Optional.of(buildWhereModel()), Arrays.asList(columns));
+        }
+        
         @Override
         protected UpdateSupportWhereBuilder getThis() {
             return this;
         }
     }
+    
+    public class UpdateModelAfterReturningBuilder {
+        private Optional<WhereModel> whereModel;
+        private List<SqlColumn<?>> returningColumns;
+        
+        private UpdateModelAfterReturningBuilder(Optional<WhereModel> whereModel,
+                List<SqlColumn<?>> returningColumns) {
+            this.whereModel = whereModel;
+            this.returningColumns = returningColumns;
+        }
+        
+        public UpdateModel build() {
+            return new UpdateModel.Builder(table)
+                    .withColumnValues(columnsAndValues)
+                    .withWhereModel(whereModel.orElse(null))
+                    .withReturningColumns(returningColumns)
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The rendered pieces of a bulk update statement.  A {@link org.mybatis.dynamic.sql.render.Dialect}
+ * assembles these pieces into the statement form supported by the database.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class BulkUpdateFragments {
+    private String tableName;
+    private String keyColumnName;
+    private List<String> columnNames = new ArrayList<>();
+    private List<String> keyPlaceholders = new ArrayList<>();
+    private List<List<String>> valuePlaceholders = new ArrayList<>();
+    
+    private BulkUpdateFragments() {
+        super();
+    }
+    
+    public String tableName() {
+        return tableName;
+    }
+    
+    public String keyColumnName() {
+        return keyColumnName;
+    }
+    
+    public Stream<String> columnNames() {
+        return columnNames.stream();
+    }
+    
+    public String columnName(int column) {
+        return columnNames.get(column);
+    }
+    
+    public int columnCount() {
+        return columnNames.size();
+    }
+    
+    public int rowCount() {
+        return keyPlaceholders.size();
+    }
+    
+    public Stream<String> keyPlaceholders() {
+        return keyPlaceholders.stream();
+    }
+    
+    public String keyPlaceholder(int row) {
+        return keyPlaceholders.get(row);
+    }
+    
+    public String valuePlaceholder(int row, int column) {
+        return valuePlaceholders.get(row).get(column);
+    }
+    
+    public static class Builder {
+        private String tableName;
+        private String keyColumnName;
+        private List<String> columnNames = new ArrayList<>();
+        private List<String> keyPlaceholders = new ArrayList<>();
+        private List<List<String>> valuePlaceholders = new ArrayList<>();
+        
+        public Builder(String tableName, String keyColumnName) {
+            this.tableName = tableName;
+            this.keyColumnName = keyColumnName;
+        }
+        
+        public Builder withColumnName(String columnName) {
+            columnNames.add(columnName);
+            return this;
+        }
+        
+        /**
+         * Adds a row to the statement.
+         * 
+         * @param keyPlaceholder the placeholder for the row's key value
+         * @param rowValuePlaceholders the placeholders for the row's new values - in column order
+         * @return this builder
+         */
+        public Builder withRow(String keyPlaceholder, List<String> rowValuePlaceholders) {
+            keyPlaceholders.add(keyPlaceholder);
+            valuePlaceholders.add(rowValuePlaceholders);
+            return this;
+        }
+        
+        public BulkUpdateFragments build() {
+            BulkUpdateFragments fragments = new BulkUpdateFragments();
+            fragments.tableName = tableName;
+            fragments.keyColumnName = keyColumnName;
+            fragments.columnNames.addAll(columnNames);
+            fragments.keyPlaceholders.addAll(keyPlaceholders);
+            fragments.valuePlaceholders.addAll(valuePlaceholders);
+            return fragments;
+        }
+    }
+}
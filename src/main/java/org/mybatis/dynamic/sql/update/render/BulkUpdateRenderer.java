@@ -0,0 +1,105 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.BulkUpdateModel;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class BulkUpdateRenderer<T> {
+
+    private BulkUpdateModel<T> model;
+    
+    private BulkUpdateRenderer(BulkUpdateModel<T> model) {
+        this.model = model;
+    }
+    
+    public List<BulkUpdateSupport<T>> render(RenderingStrategy renderingStrategy) {
+        return render(renderingStrategy, Dialect.GENERIC);
+    }
+    
+    /**
+     * Renders one statement for each chunk of records.  The chunk size is capped by the dialect's in list
+     * limit, because the keys of a chunk are listed in one "in".
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @param dialect the dialect that limits the size of each chunk
+     * @return the statements, one for each chunk
+     */
+    public List<BulkUpdateSupport<T>> render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        List<PropertyMapping> columnMappings = model.columnMappings().collect(Collectors.toList());
+        int chunkSize = Math.min(dialect.getMaxInListSize(),
+                model.chunkSize().orElseGet(() -> calculateChunkSize(dialect, columnMappings.size())));
+        
+        List<T> records = model.records();
+        List<BulkUpdateSupport<T>> supports = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += chunkSize) {
+            List<T> chunk = records.subList(start, Math.min(start + chunkSize, records.size()));
+            supports.add(renderChunk(chunk, columnMappings, renderingStrategy, dialect));
+        }
+        return supports;
+    }
+    
+    /**
+     * Calculates a chunk size that keeps the statement within the dialect's bind parameter limit.
+     * The "case" form of the statement uses a key and a value placeholder for each column in each row,
+     * plus a key placeholder in the "in" list, so that is the worst case.
+     */
+    private int calculateChunkSize(Dialect dialect, int columnCount) {
+        return Math.max(1, dialect.getMaxBindParameters() / (columnCount * 2 + 1));
+    }
+    
+    private BulkUpdateSupport<T> renderChunk(List<T> chunk, List<PropertyMapping> columnMappings,
+            RenderingStrategy renderingStrategy, Dialect dialect) {
+        AtomicInteger sequence = new AtomicInteger(1);
+        Map<String, Object> parameters = new HashMap<>();
+        BulkUpdateFragments.Builder builder = new BulkUpdateFragments.Builder(model.table().name(),
+                model.keyMapping().column().name());
+        columnMappings.forEach(m -> builder.withColumnName(m.column().name()));
+        
+        for (T record : chunk) {
+            String keyPlaceholder = renderParameter(record, model.keyMapping(), renderingStrategy, sequence,
+                    parameters);
+            List<String> valuePlaceholders = columnMappings.stream()
+                    .map(m -> renderParameter(record, m, renderingStrategy, sequence, parameters))
+                    .collect(Collectors.toList());
+            builder.withRow(keyPlaceholder, valuePlaceholders);
+        }
+        
+        return BulkUpdateSupport.of(model.table().name(), dialect.getBulkUpdateStatement(builder.build()),
+                parameters, chunk);
+    }
+    
+    private String renderParameter(T record, PropertyMapping mapping, RenderingStrategy renderingStrategy,
+            AtomicInteger sequence, Map<String, Object> parameters) {
+        String mapKey = "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        parameters.put(mapKey, BeanPropertyGetter.instance().getPropertyValue(record, mapping.property()));
+        return renderingStrategy.getFormattedJdbcPlaceholder(mapping.column(), "parameters", mapKey); //$NON-NLS-1$
+    }
+    
+    public static <T> BulkUpdateRenderer<T> of(BulkUpdateModel<T> model) {
+        return new BulkUpdateRenderer<>(model);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * This class holds one rendered bulk update statement, the parameters for the statement,
+ * and the chunk of records that supplied the parameters.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record
+ */
+public class BulkUpdateSupport<T> extends AbstractSqlSupport {
+    
+    private String fullUpdateStatement;
+    private Map<String, Object> parameters;
+    private List<T> records;
+    
+    private BulkUpdateSupport(String tableName, String fullUpdateStatement, Map<String, Object> parameters,
+            List<T> records) {
+        super(tableName);
+        this.fullUpdateStatement = fullUpdateStatement;
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.records = Collections.unmodifiableList(new ArrayList<>(records));
+    }
+    
+    public String getFullUpdateStatement() {
+        return fullUpdateStatement;
+    }
+    
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    public static <T> BulkUpdateSupport<T> of(String tableName, String fullUpdateStatement,
+            Map<String, Object> parameters, List<T> records) {
+        return new BulkUpdateSupport<>(tableName, fullUpdateStatement, parameters, records);
+    }
+}
@@ -17,7 +17,11 @@ package org.mybatis.dynamic.sql.update.render;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.ArithmeticMapping;
+import org.mybatis.dynamic.sql.util.CoalesceMapping;
+import org.mybatis.dynamic.sql.util.ColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.NullMapping;
@@ -55,12 +59,45 @@ public class SetPhraseVisitor implements UpdateMappingVisitor<FragmentAndParamet
     @Override
     public <T> FragmentAndParameters visit(ValueMapping<T> mapping) {
         String mapKey = "up" + sequence.getAndIncrement(); //$NON-NLS-1$
-        String jdbcPlaceholder =
-                renderingStrategy.getFormattedJdbcPlaceholder(mapping.column(), "parameters", mapKey); //$NON-NLS-1$
-        String setPhrase = mapping.column().name() + " = " + jdbcPlaceholder; //$NON-NLS-1$
+        String setPhrase = mapping.column().name() + " = " //$NON-NLS-1$
+                + placeholder(mapping.column(), mapKey);
         
-        return new FragmentAndParameters.Builder(setPhrase) //$NON-NLS-1$)
+        return new FragmentAndParameters.Builder(setPhrase)
                 .withParameter(mapKey, mapping.value())
                 .build();
     }
+    
+    @Override
+    public FragmentAndParameters visit(ColumnMapping mapping) {
+        String setPhrase = mapping.column().name() + " = " + mapping.otherColumn().name(); //$NON-NLS-1$
+        return new FragmentAndParameters.Builder(setPhrase).build();
+    }
+    
+    @Override
+    public <T> FragmentAndParameters visit(ArithmeticMapping<T> mapping) {
+        String mapKey = "up" + sequence.getAndIncrement(); //$NON-NLS-1$
+        String setPhrase = mapping.column().name() + " = " //$NON-NLS-1$
+                + mapping.column().name() + " " + mapping.operator() + " " //$NON-NLS-1$ //$NON-NLS-2$
+                + placeholder(mapping.column(), mapKey);
+        
+        return new FragmentAndParameters.Builder(setPhrase)
+                .withParameter(mapKey, mapping.value())
+                .build();
+    }
+    
+    @Override
+    public <T> FragmentAndParameters visit(CoalesceMapping<T> mapping) {
+        String mapKey = "up" + sequence.getAndIncrement(); //$NON-NLS-1$
+        String setPhrase = mapping.column().name() + " = coalesce(" //$NON-NLS-1$
+                + mapping.otherColumn().name() + ", " //$NON-NLS-1$
+                + placeholder(mapping.column(), mapKey) + ")"; //$NON-NLS-1$
+        
+        return new FragmentAndParameters.Builder(setPhrase)
+                .withParameter(mapKey, mapping.value())
+                .build();
+    }
+    
+    private String placeholder(SqlColumn<?> column, String mapKey) {
+        return renderingStrategy.getFormattedJdbcPlaceholder(column, "parameters", mapKey); //$NON-NLS-1$
+    }
 }
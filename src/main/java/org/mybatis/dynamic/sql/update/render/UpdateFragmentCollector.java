@@ -28,10 +28,17 @@ public class UpdateFragmentCollector extends FragmentCollector<UpdateFragmentCol
     
     private SqlTable table;
     private Optional<WhereSupport> whereSupport;
+    private Optional<String> returningClause;
     
     public UpdateFragmentCollector(SqlTable table, Optional<WhereSupport> whereSupport) {
+        this(table, whereSupport, Optional.empty());
+    }
+    
+    public UpdateFragmentCollector(SqlTable table, Optional<WhereSupport> whereSupport,
+            Optional<String> returningClause) {
         this.table = table;
         this.whereSupport = whereSupport;
+        this.returningClause = returningClause;
     }
     
     public UpdateSupport buildUpdateSupport() {
@@ -39,6 +46,7 @@ public class UpdateFragmentCollector extends FragmentCollector<UpdateFragmentCol
                 .withSetClause(fragments()
                         .collect(Collectors.joining(", ", "set ", ""))) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
                 .withWhereSupport(whereSupport)
+                .withReturningClause(returningClause)
                 .withParameters(parameters)
                 .build();
     }
@@ -50,7 +58,12 @@ public class UpdateFragmentCollector extends FragmentCollector<UpdateFragmentCol
     
     public static Collector<FragmentAndParameters, ?, UpdateSupport> toUpdateSupport(SqlTable table,
             Optional<WhereSupport> whereSupport) {
-        return Collector.of(() -> new UpdateFragmentCollector(table, whereSupport),
+        return toUpdateSupport(table, whereSupport, Optional.empty());
+    }
+    
+    public static Collector<FragmentAndParameters, ?, UpdateSupport> toUpdateSupport(SqlTable table,
+            Optional<WhereSupport> whereSupport, Optional<String> returningClause) {
+        return Collector.of(() -> new UpdateFragmentCollector(table, whereSupport, returningClause),
                 UpdateFragmentCollector::add,
                 UpdateFragmentCollector::merge,
                 UpdateFragmentCollector::buildUpdateSupport);
@@ -17,7 +17,10 @@ package org.mybatis.dynamic.sql.update.render;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -33,12 +36,23 @@ public class UpdateRenderer {
     }
     
     public UpdateSupport render(RenderingStrategy renderingStrategy) {
+        return render(renderingStrategy, Dialect.GENERIC);
+    }
+    
+    public UpdateSupport render(RenderingStrategy renderingStrategy, Dialect dialect) {
         SetPhraseVisitor visitor = new SetPhraseVisitor(renderingStrategy);
         Optional<WhereSupport> whereSupport = renderWhere(renderingStrategy);
         
         return updateModel.columnValues()
                 .map(cv -> transform(cv, visitor))
-                .collect(UpdateFragmentCollector.toUpdateSupport(updateModel.table(), whereSupport));
+                .collect(UpdateFragmentCollector.toUpdateSupport(updateModel.table(), whereSupport,
+                        calculateReturningClause(dialect)));
+    }
+    
+    private Optional<String> calculateReturningClause(Dialect dialect) {
+        return updateModel.returningColumns()
+                .map(rc -> rc.map(SqlColumn::name).collect(Collectors.joining(", "))) //$NON-NLS-1$
+                .map(dialect::getReturningClause);
     }
     
     private Optional<WhereSupport> renderWhere(RenderingStrategy renderingStrategy) {
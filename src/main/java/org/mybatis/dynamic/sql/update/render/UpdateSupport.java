@@ -26,6 +26,10 @@ import org.mybatis.dynamic.sql.where.render.WhereSupport;
  * This class combines a "set" clause and a "where" clause into one parameter object
  * that can be sent to a MyBatis3 mapper method.
  * 
+ * <p>When the statement has a "returning" clause it produces a result set, so it should be mapped
+ * like a select - for example with a MyBatis {@code @Select("${fullUpdateStatement}")} method and a result map,
+ * or with Spring's {@code NamedParameterJdbcTemplate.query(...)} and a row mapper.
+ * 
  * @author Jeff Butler
  *
  */
@@ -33,6 +37,7 @@ public class UpdateSupport extends AbstractSqlSupport {
     private String setClause;
     private Optional<String> whereClause;
     private Map<String, Object> parameters;
+    private Optional<String> returningClause;
 
     private UpdateSupport(String tableName) {
         super(tableName);
@@ -54,12 +59,21 @@ public class UpdateSupport extends AbstractSqlSupport {
         return parameters;
     }
 
+    public String getReturningClause() {
+        return returningClause().orElse(EMPTY_STRING);
+    }
+    
+    public Optional<String> returningClause() {
+        return returningClause;
+    }
+
     public String getFullUpdateStatement() {
         return "update " //$NON-NLS-1$
                 + tableName()
                 + ONE_SPACE
                 + getSetClause()
-                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING);
+                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING)
+                + returningClause().map(r -> ONE_SPACE + r).orElse(EMPTY_STRING);
     }
     
     public static class Builder {
@@ -67,6 +81,7 @@ public class UpdateSupport extends AbstractSqlSupport {
         private String setClause;
         private Optional<WhereSupport> whereSupport = Optional.empty();
         private Map<String, Object> parameters = new HashMap<>();
+        private Optional<String> returningClause = Optional.empty();
         
         public Builder(String tableName) {
             this.tableName = tableName;
@@ -82,6 +97,11 @@ public class UpdateSupport extends AbstractSqlSupport {
             return this;
         }
         
+        public Builder withReturningClause(Optional<String> returningClause) {
+            this.returningClause = returningClause;
+            return this;
+        }
+        
         public Builder withParameters(Map<String, Object> parameters) {
             this.parameters.putAll(parameters);
             return this;
@@ -93,6 +113,7 @@ public class UpdateSupport extends AbstractSqlSupport {
             updateSupport.whereClause = whereSupport.flatMap(ws -> Optional.of(ws.getWhereClause()));
             whereSupport.ifPresent(ws -> parameters.putAll(ws.getParameters()));
             updateSupport.parameters = parameters;
+            updateSupport.returningClause = returningClause;
             return updateSupport;
         }
     }
@@ -0,0 +1,117 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.upsert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.upsert.render.UpsertSupport;
+import org.mybatis.dynamic.sql.util.InsertMapping;
+import org.mybatis.dynamic.sql.util.UpdateMapping;
+
+public class UpsertModel<T> {
+    private SqlTable table;
+    private List<T> records = new ArrayList<>();
+    private List<InsertMapping> columnMappings;
+    private List<SqlColumn<?>> keyColumns;
+    private List<UpdateMapping> updateMappings;
+    
+    private UpsertModel() {
+        super();
+    }
+    
+    public SqlTable table() {
+        return table;
+    }
+    
+    public Stream<T> records() {
+        return records.stream();
+    }
+    
+    public Stream<InsertMapping> columnMappings() {
+        return columnMappings.stream();
+    }
+    
+    public Stream<SqlColumn<?>> keyColumns() {
+        return keyColumns.stream();
+    }
+    
+    /**
+     * Returns the column mappings for the "update" half of the upsert.  If this is empty, then every
+     * inserted column that is not part of the conflict key will be updated with its incoming value.
+     * 
+     * @return the explicit update mappings
+     */
+    public Stream<UpdateMapping> updateMappings() {
+        return updateMappings.stream();
+    }
+    
+    public UpsertSupport<T> render(RenderingStrategy renderingStrategy) {
+        return UpsertRenderer.of(this).render(renderingStrategy);
+    }
+    
+    public UpsertSupport<T> render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        return UpsertRenderer.of(this).render(renderingStrategy, dialect);
+    }
+    
+    public static class Builder<T> {
+        private SqlTable table;
+        private List<T> records = new ArrayList<>();
+        private List<InsertMapping> columnMappings;
+        private List<SqlColumn<?>> keyColumns;
+        private List<UpdateMapping> updateMappings;
+        
+        public Builder(SqlTable table) {
+            this.table = table;
+        }
+        
+        public Builder<T> withRecords(List<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+        
+        public Builder<T> withColumnMappings(List<InsertMapping> columnMappings) {
+            this.columnMappings = columnMappings;
+            return this;
+        }
+        
+        public Builder<T> withKeyColumns(List<SqlColumn<?>> keyColumns) {
+            this.keyColumns = keyColumns;
+            return this;
+        }
+        
+        public Builder<T> withUpdateMappings(List<UpdateMapping> updateMappings) {
+            this.updateMappings = updateMappings;
+            return this;
+        }
+        
+        public UpsertModel<T> build() {
+            UpsertModel<T> upsertModel = new UpsertModel<>();
+            upsertModel.table = table;
+            upsertModel.records.addAll(records);
+            upsertModel.columnMappings = columnMappings;
+            upsertModel.keyColumns = keyColumns;
+            upsertModel.updateMappings = updateMappings;
+            return upsertModel;
+        }
+    }
+}
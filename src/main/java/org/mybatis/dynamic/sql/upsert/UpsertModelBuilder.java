@@ -0,0 +1,177 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.InsertMapping;
+import org.mybatis.dynamic.sql.util.KeyOrder;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMapping;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+
+/**
+ * Builds an "insert or update" statement.  The column mappings are the same as an insert statement,
+ * and the conflict key names the columns that identify an existing row.  By default, every mapped column
+ * that is not part of the key is updated with its incoming value when the row already exists.  Explicit
+ * "set" mappings can be supplied to override that behavior.
+ * 
+ * <p>There is no "when present" mapping.  The rendered statement does not depend on the values in the record,
+ * so the same statement can be executed for every record in a batch.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of record being upserted
+ */
+public class UpsertModelBuilder<T> {
+
+    private List<T> records;
+    private SqlTable table;
+    
+    private UpsertModelBuilder(List<T> records) {
+        this.records = records;
+    }
+    
+    public UpsertModelMappingBuilder into(SqlTable table) {
+        this.table = table;
+        return new UpsertModelMappingBuilder();
+    }
+    
+    public static <T> UpsertModelBuilder<T> upsert(T record) {
+        return new UpsertModelBuilder<>(Collections.singletonList(record));
+    }
+    
+    public static <T> UpsertModelBuilder<T> upsertBatch(Collection<T> records) {
+        return new UpsertModelBuilder<>(new ArrayList<>(records));
+    }
+    
+    public class UpsertModelMappingBuilder {
+        private List<InsertMapping> columnMappings = new ArrayList<>();
+        
+        private UpsertModelMappingBuilder() {
+            super();
+        }
+        
+        public <F> UpsertMappingFinisher<F> map(SqlColumn<F> column) {
+            return new UpsertMappingFinisher<>(column);
+        }
+        
+        public UpsertModelConflictBuilder onConflict(SqlColumn<?>...keyColumns) {
+            return new UpsertModelConflictBuilder(columnMappings, Arrays.asList(keyColumns));
+        }
+        
+        public class UpsertMappingFinisher<F> {
+            private SqlColumn<F> column;
+            
+            public UpsertMappingFinisher(SqlColumn<F> column) {
+                this.column = column;
+            }
+            
+            public UpsertModelMappingBuilder toProperty(String property) {
+                columnMappings.add(PropertyMapping.of(column, property));
+                return UpsertModelMappingBuilder.this;
+            }
+            
+            public UpsertModelMappingBuilder toNull() {
+                columnMappings.add(NullMapping.of(column));
+                return UpsertModelMappingBuilder.this;
+            }
+            
+            public UpsertModelMappingBuilder toConstant(String constant) {
+                columnMappings.add(ConstantMapping.of(column, constant));
+                return UpsertModelMappingBuilder.this;
+            }
+            
+            public UpsertModelMappingBuilder toStringConstant(String constant) {
+                columnMappings.add(StringConstantMapping.of(column, constant));
+                return UpsertModelMappingBuilder.this;
+            }
+        }
+    }
+    
+    public class UpsertModelConflictBuilder {
+        private List<InsertMapping> columnMappings;
+        private List<SqlColumn<?>> keyColumns;
+        private List<UpdateMapping> updateMappings = new ArrayList<>();
+        private boolean inKeyOrder;
+        
+        private UpsertModelConflictBuilder(List<InsertMapping> columnMappings, List<SqlColumn<?>> keyColumns) {
+            this.columnMappings = columnMappings;
+            this.keyColumns = keyColumns;
+        }
+        
+        public <F> UpsertSetFinisher<F> set(SqlColumn<F> column) {
+            return new UpsertSetFinisher<>(column);
+        }
+        
+        /**
+         * Sorts a batch of records by the conflict key columns, so that concurrent batches lock rows in the
+         * same order.  Each key column must be mapped to a property.
+         * 
+         * @return this builder
+         */
+        public UpsertModelConflictBuilder inKeyOrder() {
+            this.inKeyOrder = true;
+            return this;
+        }
+        
+        public UpsertModel<T> build() {
+            return new UpsertModel.Builder<T>(table)
+                    .withRecords(inKeyOrder ? KeyOrder.of(keyColumns, columnMappings).sort(records) : records)
+                    .withColumnMappings(columnMappings)
+                    .withKeyColumns(keyColumns)
+                    .withUpdateMappings(updateMappings)
+                    .build();
+        }
+        
+        public class UpsertSetFinisher<F> {
+            private SqlColumn<F> column;
+            
+            public UpsertSetFinisher(SqlColumn<F> column) {
+                this.column = column;
+            }
+            
+            public UpsertModelConflictBuilder equalToNull() {
+                updateMappings.add(NullMapping.of(column));
+                return UpsertModelConflictBuilder.this;
+            }
+            
+            public UpsertModelConflictBuilder equalToConstant(String constant) {
+                updateMappings.add(ConstantMapping.of(column, constant));
+                return UpsertModelConflictBuilder.this;
+            }
+            
+            public UpsertModelConflictBuilder equalToStringConstant(String constant) {
+                updateMappings.add(StringConstantMapping.of(column, constant));
+                return UpsertModelConflictBuilder.this;
+            }
+            
+            public UpsertModelConflictBuilder equalTo(F value) {
+                updateMappings.add(ValueMapping.of(column, value));
+                return UpsertModelConflictBuilder.this;
+            }
+        }
+    }
+}
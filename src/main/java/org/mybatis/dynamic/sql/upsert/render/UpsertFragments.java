@@ -0,0 +1,111 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The rendered pieces of an upsert statement.  A {@link org.mybatis.dynamic.sql.render.Dialect}
+ * assembles these pieces into the statement form supported by the database.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class UpsertFragments {
+    private String tableName;
+    private List<String> columnNames = new ArrayList<>();
+    private List<String> valuePhrases = new ArrayList<>();
+    private List<String> keyColumnNames = new ArrayList<>();
+    private List<String> setPhrases = new ArrayList<>();
+    
+    private UpsertFragments() {
+        super();
+    }
+    
+    public String tableName() {
+        return tableName;
+    }
+    
+    public Stream<String> columnNames() {
+        return columnNames.stream();
+    }
+    
+    public Stream<String> valuePhrases() {
+        return valuePhrases.stream();
+    }
+    
+    public Stream<String> keyColumnNames() {
+        return keyColumnNames.stream();
+    }
+    
+    /**
+     * Returns the set phrases for the "update" half of the statement.  This may be empty if every
+     * inserted column is part of the conflict key - in that case an existing row should be left alone.
+     * 
+     * @return the set phrases
+     */
+    public Stream<String> setPhrases() {
+        return setPhrases.stream();
+    }
+    
+    public boolean hasSetPhrases() {
+        return !setPhrases.isEmpty();
+    }
+    
+    public static class Builder {
+        private String tableName;
+        private List<String> columnNames = new ArrayList<>();
+        private List<String> valuePhrases = new ArrayList<>();
+        private List<String> keyColumnNames = new ArrayList<>();
+        private List<String> setPhrases = new ArrayList<>();
+        
+        public Builder(String tableName) {
+            this.tableName = tableName;
+        }
+        
+        public Builder withColumnName(String columnName) {
+            columnNames.add(columnName);
+            return this;
+        }
+        
+        public Builder withValuePhrase(String valuePhrase) {
+            valuePhrases.add(valuePhrase);
+            return this;
+        }
+        
+        public Builder withKeyColumnName(String keyColumnName) {
+            keyColumnNames.add(keyColumnName);
+            return this;
+        }
+        
+        public Builder withSetPhrase(String setPhrase) {
+            setPhrases.add(setPhrase);
+            return this;
+        }
+        
+        public UpsertFragments build() {
+            UpsertFragments fragments = new UpsertFragments();
+            fragments.tableName = tableName;
+            fragments.columnNames.addAll(columnNames);
+            fragments.valuePhrases.addAll(valuePhrases);
+            fragments.keyColumnNames.addAll(keyColumnNames);
+            fragments.setPhrases.addAll(setPhrases);
+            return fragments;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert.render;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.insert.render.FieldAndValue;
+import org.mybatis.dynamic.sql.insert.render.ValuePhraseVisitor;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.SetPhraseVisitor;
+import org.mybatis.dynamic.sql.upsert.UpsertModel;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+public class UpsertRenderer<T> {
+
+    private UpsertModel<T> model;
+    
+    private UpsertRenderer(UpsertModel<T> model) {
+        this.model = model;
+    }
+    
+    public UpsertSupport<T> render(RenderingStrategy renderingStrategy) {
+        return render(renderingStrategy, Dialect.GENERIC);
+    }
+    
+    public UpsertSupport<T> render(RenderingStrategy renderingStrategy, Dialect dialect) {
+        UpsertFragments.Builder builder = new UpsertFragments.Builder(model.table().name());
+        Map<String, Object> parameters = new HashMap<>();
+        
+        ValuePhraseVisitor valueVisitor = new ValuePhraseVisitor(renderingStrategy);
+        List<FieldAndValue> fieldsAndValues = model.columnMappings()
+                .map(m -> m.accept(valueVisitor))
+                .collect(Collectors.toList());
+        fieldsAndValues.forEach(fv -> builder.withColumnName(fv.fieldName()).withValuePhrase(fv.valuePhrase()));
+        
+        Set<String> keyColumnNames = model.keyColumns()
+                .map(SqlColumn::name)
+                .collect(Collectors.toSet());
+        model.keyColumns().map(SqlColumn::name).forEach(builder::withKeyColumnName);
+        
+        SetPhraseVisitor setVisitor = new SetPhraseVisitor(renderingStrategy);
+        List<FragmentAndParameters> setPhrases = model.updateMappings()
+                .map(m -> m.accept(setVisitor))
+                .collect(Collectors.toList());
+        
+        if (setPhrases.isEmpty()) {
+            fieldsAndValues.stream()
+                    .map(FieldAndValue::fieldName)
+                    .filter(f -> !keyColumnNames.contains(f))
+                    .map(f -> f + " = " + dialect.getUpsertSourceValue(f)) //$NON-NLS-1$
+                    .forEach(builder::withSetPhrase);
+        } else {
+            setPhrases.forEach(fp -> {
+                builder.withSetPhrase(fp.fragment());
+                parameters.putAll(fp.parameters());
+            });
+        }
+        
+        String statement = dialect.getUpsertStatement(builder.build());
+        return UpsertSupport.of(model.table().name(), statement, model.records().collect(Collectors.toList()),
+                parameters);
+    }
+    
+    public static <T> UpsertRenderer<T> of(UpsertModel<T> model) {
+        return new UpsertRenderer<>(model);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * This class holds a rendered upsert statement, the record(s) whose properties supply the values,
+ * and any parameters used by explicit "set" mappings.
+ * 
+ * <p>The statement text is the same for every record, so a batch can be executed by preparing
+ * the statement once and adding each record to the batch.  With MyBatis, execute each of the
+ * supports returned by {@link #individualUpserts()} in a session opened with {@code ExecutorType.BATCH}.
+ * With Spring, pass the statement and {@code SqlParameterSourceUtils.createBatch(getRecords().toArray())}
+ * to {@code NamedParameterJdbcTemplate.batchUpdate(...)} - in that case explicit "set" mappings should
+ * use constants rather than values because the parameter map is not part of the batch.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the record
+ */
+public class UpsertSupport<T> extends AbstractSqlSupport {
+    
+    private String fullUpsertStatement;
+    private List<T> records;
+    private Map<String, Object> parameters;
+    
+    private UpsertSupport(String tableName, String fullUpsertStatement, List<T> records,
+            Map<String, Object> parameters) {
+        super(tableName);
+        this.fullUpsertStatement = fullUpsertStatement;
+        this.records = Collections.unmodifiableList(new ArrayList<>(records));
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+    }
+    
+    public String getFullUpsertStatement() {
+        return fullUpsertStatement;
+    }
+    
+    /**
+     * Returns the first (and usually the only) record.  The rendered statement refers to this record
+     * for MyBatis placeholders.
+     * 
+     * @return the record
+     */
+    public T getRecord() {
+        return records.isEmpty() ? null : records.get(0);
+    }
+    
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    /**
+     * Returns one support object for each record.  Each support has the same statement and parameters,
+     * so a batching executor can add them all to a single prepared statement.
+     * 
+     * @return a stream of single record supports
+     */
+    public Stream<UpsertSupport<T>> individualUpserts() {
+        return records.stream()
+                .map(r -> of(tableName(), fullUpsertStatement, Collections.singletonList(r), parameters));
+    }
+    
+    public static <T> UpsertSupport<T> of(String tableName, String fullUpsertStatement, List<T> records,
+            Map<String, Object> parameters) {
+        return new UpsertSupport<>(tableName, fullUpsertStatement, records, parameters);
+    }
+}
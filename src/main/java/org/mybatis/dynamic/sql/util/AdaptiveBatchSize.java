@@ -0,0 +1,163 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses a batch size from measurements of earlier batches.  After every full batch, the size is moved by a step
+ * in the direction that last improved throughput (rows per second).  If a batch takes longer than the target latency,
+ * the size is reduced in proportion instead.  Growth is also capped so that the next batch is expected to finish
+ * within the target.  The size always stays between the minimum and maximum.
+ * 
+ * <p>One instance may be shared by several threads writing to the same table.  The current decision and the last
+ * measurements are available from the accessor methods for use as metrics.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class AdaptiveBatchSize {
+    private static final double STEP = 1.25;
+    
+    private int minimum;
+    private int maximum;
+    private double targetLatencyMillis;
+    private int batchSize;
+    private boolean growing = true;
+    private double lastRowsPerSecond;
+    private double lastLatencyMillis;
+    private long batches;
+    private long rows;
+    private long adjustments;
+    
+    private AdaptiveBatchSize() {
+        super();
+    }
+    
+    public synchronized int batchSize() {
+        return batchSize;
+    }
+    
+    /**
+     * Records the result of one batch and adjusts the batch size.  Only full batches adjust the size - a
+     * smaller batch is usually the end of the input and says little about throughput.
+     * 
+     * @param batchRows the number of rows in the batch
+     * @param elapsedNanos the time taken to write and commit the batch
+     */
+    public synchronized void record(int batchRows, long elapsedNanos) {
+        batches++;
+        rows += batchRows;
+        double latencyMillis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        double rowsPerSecond = batchRows * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+        
+        if (batchRows >= batchSize) {
+            adjust(rowsPerSecond, latencyMillis);
+        }
+        
+        lastRowsPerSecond = rowsPerSecond;
+        lastLatencyMillis = latencyMillis;
+    }
+    
+    private void adjust(double rowsPerSecond, double latencyMillis) {
+        double next;
+        if (latencyMillis > targetLatencyMillis) {
+            growing = false;
+            next = batchSize * targetLatencyMillis / latencyMillis;
+        } else {
+            if (rowsPerSecond < lastRowsPerSecond) {
+                growing = !growing;
+            }
+            next = growing ? Math.min(batchSize * STEP, batchSize * targetLatencyMillis / Math.max(latencyMillis, 1))
+                    : batchSize / STEP;
+        }
+        
+        int bounded = (int) Math.max(minimum, Math.min(maximum, Math.round(next)));
+        if (bounded != batchSize) {
+            batchSize = bounded;
+            adjustments++;
+        }
+    }
+    
+    public synchronized double lastRowsPerSecond() {
+        return lastRowsPerSecond;
+    }
+    
+    public synchronized double lastLatencyMillis() {
+        return lastLatencyMillis;
+    }
+    
+    public synchronized long batches() {
+        return batches;
+    }
+    
+    public synchronized long rows() {
+        return rows;
+    }
+    
+    /**
+     * Returns the number of times the batch size has changed.
+     * 
+     * @return the number of adjustments
+     */
+    public synchronized long adjustments() {
+        return adjustments;
+    }
+    
+    public int minimum() {
+        return minimum;
+    }
+    
+    public int maximum() {
+        return maximum;
+    }
+    
+    public double targetLatencyMillis() {
+        return targetLatencyMillis;
+    }
+    
+    public static class Builder {
+        private int minimum = 10;
+        private int maximum = 10000;
+        private int initial = 100;
+        private double targetLatencyMillis = 500;
+        
+        public Builder withBounds(int minimum, int maximum) {
+            this.minimum = minimum;
+            this.maximum = maximum;
+            return this;
+        }
+        
+        public Builder withInitialSize(int initial) {
+            this.initial = initial;
+            return this;
+        }
+        
+        public Builder withTargetLatencyMillis(double targetLatencyMillis) {
+            this.targetLatencyMillis = targetLatencyMillis;
+            return this;
+        }
+        
+        public AdaptiveBatchSize build() {
+            AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize();
+            adaptiveBatchSize.minimum = minimum;
+            adaptiveBatchSize.maximum = maximum;
+            adaptiveBatchSize.targetLatencyMillis = targetLatencyMillis;
+            adaptiveBatchSize.batchSize = Math.max(minimum, Math.min(maximum, initial));
+            return adaptiveBatchSize;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Maps a column to its current value combined with a bound value, for example
+ * {@code balance = balance + ?}.  The calculation happens in the database, so concurrent
+ * updates do not need to read the current value first.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the column
+ */
+public class ArithmeticMapping<T> extends AbstractColumnMapping implements UpdateMapping {
+
+    private String operator;
+    private T value;
+    
+    private ArithmeticMapping(SqlColumn<T> column) {
+        super(column);
+    }
+    
+    public String operator() {
+        return operator;
+    }
+    
+    public T value() {
+        return value;
+    }
+
+    @Override
+    public <R> R accept(UpdateMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static <T> ArithmeticMapping<T> plus(SqlColumn<T> column, T value) {
+        return of(column, "+", value); //$NON-NLS-1$
+    }
+
+    public static <T> ArithmeticMapping<T> minus(SqlColumn<T> column, T value) {
+        return of(column, "-", value); //$NON-NLS-1$
+    }
+
+    private static <T> ArithmeticMapping<T> of(SqlColumn<T> column, String operator, T value) {
+        ArithmeticMapping<T> mapping = new ArithmeticMapping<>(column);
+        mapping.operator = operator;
+        mapping.value = value;
+        return mapping;
+    }
+}
@@ -15,7 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util;
 
-import org.mybatis.dynamic.sql.reflection.MetaObject;
+import org.mybatis.dynamic.sql.reflection.CompiledGetterFactory;
 
 public class BeanPropertyGetter {
 
@@ -30,7 +30,9 @@ public class BeanPropertyGetter {
     }
     
     public Object getPropertyValue(Object bean, String property) {
-        MetaObject metaObject = MetaObject.forObject(bean);
-        return metaObject.getValue(property);
+        if (bean == null) {
+            return null;
+        }
+        return CompiledGetterFactory.instance().getterFor(bean.getClass(), property).apply(bean);
     }
 }
@@ -0,0 +1,56 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.mybatis.dynamic.sql.reflection.ReflectionException;
+import org.mybatis.dynamic.sql.reflection.ReflectorFactory;
+
+public class BeanPropertySetter {
+
+    private static BeanPropertySetter instance = new BeanPropertySetter();
+    
+    private BeanPropertySetter() {
+        super();
+    }
+    
+    public static BeanPropertySetter instance() {
+        return instance;
+    }
+    
+    public Class<?> getPropertyType(Object bean, String property) {
+        return setMethodFor(bean, property).getParameterTypes()[0];
+    }
+    
+    public void setPropertyValue(Object bean, String property, Object value) {
+        try {
+            setMethodFor(bean, property).invoke(bean, value);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            ReflectionException reflectionException = new ReflectionException("Error setting property " //$NON-NLS-1$
+                    + property + " on class " + bean.getClass().getName()); //$NON-NLS-1$
+            reflectionException.initCause(e);
+            throw reflectionException;
+        }
+    }
+    
+    private Method setMethodFor(Object bean, String property) {
+        return ReflectorFactory.instance().findForClass(bean.getClass()).getSetMethod(property)
+                .orElseThrow(() -> new ReflectionException("There is no setter for property " //$NON-NLS-1$
+                        + property + " on class " + bean.getClass().getName())); //$NON-NLS-1$
+    }
+}
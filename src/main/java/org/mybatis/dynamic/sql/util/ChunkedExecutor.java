@@ -0,0 +1,85 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Runs a limited statement repeatedly until it affects no rows.  Each execution should be a
+ * separate, short transaction so that locks are released and undo is kept small.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class ChunkedExecutor {
+
+    private ChunkedExecutor() {
+        super();
+    }
+    
+    /**
+     * Executes chunks until a chunk affects no rows, or the thread is interrupted during a pause.
+     * 
+     * @param chunk executes one chunk and returns the number of rows affected
+     * @param pauseMillis the time to wait between chunks - zero for no pause
+     * @return the total number of rows affected
+     */
+    public static int executeUntilNoRowsAffected(IntSupplier chunk, long pauseMillis) {
+        int total = 0;
+        int affected = chunk.getAsInt();
+        while (affected > 0) {
+            total += affected;
+            if (!pause(pauseMillis)) {
+                break;
+            }
+            affected = chunk.getAsInt();
+        }
+        return total;
+    }
+    
+    /**
+     * Executes chunks until a chunk affects no rows, or the thread is interrupted during a pause.  The size
+     * of each chunk is taken from the adaptive batch size, and the time to execute each chunk is recorded.
+     * 
+     * @param chunk executes one chunk limited to the given number of rows and returns the number of rows affected
+     * @param adaptiveChunkSize chooses the chunk size
+     * @param pauseMillis the time to wait between chunks - zero for no pause
+     * @return the total number of rows affected
+     */
+    public static int executeUntilNoRowsAffected(IntUnaryOperator chunk, AdaptiveBatchSize adaptiveChunkSize,
+            long pauseMillis) {
+        return executeUntilNoRowsAffected(() -> {
+            int chunkSize = adaptiveChunkSize.batchSize();
+            long start = System.nanoTime();
+            int affected = chunk.applyAsInt(chunkSize);
+            adaptiveChunkSize.record(affected, System.nanoTime() - start);
+            return affected;
+        }, pauseMillis);
+    }
+    
+    private static boolean pause(long pauseMillis) {
+        if (pauseMillis > 0) {
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Maps a column to the value of another column, or to a bound value if the other column is null.
+ * 
+ * @author Jeff Butler
+ *
+ * @param <T> the type of the column
+ */
+public class CoalesceMapping<T> extends AbstractColumnMapping implements UpdateMapping {
+
+    private SqlColumn<T> otherColumn;
+    private T value;
+    
+    private CoalesceMapping(SqlColumn<T> column) {
+        super(column);
+    }
+    
+    public SqlColumn<T> otherColumn() {
+        return otherColumn;
+    }
+    
+    public T value() {
+        return value;
+    }
+
+    @Override
+    public <R> R accept(UpdateMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static <T> CoalesceMapping<T> of(SqlColumn<T> column, SqlColumn<T> otherColumn, T value) {
+        CoalesceMapping<T> mapping = new CoalesceMapping<>(column);
+        mapping.otherColumn = otherColumn;
+        mapping.value = value;
+        return mapping;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+public class ColumnMapping extends AbstractColumnMapping implements UpdateMapping {
+
+    private SqlColumn<?> otherColumn;
+    
+    private ColumnMapping(SqlColumn<?> column) {
+        super(column);
+    }
+    
+    public SqlColumn<?> otherColumn() {
+        return otherColumn;
+    }
+
+    @Override
+    public <R> R accept(UpdateMappingVisitor<R> visitor) {
+        return visitor.visit(this);
+    }
+
+    public static <T> ColumnMapping of(SqlColumn<T> column, SqlColumn<T> otherColumn) {
+        ColumnMapping mapping = new ColumnMapping(column);
+        mapping.otherColumn = otherColumn;
+        return mapping;
+    }
+}
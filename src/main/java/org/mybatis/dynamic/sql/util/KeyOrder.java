@@ -0,0 +1,117 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Sorts records by the values of their key properties.  Batches written in key order acquire row locks in a
+ * consistent order, so concurrent batches with overlapping keys wait for each other instead of deadlocking.
+ * Inserts in key order also append to clustered indexes instead of splitting pages.
+ * 
+ * <p>Key values must be {@link Comparable}.  Null keys sort first.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class KeyOrder {
+    private static final Comparator<Comparable<Object>> KEY_COMPARATOR =
+            Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder());
+    
+    private List<String> keyProperties;
+    
+    private KeyOrder(List<String> keyProperties) {
+        this.keyProperties = keyProperties;
+    }
+    
+    public List<String> keyProperties() {
+        return keyProperties;
+    }
+    
+    /**
+     * Returns a new list with the records sorted by key.  The sort is stable, so records with equal keys stay in
+     * their original order.  The key values are read once per record.
+     * 
+     * @param records the records to sort
+     * @param <T> the type of record
+     * @return the sorted records
+     */
+    public <T> List<T> sort(List<T> records) {
+        return records.stream()
+                .map(KeyedRecord::new)
+                .sorted(this::compare)
+                .map(KeyedRecord::record)
+                .collect(Collectors.toList());
+    }
+    
+    private int compare(KeyedRecord<?> a, KeyedRecord<?> b) {
+        for (int i = 0; i < a.keys.size(); i++) {
+            int result = KEY_COMPARATOR.compare(a.keys.get(i), b.keys.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private class KeyedRecord<T> {
+        private T record;
+        private List<Comparable<Object>> keys = new ArrayList<>();
+        
+        @SuppressWarnings("unchecked")
+        private KeyedRecord(T record) {
+            this.record = record;
+            keyProperties.forEach(p -> keys.add(
+                    (Comparable<Object>) BeanPropertyGetter.instance().getPropertyValue(record, p)));
+        }
+        
+        private T record() {
+            return record;
+        }
+    }
+    
+    public static KeyOrder of(List<String> keyProperties) {
+        return new KeyOrder(new ArrayList<>(keyProperties));
+    }
+    
+    /**
+     * Builds a key order from key columns by finding the property that each column is mapped to.
+     * 
+     * @param keyColumns the key columns
+     * @param columnMappings the column mappings of the statement
+     * @return the key order
+     * @throws IllegalArgumentException if a key column is not mapped to a property
+     */
+    public static KeyOrder of(Collection<SqlColumn<?>> keyColumns,
+            Collection<? extends InsertMapping> columnMappings) {
+        return of(keyColumns.stream()
+                .map(c -> columnMappings.stream()
+                        .filter(PropertyMapping.class::isInstance)
+                        .map(PropertyMapping.class::cast)
+                        .filter(m -> m.column() == c)
+                        .map(PropertyMapping::property)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Key column " + c.name() + " is not mapped to a property"))) //$NON-NLS-1$ //$NON-NLS-2$
+                .collect(Collectors.toList()));
+    }
+}
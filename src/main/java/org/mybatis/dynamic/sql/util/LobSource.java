@@ -0,0 +1,270 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * A large column value that is streamed to the driver rather than held on the heap as a
+ * <code>byte[]</code> or <code>String</code>.  The length of the value is known up front, so drivers that
+ * need it before reading the stream can be given it.
+ * 
+ * <p>Sources created from a {@link Path} or a {@link ByteBuffer} (including a memory mapped buffer) open a new
+ * stream every time one is requested.  Sources created from an {@link InputStream} or a {@link Reader} return
+ * the same stream every time, so they can only be written once.
+ * 
+ * <p>Closing the source closes every stream it has opened, and the stream or reader it was created with.
+ * Close the source after the statement that uses it has been executed.
+ * 
+ * <p>Columns set from a LOB source can be executed with MyBatis or with
+ * {@link org.mybatis.dynamic.sql.jdbc.PositionalStatement}.  Spring named parameters cannot bind a LOB source,
+ * so rendering such a column for Spring throws an exception.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class LobSource implements Closeable {
+    // named rather than referenced, so MyBatis is only needed by applications that execute with it
+    private static final String TYPE_HANDLER =
+            "org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler"; //$NON-NLS-1$
+
+    private long length;
+    private StreamOpener<InputStream> binaryStreamOpener;
+    private StreamOpener<Reader> characterStreamOpener;
+    private List<Closeable> openedStreams = new ArrayList<>();
+    
+    private LobSource(long length) {
+        this.length = length;
+    }
+    
+    /**
+     * The length of the value - in bytes for binary data, in characters for character data.
+     * 
+     * @return the length of the value
+     */
+    public long length() {
+        return length;
+    }
+    
+    public boolean isCharacterData() {
+        return characterStreamOpener != null;
+    }
+    
+    /**
+     * Returns a stream of the value, for code that binds the value itself.  Pass {@link #length()} to the driver
+     * with the stream.
+     * 
+     * @return a stream of the value
+     */
+    public InputStream getBinaryStream() {
+        if (binaryStreamOpener == null) {
+            throw new IllegalStateException("The LOB source contains character data"); //$NON-NLS-1$
+        }
+        return open(binaryStreamOpener);
+    }
+    
+    /**
+     * Returns a reader of the value, for code that binds the value itself.  Pass {@link #length()} to the driver
+     * with the reader.
+     * 
+     * @return a reader of the value
+     */
+    public Reader getCharacterStream() {
+        if (characterStreamOpener == null) {
+            throw new IllegalStateException("The LOB source contains binary data"); //$NON-NLS-1$
+        }
+        return open(characterStreamOpener);
+    }
+    
+    /**
+     * Binds the value to a statement parameter as a stream of known length.
+     * 
+     * @param preparedStatement the statement
+     * @param parameterIndex the index of the parameter (1 based)
+     * @throws SQLException if the driver cannot bind the stream
+     */
+    public void bind(PreparedStatement preparedStatement, int parameterIndex) throws SQLException {
+        if (isCharacterData()) {
+            preparedStatement.setCharacterStream(parameterIndex, getCharacterStream(), length);
+        } else {
+            preparedStatement.setBinaryStream(parameterIndex, getBinaryStream(), length);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        List<Closeable> streams;
+        synchronized (openedStreams) {
+            streams = new ArrayList<>(openedStreams);
+            openedStreams.clear();
+        }
+        
+        IOException exception = null;
+        for (Closeable stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        
+        if (exception != null) {
+            throw exception;
+        }
+    }
+    
+    private <S extends Closeable> S open(StreamOpener<S> opener) {
+        try {
+            S stream = opener.open();
+            synchronized (openedStreams) {
+                if (!openedStreams.contains(stream)) {
+                    openedStreams.add(stream);
+                }
+            }
+            return stream;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Returns a copy of the column whose MyBatis placeholders bind the value with
+     * {@link org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler}, so the stream is bound with its length.
+     * 
+     * @param column the column that is set from a LOB source
+     * @param <T> the type of the copied column
+     * @return the copied column
+     */
+    public static <T> SqlColumn<T> lobColumn(SqlColumn<?> column) {
+        return column.withTypeHandler(TYPE_HANDLER);
+    }
+    
+    /**
+     * Returns true if the column was created by {@link #lobColumn(SqlColumn)}.
+     * 
+     * @param column a column
+     * @return true if the column is set from a LOB source
+     */
+    public static boolean isLobColumn(SqlColumn<?> column) {
+        return column.typeHandler().filter(TYPE_HANDLER::equals).isPresent();
+    }
+    
+    public static LobSource ofBinary(InputStream inputStream, long length) {
+        Objects.requireNonNull(inputStream);
+        LobSource source = new LobSource(length);
+        source.binaryStreamOpener = () -> inputStream;
+        return source;
+    }
+    
+    public static LobSource ofCharacters(Reader reader, long length) {
+        Objects.requireNonNull(reader);
+        LobSource source = new LobSource(length);
+        source.characterStreamOpener = () -> reader;
+        return source;
+    }
+    
+    /**
+     * Creates a binary source that reads a file.  The file is opened when a stream is requested.
+     * 
+     * @param path the file
+     * @return the source
+     */
+    public static LobSource of(Path path) {
+        try {
+            LobSource source = new LobSource(Files.size(path));
+            source.binaryStreamOpener = () -> Files.newInputStream(path);
+            return source;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Creates a binary source that reads the remaining bytes of a buffer.  The position of the buffer
+     * is not changed.
+     * 
+     * @param buffer the buffer, often a buffer mapped from a file with
+     *     {@link java.nio.channels.FileChannel#map}
+     * @return the source
+     */
+    public static LobSource of(ByteBuffer buffer) {
+        LobSource source = new LobSource(buffer.remaining());
+        source.binaryStreamOpener = () -> new ByteBufferInputStream(buffer.duplicate());
+        return source;
+    }
+    
+    @FunctionalInterface
+    private interface StreamOpener<S extends Closeable> {
+        S open() throws IOException;
+    }
+    
+    private static class ByteBufferInputStream extends InputStream {
+        private ByteBuffer buffer;
+        
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+        
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+        
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            ((Buffer) buffer).position(buffer.position() + count);
+            return count;
+        }
+        
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
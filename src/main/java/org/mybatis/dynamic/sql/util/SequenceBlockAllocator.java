@@ -0,0 +1,202 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out ids from blocks reserved from a database sequence.  One call to the sequence reserves a whole block,
+ * and ids within the block are assigned in memory without locks.  When the current block falls to the refill
+ * threshold, the next block is reserved in the background so that it is usually ready before it is needed.
+ * 
+ * <p>Two sequence styles are supported:
+ * <ul>
+ *   <li>A sequence that increments by the block size.  Each value is the first id of a block.</li>
+ *   <li>A "hi-lo" sequence that increments by one.  Each value is multiplied by the block size to get the
+ *       first id of a block.</li>
+ * </ul>
+ * 
+ * <p>The SQL that reads the next value of a sequence is available from
+ * {@link org.mybatis.dynamic.sql.render.Dialect#getSequenceNextValueStatement(String)}.  Ids are unique but not
+ * gap free - unused ids in a block are lost when the application stops.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class SequenceBlockAllocator {
+    private LongSupplier sequence;
+    private int blockSize;
+    private boolean hiLo;
+    private int refillThreshold;
+    private Executor executor;
+    private AtomicReference<Block> currentBlock = new AtomicReference<>(new Block(0, 0));
+    private AtomicReference<CompletableFuture<Block>> nextBlock = new AtomicReference<>();
+    private AtomicLong reservations = new AtomicLong();
+    
+    private SequenceBlockAllocator() {
+        super();
+    }
+    
+    public long nextId() {
+        while (true) {
+            Block block = currentBlock.get();
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                if (block.end - id == refillThreshold) {
+                    prefetch();
+                }
+                return id;
+            }
+            
+            CompletableFuture<Block> replacement = prefetch();
+            if (currentBlock.compareAndSet(block, await(replacement))) {
+                nextBlock.compareAndSet(replacement, null);
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of blocks reserved from the sequence.
+     * 
+     * @return the number of reservations
+     */
+    public long reservations() {
+        return reservations.get();
+    }
+    
+    private CompletableFuture<Block> prefetch() {
+        while (true) {
+            CompletableFuture<Block> existing = nextBlock.get();
+            if (existing != null) {
+                return existing;
+            }
+            
+            CompletableFuture<Block> reservation = new CompletableFuture<>();
+            if (nextBlock.compareAndSet(null, reservation)) {
+                executor.execute(() -> reserve(reservation));
+                return reservation;
+            }
+        }
+    }
+    
+    private void reserve(CompletableFuture<Block> reservation) {
+        try {
+            long value = sequence.getAsLong();
+            reservations.incrementAndGet();
+            long start = hiLo ? value * blockSize : value;
+            reservation.complete(new Block(start, start + blockSize));
+        } catch (RuntimeException e) {
+            reservation.completeExceptionally(e);
+        }
+    }
+    
+    private Block await(CompletableFuture<Block> reservation) {
+        try {
+            return reservation.join();
+        } catch (CompletionException e) {
+            // allow the next caller to try again
+            nextBlock.compareAndSet(reservation, null);
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+    
+    private static class Block {
+        private AtomicLong next;
+        private long end;
+        
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+    
+    public static class Builder {
+        private LongSupplier sequence;
+        private int blockSize;
+        private boolean hiLo;
+        private Integer refillThreshold;
+        private Executor executor = ForkJoinPool.commonPool();
+        
+        /**
+         * Creates a builder for a sequence that increments by the block size.
+         * 
+         * @param sequence reads the next value of the sequence
+         * @param blockSize the number of ids in each block
+         */
+        public Builder(LongSupplier sequence, int blockSize) {
+            this.sequence = sequence;
+            this.blockSize = blockSize;
+        }
+        
+        /**
+         * Treats each sequence value as a block number rather than the first id of a block.
+         * 
+         * @return this builder
+         */
+        public Builder withHiLo() {
+            this.hiLo = true;
+            return this;
+        }
+        
+        /**
+         * Sets the number of ids remaining in a block when the next block is reserved.  The default is one
+         * quarter of the block size.  The threshold must be greater than zero and less than the block size, otherwise
+         * the next block would never be reserved in the background.
+         * 
+         * @param refillThreshold the number of ids remaining
+         * @return this builder
+         */
+        public Builder withRefillThreshold(int refillThreshold) {
+            this.refillThreshold = refillThreshold;
+            return this;
+        }
+        
+        /**
+         * Sets the executor that reserves blocks in the background.  The default is the common fork join pool.
+         * 
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+        
+        public SequenceBlockAllocator build() {
+            if (blockSize <= 0) {
+                throw new IllegalArgumentException("The block size must be greater than zero"); //$NON-NLS-1$
+            }
+            if (refillThreshold != null && (refillThreshold <= 0 || refillThreshold >= blockSize)) {
+                throw new IllegalArgumentException(
+                        "The refill threshold must be greater than zero and less than the block size"); //$NON-NLS-1$
+            }
+            
+            SequenceBlockAllocator allocator = new SequenceBlockAllocator();
+            allocator.sequence = sequence;
+            allocator.blockSize = blockSize;
+            allocator.hiLo = hiLo;
+            allocator.refillThreshold = refillThreshold == null ? Math.max(1, blockSize / 4) : refillThreshold;
+            allocator.executor = executor;
+            return allocator;
+        }
+    }
+}
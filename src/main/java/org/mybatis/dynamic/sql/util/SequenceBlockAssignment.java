@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Assigns an id from a {@link SequenceBlockAllocator} to a record property that is null.  Records that already
+ * have an id are not changed.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class SequenceBlockAssignment {
+    private String property;
+    private SequenceBlockAllocator allocator;
+    
+    private SequenceBlockAssignment(String property, SequenceBlockAllocator allocator) {
+        this.property = property;
+        this.allocator = allocator;
+    }
+    
+    public String property() {
+        return property;
+    }
+    
+    public void assign(Object record) {
+        if (BeanPropertyGetter.instance().getPropertyValue(record, property) == null) {
+            Class<?> type = BeanPropertySetter.instance().getPropertyType(record, property);
+            BeanPropertySetter.instance().setPropertyValue(record, property, convert(allocator.nextId(), type));
+        }
+    }
+    
+    private Object convert(long id, Class<?> type) {
+        if (type == Integer.class || type == int.class) {
+            return Math.toIntExact(id);
+        } else if (type == BigInteger.class) {
+            return BigInteger.valueOf(id);
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(id);
+        } else if (type == String.class) {
+            return Long.toString(id);
+        } else {
+            return id;
+        }
+    }
+    
+    public static SequenceBlockAssignment of(String property, SequenceBlockAllocator allocator) {
+        return new SequenceBlockAssignment(property, allocator);
+    }
+}
@@ -23,4 +23,10 @@ public interface UpdateMappingVisitor<T> {
     T visit(StringConstantMapping mapping);
 
     <S> T visit(ValueMapping<S> mapping);
+    
+    T visit(ColumnMapping mapping);
+    
+    <S> T visit(ArithmeticMapping<S> mapping);
+    
+    <S> T visit(CoalesceMapping<S> mapping);
 }
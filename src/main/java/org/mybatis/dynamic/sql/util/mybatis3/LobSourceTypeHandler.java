@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.mybatis3;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.mybatis.dynamic.sql.util.LobSource;
+
+/**
+ * A MyBatis type handler that binds a {@link LobSource} as a stream of known length.  The handler is added
+ * to the placeholders of columns mapped with <code>toLob</code> or <code>equalToLob</code>, so it does
+ * not need to be registered.
+ * 
+ * <p>LOB sources can only be bound as parameters - columns cannot be read into a LOB source.
+ * 
+ * @author Jeff Butler
+ *
+ */
+public class LobSourceTypeHandler extends BaseTypeHandler<LobSource> {
+    
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, LobSource parameter, JdbcType jdbcType)
+            throws SQLException {
+        parameter.bind(ps, i);
+    }
+
+    @Override
+    public LobSource getNullableResult(ResultSet rs, String columnName) {
+        throw unsupported();
+    }
+
+    @Override
+    public LobSource getNullableResult(ResultSet rs, int columnIndex) {
+        throw unsupported();
+    }
+
+    @Override
+    public LobSource getNullableResult(CallableStatement cs, int columnIndex) {
+        throw unsupported();
+    }
+    
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("A LOB source cannot be read from a result"); //$NON-NLS-1$
+    }
+}
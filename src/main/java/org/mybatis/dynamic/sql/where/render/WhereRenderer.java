@@ -26,14 +26,16 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class WhereRenderer {
     private WhereModel model;
-    private AtomicInteger sequence = new AtomicInteger(1);
+    private AtomicInteger sequence;
     private RenderingStrategy renderingStrategy;
     private Map<SqlTable, String> tableAliases;
     
-    private WhereRenderer(WhereModel model, RenderingStrategy renderingStrategy, Map<SqlTable, String> tableAliases) {
+    private WhereRenderer(WhereModel model, RenderingStrategy renderingStrategy, Map<SqlTable, String> tableAliases,
+            AtomicInteger sequence) {
         this.model = model;
         this.renderingStrategy = renderingStrategy;
         this.tableAliases = tableAliases;
+        this.sequence = sequence;
     }
     
     public WhereSupport render() {
@@ -49,6 +51,22 @@ public class WhereRenderer {
     
     public static WhereRenderer of(WhereModel model, RenderingStrategy renderingStrategy,
             Map<SqlTable, String> tableAliases) {
-        return new WhereRenderer(model, renderingStrategy, tableAliases);
+        return of(model, renderingStrategy, tableAliases, new AtomicInteger(1));
+    }
+    
+    /**
+     * Returns a renderer that draws parameter numbers from a shared sequence.  This is used when
+     * several where clauses are rendered into one statement (for example, the members of a common
+     * table expression) so that the parameter map keys do not collide.
+     * 
+     * @param model the where model
+     * @param renderingStrategy the rendering strategy
+     * @param tableAliases the table aliases in effect for the statement
+     * @param sequence the shared parameter sequence
+     * @return the renderer
+     */
+    public static WhereRenderer of(WhereModel model, RenderingStrategy renderingStrategy,
+            Map<SqlTable, String> tableAliases, AtomicInteger sequence) {
+        return new WhereRenderer(model, renderingStrategy, tableAliases, sequence);
     }
 }
@@ -0,0 +1,198 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.animal.data;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.jdbc.ColumnarResult;
+import org.mybatis.dynamic.sql.jdbc.CompiledRowMapper;
+import org.mybatis.dynamic.sql.jdbc.ExportFormat;
+import org.mybatis.dynamic.sql.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.jdbc.JdbcSession;
+import org.mybatis.dynamic.sql.jdbc.ResultExporter;
+import org.mybatis.dynamic.sql.jdbc.RowMapper;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+@RunWith(JUnitPlatform.class)
+public class AnimalDataJdbcExecutorTest {
+    
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver"; 
+    
+    private static final RowMapper<AnimalData> ANIMAL_MAPPER = rs -> {
+        AnimalData animal = new AnimalData();
+        animal.setId(rs.getInt(1));
+        animal.setAnimalName(rs.getString(2));
+        animal.setBodyWeight(rs.getDouble(3));
+        animal.setBrainWeight(rs.getDouble(4));
+        return animal;
+    };
+    
+    private JdbcExecutor executor;
+    
+    @BeforeEach
+    public void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+        
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        executor = new JdbcExecutor.Builder(ds)
+                .withDialect(Dialect.HSQLDB)
+                .build();
+    }
+    
+    @Test
+    public void testSelectRowsLessThan20() throws Exception {
+        List<AnimalData> animals = executor.selectList(select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isLessThan(20))
+                .build(), ANIMAL_MAPPER);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(animals.size()).isEqualTo(19);
+            softly.assertThat(animals.get(0).getId()).isEqualTo(1);
+            softly.assertThat(animals.get(0).getAnimalName()).isEqualTo("Lesser short-tailed shrew");
+        });
+    }
+    
+    @Test
+    public void testInsertUpdateAndDelete() throws Exception {
+        AnimalData record = new AnimalData();
+        record.setId(100);
+        record.setAnimalName("Old Shep");
+        record.setBodyWeight(22.5);
+        record.setBrainWeight(1.2);
+        
+        SelectModel selectOldShep = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isEqualTo(100))
+                .build();
+        
+        int inserted = executor.insert(insert(record)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toProperty("animalName")
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toProperty("brainWeight")
+                .build());
+        int updated = executor.update(update(animalData)
+                .set(animalName).equalTo("Young Shep")
+                .where(id, isEqualTo(100))
+                .build());
+        Optional<AnimalData> updatedRecord = executor.selectOne(selectOldShep, ANIMAL_MAPPER);
+        int deleted = executor.delete(deleteFrom(animalData)
+                .where(id, isIn(5, 8, 10, 100))
+                .build());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(inserted).isEqualTo(1);
+            softly.assertThat(updated).isEqualTo(1);
+            softly.assertThat(updatedRecord.map(AnimalData::getAnimalName).orElse(null)).isEqualTo("Young Shep");
+            softly.assertThat(deleted).isEqualTo(4);
+        });
+    }
+    
+    @Test
+    public void testSessionReusesStatements() throws Exception {
+        try (JdbcSession session = executor.openSession()) {
+            for (int i = 1; i <= 10; i++) {
+                Optional<AnimalData> animal = session.selectOne(select(id, animalName, bodyWeight, brainWeight)
+                        .from(animalData)
+                        .where(id, isEqualTo(i))
+                        .build(), ANIMAL_MAPPER);
+                assertThat(animal.map(AnimalData::getId).orElse(null)).isEqualTo(i);
+            }
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(session.statementCacheMisses()).isEqualTo(1L);
+                softly.assertThat(session.statementCacheHits()).isEqualTo(9L);
+            });
+        }
+    }
+    
+    @Test
+    public void testCompiledRowMapper() throws Exception {
+        SelectModel selectModel = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isBetween(30).and(40))
+                .orderBy(id)
+                .build();
+        
+        List<AnimalData> animals = executor.selectList(selectModel,
+                CompiledRowMapper.of(AnimalData.class, selectModel));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(animals.size()).isEqualTo(11);
+            softly.assertThat(animals.get(0).getId()).isEqualTo(30);
+            softly.assertThat(animals.get(0).getAnimalName()).isNotNull();
+            softly.assertThat(animals.get(0).getBodyWeight()).isGreaterThan(0.0);
+        });
+    }
+    
+    @Test
+    public void testSelectColumnar() throws Exception {
+        ColumnarResult result = executor.selectColumnar(select(id, bodyWeight)
+                .from(animalData)
+                .orderBy(id)
+                .build());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.rowCount()).isEqualTo(65);
+            softly.assertThat(result.intColumn(id).stream().sum()).isEqualTo(2145);
+            softly.assertThat(result.intColumn(id).get(64)).isEqualTo(65);
+            softly.assertThat(result.doubleColumn(bodyWeight).nullCount()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        StringWriter writer = new StringWriter();
+        long rows = executor.export(select(id, animalName, brainWeight)
+                .from(animalData)
+                .where(id, isLessThan(3))
+                .orderBy(id)
+                .build(), new ResultExporter.Builder(ExportFormat.CSV).build(), writer);
+        
+        assertThat(rows).isEqualTo(2);
+        assertThat(writer.toString()).isEqualTo("id,animal_name,brain_weight\n"
+                + "1,Lesser short-tailed shrew,0.005\n"
+                + "2,Little brown bat,0.01\n");
+    }
+}
@@ -40,10 +40,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.ChunkedDelete;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
 import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.SelectSupport;
+import org.mybatis.dynamic.sql.update.ChunkedUpdate;
+import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.update.render.UpdateSupport;
 
 @RunWith(JUnitPlatform.class)
@@ -512,6 +517,66 @@ public class AnimalDataTest {
         }
     }
 
+    @Test
+    public void testChunkedDelete() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+        try {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            
+            DeleteModel deleteModel = deleteFrom(animalData)
+                    .where(id, isGreaterThan(10))
+                    .build();
+            ChunkedDelete chunkedDelete = new ChunkedDelete.Builder(deleteModel, id)
+                    .withChunkSize(7)
+                    .build();
+
+            int rowCount = chunkedDelete.execute(RenderingStrategy.MYBATIS3, Dialect.HSQLDB, ds -> {
+                int rows = mapper.delete(ds);
+                sqlSession.commit();
+                return rows;
+            });
+            
+            SelectSupport selectSupport = select(count())
+                    .from(animalData)
+                    .build()
+                    .render(RenderingStrategy.MYBATIS3);
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(rowCount).isEqualTo(55);
+                softly.assertThat(mapper.selectALong(selectSupport)).isEqualTo(10);
+            });
+        } finally {
+            sqlSession.close();
+        }
+    }
+    
+    @Test
+    public void testChunkedUpdate() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+        try {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            
+            UpdateModel updateModel = update(animalData)
+                    .set(animalName).equalToNull()
+                    .where(animalName, isNotNull())
+                    .build();
+            ChunkedUpdate chunkedUpdate = new ChunkedUpdate.Builder(updateModel, id)
+                    .withChunkSize(10)
+                    .withPauseMillis(1)
+                    .build();
+
+            int rowCount = chunkedUpdate.execute(RenderingStrategy.MYBATIS3, Dialect.HSQLDB, us -> {
+                int rows = mapper.update(us);
+                sqlSession.commit();
+                return rows;
+            });
+            
+            assertThat(rowCount).isEqualTo(65);
+        } finally {
+            sqlSession.close();
+        }
+    }
+    
     @Test
     public void testUpdateByExample() {
         SqlSession sqlSession = sqlSessionFactory.openSession();
@@ -0,0 +1,48 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.lob;
+
+import org.mybatis.dynamic.sql.util.LobSource;
+
+public class LobRecord {
+    private Integer id;
+    private LobSource document;
+    private LobSource notes;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public LobSource getDocument() {
+        return document;
+    }
+
+    public void setDocument(LobSource document) {
+        this.document = document;
+    }
+
+    public LobSource getNotes() {
+        return notes;
+    }
+
+    public void setNotes(LobSource notes) {
+        this.notes = notes;
+    }
+}
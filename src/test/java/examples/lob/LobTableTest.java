@@ -0,0 +1,157 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.lob;
+
+import static examples.lob.LobTableDynamicSqlSupport.*;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.LobSource;
+
+@RunWith(JUnitPlatform.class)
+public class LobTableTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver"; 
+    
+    private JdbcExecutor executor;
+    private SqlSessionFactory sqlSessionFactory;
+    
+    @BeforeEach
+    public void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/lob/CreateLobDB.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+        
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        executor = new JdbcExecutor.Builder(ds)
+                .withDialect(Dialect.HSQLDB)
+                .build();
+        
+        Configuration config = new Configuration(new Environment("test", new JdbcTransactionFactory(), ds));
+        config.addMapper(LobTableMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+    }
+    
+    @Test
+    public void testInsertAndUpdateWithJdbcExecutor() throws Exception {
+        try (LobSource document = LobSource.of(ByteBuffer.wrap("a document".getBytes(StandardCharsets.UTF_8)));
+                LobSource notes = LobSource.ofCharacters(new StringReader("first note"), 10);
+                // only the stated length is read
+                LobSource newNotes = LobSource.ofCharacters(new StringReader("second note and more"), 11)) {
+            int inserted = executor.insert(buildInsert(1, document, notes));
+            int updated = executor.update(buildUpdate(1, newNotes));
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(inserted).isEqualTo(1);
+                softly.assertThat(updated).isEqualTo(1);
+            });
+        }
+        
+        assertRow(1, "a document", "second note");
+    }
+    
+    @Test
+    public void testInsertAndUpdateWithMyBatis() throws Exception {
+        try (SqlSession session = sqlSessionFactory.openSession();
+                LobSource document = LobSource.of(ByteBuffer.wrap("a document".getBytes(StandardCharsets.UTF_8)));
+                LobSource notes = LobSource.ofCharacters(new StringReader("first note"), 10);
+                LobSource newNotes = LobSource.ofCharacters(new StringReader("second note and more"), 11)) {
+            LobTableMapper mapper = session.getMapper(LobTableMapper.class);
+            
+            int inserted = mapper.insert(buildInsert(2, document, notes).render(RenderingStrategy.MYBATIS3));
+            int updated = mapper.update(buildUpdate(2, newNotes).render(RenderingStrategy.MYBATIS3));
+            session.commit();
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(inserted).isEqualTo(1);
+                softly.assertThat(updated).isEqualTo(1);
+            });
+        }
+        
+        assertRow(2, "a document", "second note");
+    }
+    
+    private InsertModel<LobRecord> buildInsert(int recordId, LobSource documentSource, LobSource notesSource) {
+        LobRecord record = new LobRecord();
+        record.setId(recordId);
+        record.setDocument(documentSource);
+        record.setNotes(notesSource);
+        
+        return insert(record)
+                .into(lobTable)
+                .map(id).toProperty("id")
+                .map(document).toLob("document")
+                .map(notes).toLob("notes")
+                .build();
+    }
+    
+    private UpdateModel buildUpdate(int recordId, LobSource notesSource) {
+        return update(lobTable)
+                .set(notes).equalToLob(notesSource)
+                .where(id, isEqualTo(recordId))
+                .build();
+    }
+    
+    private void assertRow(int recordId, String expectedDocument, String expectedNotes) throws Exception {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+                PreparedStatement ps = connection.prepareStatement("select document, notes from LobTable where id = ?")) {
+            ps.setInt(1, recordId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                String actualDocument = new String(rs.getBytes(1), StandardCharsets.UTF_8);
+                String actualNotes = rs.getString(2);
+                
+                SoftAssertions.assertSoftly(softly -> {
+                    softly.assertThat(actualDocument).isEqualTo(expectedDocument);
+                    softly.assertThat(actualNotes).isEqualTo(expectedNotes);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+
+@RunWith(JUnitPlatform.class)
+public class ChunkedDeleteTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = SqlColumn.of(foo, "status", JDBCType.VARCHAR);
+
+    private ChunkedDelete buildChunkedDelete() {
+        DeleteModel deleteModel = deleteFrom(foo)
+                .where(status, isEqualTo("EXPIRED"))
+                .build();
+        return new ChunkedDelete.Builder(deleteModel, id)
+                .withChunkSize(500)
+                .build();
+    }
+    
+    @Test
+    public void testLimitedStatements() {
+        ChunkedDelete chunkedDelete = buildChunkedDelete();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.HSQLDB)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where id in (select id from foo where status = :p1 limit 500)");
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.POSTGRESQL)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where id in (select id from foo where status = :p1 limit 500)");
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.MYSQL)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where status = :p1 limit 500");
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.ORACLE)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where (status = :p1) and rownum <= 500");
+        });
+    }
+
+    @Test
+    public void testLimitedStatementWithoutWhere() {
+        ChunkedDelete chunkedDelete = new ChunkedDelete.Builder(deleteFrom(foo).build(), id)
+                .withChunkSize(100)
+                .build();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.MYBATIS3, Dialect.GENERIC)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where id in (select id from foo limit 100)");
+            softly.assertThat(chunkedDelete.render(RenderingStrategy.MYBATIS3, Dialect.ORACLE)
+                    .getFullDeleteStatement())
+                .isEqualTo("delete from foo where rownum <= 100");
+        });
+    }
+
+    @Test
+    public void testExecuteUntilNoRowsDeleted() {
+        ChunkedDelete chunkedDelete = buildChunkedDelete();
+        Iterator<Integer> counts = Arrays.asList(500, 500, 123, 0).iterator();
+        List<DeleteSupport> executed = new ArrayList<>();
+        
+        int total = chunkedDelete.execute(RenderingStrategy.MYBATIS3, Dialect.HSQLDB, ds -> {
+            executed.add(ds);
+            return counts.next();
+        });
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(total).isEqualTo(1123);
+            softly.assertThat(executed.size()).isEqualTo(4);
+            softly.assertThat(executed.get(0).getParameters()).containsEntry("p1", "EXPIRED");
+        });
+    }
+
+    @Test
+    public void testAdaptiveChunkSize() {
+        AdaptiveBatchSize adaptiveChunkSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(100)
+                .build();
+        ChunkedDelete chunkedDelete = new ChunkedDelete.Builder(deleteFrom(foo).build(), id)
+                .withAdaptiveChunkSize(adaptiveChunkSize)
+                .build();
+        List<String> expectedStatements = new ArrayList<>();
+        List<String> executedStatements = new ArrayList<>();
+        
+        int total = chunkedDelete.execute(RenderingStrategy.MYBATIS3, Dialect.MYSQL, ds -> {
+            int chunkSize = adaptiveChunkSize.batchSize();
+            expectedStatements.add("delete from foo limit " + chunkSize);
+            executedStatements.add(ds.getFullDeleteStatement());
+            return executedStatements.size() < 4 ? chunkSize : 0;
+        });
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(executedStatements).isEqualTo(expectedStatements);
+            softly.assertThat(executedStatements.get(0)).isEqualTo("delete from foo limit 100");
+            softly.assertThat(adaptiveChunkSize.batches()).isEqualTo(4L);
+            softly.assertThat(total).isEqualTo((int) adaptiveChunkSize.rows());
+        });
+    }
+
+    @Test
+    public void testInvalidSettingsAreRejected() {
+        ChunkedDelete.Builder builder = new ChunkedDelete.Builder(deleteFrom(foo).build(), id);
+        
+        assertThatThrownBy(() -> builder.withChunkSize(0)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The chunk size must be greater than zero");
+        assertThatThrownBy(() -> builder.withChunkSize(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.withPauseMillis(-1)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The pause must not be negative");
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.runner.RunWith;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.render.DeleteSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 @RunWith(JUnitPlatform.class)
@@ -72,4 +73,33 @@ public class DeleteSupportTest {
             softly.assertThat(deleteSupport.getParameters().size()).isEqualTo(0);
         });
     }
+
+    @Test
+    public void testDeleteWithReturning() {
+        DeleteSupport deleteSupport = deleteFrom(foo)
+                .where(id, isLessThan(100))
+                .returning(id, firstName)
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.POSTGRESQL);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(deleteSupport.getReturningClause()).isEqualTo("returning id, first_name");
+            softly.assertThat(deleteSupport.getFullDeleteStatement())
+                .isEqualTo("delete from foo where id < :p1 returning id, first_name");
+            softly.assertThat(deleteSupport.getParameters().get("p1")).isEqualTo(100);
+        });
+    }
+
+    @Test
+    public void testDeleteAllWithReturning() {
+        DeleteSupport deleteSupport = deleteFrom(foo)
+                .returning(id)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(deleteSupport.getFullDeleteStatement()).isEqualTo("delete from foo returning id");
+            softly.assertThat(deleteSupport.getParameters().size()).isEqualTo(0);
+        });
+    }
 }
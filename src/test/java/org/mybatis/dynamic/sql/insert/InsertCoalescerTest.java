@@ -0,0 +1,149 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+import org.mybatis.dynamic.sql.insert.render.BatchInsertSupport;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+@RunWith(JUnitPlatform.class)
+public class InsertCoalescerTest {
+
+    private static final SqlTable audit = SqlTable.of("audit");
+    private static final SqlColumn<Integer> id = audit.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = audit.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    public void testFullBatchIsWrittenImmediately() {
+        List<BatchInsertSupport<TestRecord>> batches = Collections.synchronizedList(new ArrayList<>());
+        
+        try (InsertCoalescer<TestRecord> coalescer = new InsertCoalescer.Builder<TestRecord>(b -> {
+                    batches.add(b);
+                    return countsFor(b);
+                })
+                .withMaxBatchSize(3)
+                .withWindowMillis(60000)
+                .build()) {
+            
+            List<CompletableFuture<Integer>> futures = IntStream.rangeClosed(1, 3)
+                    .mapToObj(i -> coalescer.submit(render(i)))
+                    .collect(Collectors.toList());
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(batches.size()).isEqualTo(1);
+                softly.assertThat(batches.get(0).getRecords().size()).isEqualTo(3);
+                softly.assertThat(batches.get(0).getFullInsertStatement()).isEqualTo(
+                        "insert into audit (id, first_name) values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR})");
+                softly.assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toList())).containsExactly(1, 1, 1);
+            });
+        }
+    }
+
+    @Test
+    public void testPartialBatchIsWrittenAfterWindow() {
+        try (InsertCoalescer<TestRecord> coalescer = new InsertCoalescer.Builder<TestRecord>(this::countsFor)
+                .withMaxBatchSize(100)
+                .withWindowMillis(10)
+                .build()) {
+            
+            CompletableFuture<Integer> first = coalescer.submit(render(1));
+            CompletableFuture<Integer> second = coalescer.submit(render(2));
+            
+            assertThat(first.join()).isEqualTo(1);
+            assertThat(second.join()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testDifferentStatementsAreWrittenSeparately() {
+        List<BatchInsertSupport<TestRecord>> batches = Collections.synchronizedList(new ArrayList<>());
+        
+        InsertCoalescer<TestRecord> coalescer = new InsertCoalescer.Builder<TestRecord>(b -> {
+                    batches.add(b);
+                    return countsFor(b);
+                })
+                .withWindowMillis(60000)
+                .build();
+        
+        coalescer.submit(render(1));
+        coalescer.submit(insert(new TestRecord())
+                .into(audit)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategy.MYBATIS3));
+        coalescer.submit(render(2));
+        coalescer.close();
+        
+        assertThat(batches.stream().map(b -> b.getRecords().size()).collect(Collectors.toList())).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    public void testFailedBatchFailsEveryInsert() {
+        InsertCoalescer<TestRecord> coalescer = new InsertCoalescer.Builder<TestRecord>(b -> {
+                    throw new IllegalStateException("write failed");
+                })
+                .withWindowMillis(60000)
+                .build();
+        
+        CompletableFuture<Integer> first = coalescer.submit(render(1));
+        CompletableFuture<Integer> second = coalescer.submit(render(2));
+        coalescer.close();
+        
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class);
+        assertThatThrownBy(() -> coalescer.submit(render(3))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private InsertSupport<TestRecord> render(int i) {
+        TestRecord record = new TestRecord();
+        record.setId(i);
+        record.setFirstName("name" + i);
+        return insert(record)
+                .into(audit)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+    }
+
+    private int[] countsFor(BatchInsertSupport<TestRecord> batch) {
+        int[] counts = new int[batch.getRecords().size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
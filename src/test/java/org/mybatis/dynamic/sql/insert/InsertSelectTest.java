@@ -0,0 +1,88 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insertInto;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.Date;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectSupport;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+@RunWith(JUnitPlatform.class)
+public class InsertSelectTest {
+
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Integer> id = orders.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Date> orderDate = orders.column("order_date", JDBCType.DATE);
+    private static final SqlColumn<String> status = orders.column("status", JDBCType.VARCHAR);
+
+    private static final SqlTable archive = SqlTable.of("orders_archive");
+    private static final SqlColumn<Integer> archiveId = archive.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Date> archiveOrderDate = archive.column("order_date", JDBCType.DATE);
+
+    @Test
+    public void testInsertSelectWithColumnList() {
+        Date cutoff = new Date();
+        
+        InsertSelectSupport insertSelectSupport = insertInto(archive)
+                .withColumnList(archiveId, archiveOrderDate)
+                .withSelectStatement(select(id, orderDate)
+                        .from(orders)
+                        .where(orderDate, isLessThan(cutoff))
+                        .and(status, isEqualTo("CLOSED"))
+                        .build())
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expected = "insert into orders_archive (id, order_date) select id, order_date from orders"
+                + " where order_date < #{parameters.p1,jdbcType=DATE}"
+                + " and status = #{parameters.p2,jdbcType=VARCHAR}";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(insertSelectSupport.getColumnsPhrase()).isEqualTo("(id, order_date)");
+            softly.assertThat(insertSelectSupport.getFullInsertStatement()).isEqualTo(expected);
+            softly.assertThat(insertSelectSupport.getParameters().size()).isEqualTo(2);
+            softly.assertThat(insertSelectSupport.getParameters()).containsEntry("p1", cutoff);
+            softly.assertThat(insertSelectSupport.getParameters()).containsEntry("p2", "CLOSED");
+        });
+    }
+
+    @Test
+    public void testInsertSelectWithoutColumnList() {
+        InsertSelectSupport insertSelectSupport = insertInto(archive)
+                .withSelectStatement(select(id, orderDate)
+                        .from(orders)
+                        .where(status, isEqualTo("CLOSED"))
+                        .build())
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+        
+        String expected = "insert into orders_archive select id, order_date from orders where status = :p1";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(insertSelectSupport.columnsPhrase().isPresent()).isFalse();
+            softly.assertThat(insertSelectSupport.getFullInsertStatement()).isEqualTo(expected);
+        });
+    }
+}
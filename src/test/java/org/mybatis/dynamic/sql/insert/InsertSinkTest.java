@@ -0,0 +1,320 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+import org.mybatis.dynamic.sql.insert.render.BatchInsertSupport;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AdaptiveBatchSize;
+import org.mybatis.dynamic.sql.util.SequenceBlockAllocator;
+
+@RunWith(JUnitPlatform.class)
+public class InsertSinkTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    public void testBatchInsert() {
+        List<TestRecord> records = Arrays.asList(record(1, "Fred"), record(2, "Barney"));
+        
+        BatchInsertSupport<TestRecord> batchInsertSupport = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toStringConstant("quarry")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expected = "insert into foo (id, first_name, occupation)"
+                + " values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}, 'quarry')";
+        List<InsertSupport<TestRecord>> insertSupports = batchInsertSupport.insertSupports()
+                .collect(Collectors.toList());
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batchInsertSupport.getFullInsertStatement()).isEqualTo(expected);
+            softly.assertThat(batchInsertSupport.getRecords()).isEqualTo(records);
+            softly.assertThat(insertSupports.size()).isEqualTo(2);
+            softly.assertThat(insertSupports.get(1).getFullInsertStatement()).isEqualTo(expected);
+            softly.assertThat(insertSupports.get(1).getRecord()).isSameAs(records.get(1));
+        });
+    }
+
+    @Test
+    public void testBatchInsertInKeyOrder() {
+        List<TestRecord> records = Arrays.asList(record(3, "Wilma"), record(1, "Fred"), record(2, "Barney"));
+        
+        BatchInsertSupport<TestRecord> batchInsertSupport = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .inKeyOrder(id)
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        assertThat(batchInsertSupport.getRecords()).containsExactly(records.get(1), records.get(2), records.get(0));
+    }
+
+    @Test
+    public void testBatchInsertWithSequenceBlock() {
+        TestRecord existing = record(42, "Wilma");
+        List<TestRecord> records = Arrays.asList(record(null, "Fred"), existing, record(null, "Barney"));
+        AtomicLong sequence = new AtomicLong(100);
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(() -> sequence.getAndAdd(10), 10)
+                .withExecutor(Runnable::run)
+                .build();
+        
+        BatchInsertSupport<TestRecord> batchInsertSupport = insertBatch(records)
+                .into(foo)
+                .map(id).toSequenceBlock("id", allocator)
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batchInsertSupport.getFullInsertStatement()).isEqualTo("insert into foo (id, first_name)"
+                    + " values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR})");
+            softly.assertThat(records.get(0).getId()).isEqualTo(100);
+            softly.assertThat(existing.getId()).isEqualTo(42);
+            softly.assertThat(records.get(2).getId()).isEqualTo(101);
+        });
+    }
+
+    @Test
+    public void testMultiRowInsert() {
+        List<TestRecord> records = Arrays.asList(record(1, "Fred"), record(2, "Barney"));
+        
+        MultiRowInsertSupport<TestRecord> multiRowInsertSupport = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toNull()
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expected = "insert into foo (id, first_name, occupation) values"
+                + " (#{parameters.p1,jdbcType=INTEGER}, #{parameters.p2,jdbcType=VARCHAR}, null),"
+                + " (#{parameters.p3,jdbcType=INTEGER}, #{parameters.p4,jdbcType=VARCHAR}, null)";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(multiRowInsertSupport.getFullInsertStatement()).isEqualTo(expected);
+            softly.assertThat(multiRowInsertSupport.getParameters().size()).isEqualTo(4);
+            softly.assertThat(multiRowInsertSupport.getParameters()).containsEntry("p1", 1);
+            softly.assertThat(multiRowInsertSupport.getParameters()).containsEntry("p4", "Barney");
+        });
+    }
+
+    @Test
+    public void testMultiRowInsertForSpring() {
+        List<TestRecord> records = Arrays.asList(record(1, "Fred"), record(2, "Barney"));
+        
+        MultiRowInsertSupport<TestRecord> multiRowInsertSupport = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+        
+        String expected = "insert into foo (id, first_name) values (:p1, :p2), (:p3, :p4)";
+        assertThat(multiRowInsertSupport.getFullInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSinkWritesBatchesOfBufferSize() {
+        List<Integer> batchSizes = new ArrayList<>();
+        
+        InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .withBufferSize(4)
+                .buildForBatches(RenderingStrategy.MYBATIS3, batch -> {
+                    batchSizes.add(batch.getRecords().size());
+                    return batch.getRecords().size();
+                });
+        
+        try (InsertSink<TestRecord> s = sink) {
+            s.addAll(IntStream.rangeClosed(1, 10).mapToObj(i -> record(i, "name" + i)));
+            assertThat(batchSizes).containsExactly(4, 4);
+        }
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batchSizes).containsExactly(4, 4, 2);
+            softly.assertThat(sink.rowsWritten()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    public void testSinkSplitsMultiRowInsertsAtParameterLimit() {
+        List<Integer> statementSizes = new ArrayList<>();
+        
+        InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .withBufferSize(2500)
+                .withDialect(Dialect.GENERIC)
+                .buildForMultiRowInserts(RenderingStrategy.MYBATIS3, insert -> {
+                    statementSizes.add(insert.getRecords().size());
+                    return insert.getRecords().size();
+                });
+        
+        IntStream.rangeClosed(1, 2600).forEach(i -> sink.add(record(i, "name" + i)));
+        sink.close();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statementSizes).containsExactly(1000, 1000, 500, 100);
+            softly.assertThat(sink.rowsWritten()).isEqualTo(2600);
+        });
+    }
+
+    @Test
+    public void testSinkWithAdaptiveBufferSize() {
+        AdaptiveBatchSize adaptiveBufferSize = new AdaptiveBatchSize.Builder()
+                .withBounds(10, 1000)
+                .withInitialSize(10)
+                .build();
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Integer> expectedSizes = new ArrayList<>();
+        
+        InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                .map(id).toProperty("id")
+                .withAdaptiveBufferSize(adaptiveBufferSize)
+                .buildForBatches(RenderingStrategy.MYBATIS3, batch -> {
+                    expectedSizes.add(adaptiveBufferSize.batchSize());
+                    batchSizes.add(batch.getRecords().size());
+                    return batch.getRecords().size();
+                });
+        
+        sink.addAll(IntStream.rangeClosed(1, 500).mapToObj(i -> record(i, "name" + i)));
+        sink.close();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batchSizes.get(0)).isEqualTo(10);
+            softly.assertThat(batchSizes.subList(0, batchSizes.size() - 1))
+                    .isEqualTo(expectedSizes.subList(0, expectedSizes.size() - 1));
+            softly.assertThat(adaptiveBufferSize.rows()).isEqualTo(500L);
+            softly.assertThat(sink.rowsWritten()).isEqualTo(500L);
+        });
+    }
+
+    @Test
+    public void testAsyncSinkWaitsForPendingWritesOnClose() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                    .map(id).toProperty("id")
+                    .withBufferSize(3)
+                    .withAsyncFlushes(executor, 2)
+                    .buildForBatches(RenderingStrategy.MYBATIS3, batch -> batch.getRecords().size());
+            
+            sink.addAll(IntStream.rangeClosed(1, 100).mapToObj(i -> record(i, "name" + i)));
+            sink.close();
+            
+            assertThat(sink.rowsWritten()).isEqualTo(100);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsyncSinkReportsWriteFailure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                    .map(id).toProperty("id")
+                    .withBufferSize(2)
+                    .withAsyncFlushes(executor, 1)
+                    .buildForBatches(RenderingStrategy.MYBATIS3, batch -> {
+                        throw new IllegalStateException("write failed");
+                    });
+            
+            sink.add(record(1, "Fred"));
+            sink.add(record(2, "Barney"));
+            
+            assertThatThrownBy(sink::close).isInstanceOf(IllegalStateException.class)
+                    .hasMessage("write failed");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectedFlushCanBeRetried() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        Executor executor = command -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("queue full");
+            }
+            command.run();
+        };
+        InsertSink<TestRecord> sink = new InsertSink.Builder<TestRecord>(foo)
+                .map(id).toProperty("id")
+                .withBufferSize(2)
+                .withAsyncFlushes(executor, 1)
+                .buildForBatches(RenderingStrategy.MYBATIS3, batch -> batch.getRecords().size());
+        
+        sink.add(record(1, "Fred"));
+        assertThatThrownBy(() -> sink.add(record(2, "Barney"))).isInstanceOf(RejectedExecutionException.class);
+        
+        reject.set(false);
+        sink.close();
+        
+        assertThat(sink.rowsWritten()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidSizesAreRejected() {
+        assertThatThrownBy(() -> new InsertSink.Builder<TestRecord>(foo).withBufferSize(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The buffer size must be greater than zero");
+        assertThatThrownBy(() -> new InsertSink.Builder<TestRecord>(foo).withAsyncFlushes(Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maximum number of pending flushes must be greater than zero");
+    }
+
+    private static TestRecord record(Integer id, String firstName) {
+        TestRecord record = new TestRecord();
+        record.setId(id);
+        record.setFirstName(firstName);
+        return record;
+    }
+}
@@ -16,11 +16,13 @@
 package org.mybatis.dynamic.sql.insert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mybatis.dynamic.sql.SqlBuilder.insert;
 
 import java.sql.JDBCType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collector;
 
 import org.assertj.core.api.SoftAssertions;
@@ -32,7 +34,9 @@ import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.insert.render.FieldAndValue;
 import org.mybatis.dynamic.sql.insert.render.FieldAndValueCollector;
 import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.SequenceBlockAllocator;
 
 @RunWith(JUnitPlatform.class)
 public class InsertSupportTest {
@@ -68,6 +72,64 @@ public class InsertSupportTest {
         });
     }
 
+    @Test
+    public void testInsertWithSequenceBlock() {
+        AtomicLong sequence = new AtomicLong(7);
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(() -> sequence.getAndAdd(5), 5)
+                .withExecutor(Runnable::run)
+                .build();
+        TestRecord record = new TestRecord();
+        record.setLastName("jones");
+        
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toSequenceBlock("id", allocator)
+                .map(lastName).toProperty("lastName")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo("insert into foo (id, last_name)"
+                    + " values (#{record.id,jdbcType=INTEGER}, #{record.lastName,jdbcType=VARCHAR})");
+            softly.assertThat(record.getId()).isEqualTo(7);
+        });
+    }
+
+    @Test
+    public void testInsertWithLobs() {
+        SqlColumn<byte[]> document = SqlColumn.of(foo, "document", JDBCType.BLOB);
+        SqlColumn<String> notes = SqlColumn.of(foo, "notes", JDBCType.CLOB);
+        
+        InsertSupport<TestRecord> insertSupport = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(document).toLob("document")
+                .map(notes).toLob("notes")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+
+        String expectedValuesPhrase = "values (#{record.id,jdbcType=INTEGER},"
+                + " #{record.document,jdbcType=BLOB,"
+                + "typeHandler=org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler},"
+                + " #{record.notes,jdbcType=CLOB,"
+                + "typeHandler=org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler})";
+        assertThat(insertSupport.getValuesPhrase()).isEqualTo(expectedValuesPhrase);
+    }
+
+    @Test
+    public void testInsertWithLobsIsRejectedForSpring() {
+        SqlColumn<String> notes = SqlColumn.of(foo, "notes", JDBCType.CLOB);
+        InsertModel<TestRecord> insertModel = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(notes).toLob("notes")
+                .build();
+        
+        assertThatThrownBy(() -> insertModel.render(RenderingStrategy.SPRING_NAMED_PARAMETER))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Column notes is set from a LOB source, which cannot be bound with Spring named parameters");
+    }
+
     @Test
     public void testInsertSupportBuilderWithNulls() {
 
@@ -190,6 +252,39 @@ public class InsertSupportTest {
         assertThat(insertSupport.getFullInsertStatement()).isEqualTo(expectedStatement);
     }
 
+    @Test
+    public void testInsertWithReturning() {
+        TestRecord record = new TestRecord();
+        
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .returning(id, occupation)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(insertSupport.getReturningClause()).isEqualTo("returning id, occupation");
+            String expectedStatement = "insert into foo (first_name, last_name)"
+                    + " values (#{record.firstName,jdbcType=VARCHAR}, #{record.lastName,jdbcType=VARCHAR})"
+                    + " returning id, occupation";
+            softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo(expectedStatement);
+        });
+    }
+
+    @Test
+    public void testInsertWithReturningUnsupported() {
+        InsertModel<TestRecord> insertModel = insert(new TestRecord())
+                .into(foo)
+                .map(firstName).toProperty("firstName")
+                .returning(id)
+                .build();
+
+        assertThatThrownBy(() -> insertModel.render(RenderingStrategy.MYBATIS3, Dialect.HSQLDB))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     public static class TestRecord {
         private Integer id;
         private String firstName;
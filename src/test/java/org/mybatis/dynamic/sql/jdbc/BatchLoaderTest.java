@@ -0,0 +1,212 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+@RunWith(JUnitPlatform.class)
+public class BatchLoaderTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    
+    private static final String[] NAMES = {null, "Fred", "Wilma", "Barney"};
+
+    @Test
+    public void testKeysAreBatchedAndDeduplicated() throws Exception {
+        RecordingDataSource recorder = recorder();
+        BatchLoader<Integer, List<Object>> loader = loader(recorder, select(id, firstName).from(foo).build())
+                .build();
+        
+        CompletableFuture<Optional<List<Object>>> three = loader.load(3);
+        CompletableFuture<Optional<List<Object>>> one = loader.load(1);
+        CompletableFuture<Optional<List<Object>>> threeAgain = loader.load(3);
+        CompletableFuture<Optional<List<Object>>> missing = loader.load(7);
+        assertThat(three.isDone()).isFalse();
+        
+        loader.dispatch();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(recorder.preparedStatements())
+                    .containsExactly("select id, first_name from foo where id in (?,?,?)");
+            softly.assertThat(recorder.queries()).containsExactly(Arrays.asList(3, 1, 7));
+            softly.assertThat(three.join().orElse(null)).isEqualTo(Arrays.asList(3, "Barney"));
+            softly.assertThat(one.join().orElse(null)).isEqualTo(Arrays.asList(1, "Fred"));
+            softly.assertThat(threeAgain).isSameAs(three);
+            softly.assertThat(missing.join().isPresent()).isFalse();
+            softly.assertThat(loader.selects()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    public void testTemplateWhereClauseIsKept() throws Exception {
+        RecordingDataSource recorder = recorder();
+        BatchLoader<Integer, List<Object>> loader = loader(recorder,
+                select(id, firstName).from(foo).where(lastName, isEqualTo("Flintstone")).orderBy(id).build())
+                .build();
+        
+        loader.load(2);
+        loader.load(1);
+        loader.dispatch();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(recorder.preparedStatements())
+                    .containsExactly("select id, first_name from foo where id in (?,?) and last_name = ? "
+                            + "order by id ASC");
+            softly.assertThat(recorder.queries()).containsExactly(Arrays.asList(2, 1, "Flintstone"));
+        });
+    }
+
+    @Test
+    public void testFullBatchesAreDispatched() throws Exception {
+        RecordingDataSource recorder = recorder();
+        BatchLoader<Integer, List<Object>> loader = loader(recorder, select(id, firstName).from(foo).build())
+                .withMaxBatchSize(2)
+                .build();
+        
+        List<CompletableFuture<Optional<List<Object>>>> futures = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            futures.add(loader.load(i));
+        }
+        assertThat(loader.selects()).isEqualTo(2L);
+        loader.dispatch();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(recorder.queries()).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4),
+                    Arrays.asList(5));
+            softly.assertThat(futures.get(1).join().orElse(null)).isEqualTo(Arrays.asList(2, "Wilma"));
+            softly.assertThat(futures.get(4).join().isPresent()).isFalse();
+        });
+    }
+
+    @Test
+    public void testBatchSizeIsCappedByInListLimit() throws Exception {
+        RecordingDataSource recorder = recorder();
+        BatchLoader<Integer, List<Object>> loader = loader(recorder, select(id, firstName).from(foo).build())
+                .withMaxBatchSize(5000)
+                .build();
+        
+        for (int i = 1; i <= 1001; i++) {
+            loader.load(i);
+        }
+        assertThat(loader.selects()).isEqualTo(1L);
+        loader.dispatch();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(recorder.queries()).hasSize(2);
+            softly.assertThat(recorder.queries().get(0)).hasSize(1000);
+            softly.assertThat(recorder.queries().get(1)).containsExactly(1001);
+        });
+    }
+
+    @Test
+    public void testWindowDispatchesOnScheduler() throws Exception {
+        RecordingDataSource recorder = recorder();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            BatchLoader<Integer, List<Object>> loader = loader(recorder, select(id, firstName).from(foo).build())
+                    .withWindow(20, scheduler)
+                    .build();
+            
+            CompletableFuture<Optional<List<Object>>> one = loader.load(1);
+            CompletableFuture<Optional<List<Object>>> two = loader.load(2);
+            
+            assertThat(one.get(5, TimeUnit.SECONDS).orElse(null)).isEqualTo(Arrays.asList(1, "Fred"));
+            assertThat(two.get(5, TimeUnit.SECONDS).orElse(null)).isEqualTo(Arrays.asList(2, "Wilma"));
+            assertThat(recorder.queries()).containsExactly(Arrays.asList(1, 2));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailuresCompleteFutures() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource().withQueryResults(parameters -> {
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] {1, "Fred"});
+            rows.add(new Object[] {1, "Pebbles"});
+            rows.add(new Object[] {2, "Wilma"});
+            return rows;
+        });
+        BatchLoader<Integer, List<Object>> loader = loader(recorder, select(id, firstName).from(foo).build())
+                .build();
+        
+        CompletableFuture<Optional<List<Object>>> one = loader.load(1);
+        CompletableFuture<Optional<List<Object>>> two = loader.load(2);
+        loader.dispatch();
+        
+        assertThatThrownBy(one::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(two.join().orElse(null)).isEqualTo(Arrays.asList(2, "Wilma"));
+    }
+
+    @Test
+    public void testInvalidTemplates() {
+        RecordingDataSource recorder = recorder();
+        
+        assertThatThrownBy(() -> loader(recorder, select(id, firstName).from(foo)
+                .where(lastName, isEqualTo("Flintstone")).or(firstName, isEqualTo("Fred")).build()).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The where clause of a batch loader template must connect its criteria with \"and\"");
+        assertThatThrownBy(() -> loader(recorder, select(id, firstName).from(foo).limit(10).build()).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A batch loader template cannot have a limit");
+    }
+
+    private static BatchLoader.Builder<Integer, List<Object>> loader(RecordingDataSource recorder,
+            SelectModel template) {
+        JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource()).build();
+        return new BatchLoader.Builder<Integer, List<Object>>(executor, template)
+                .withKey(id, row -> (Integer) row.get(0))
+                .withRowMapper(rs -> Arrays.asList(rs.getObject(1), rs.getObject(2)));
+    }
+
+    private static RecordingDataSource recorder() {
+        return new RecordingDataSource().withQueryResults(parameters -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = parameters.size() - 1; i >= 0; i--) {
+                Object key = parameters.get(i);
+                if (key instanceof Integer && (Integer) key < NAMES.length) {
+                    rows.add(new Object[] {key, NAMES[(Integer) key]});
+                }
+            }
+            return rows;
+        });
+    }
+}
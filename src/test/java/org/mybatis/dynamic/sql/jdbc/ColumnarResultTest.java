@@ -0,0 +1,124 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+@RunWith(JUnitPlatform.class)
+public class ColumnarResultTest {
+    private static final SqlTable measurement = SqlTable.of("measurement");
+    private static final SqlColumn<Long> id = measurement.column("id", JDBCType.BIGINT);
+    private static final SqlColumn<Integer> sensor = measurement.column("sensor", JDBCType.INTEGER);
+    private static final SqlColumn<Double> reading = measurement.column("reading", JDBCType.DOUBLE);
+    private static final SqlColumn<BigDecimal> serial = measurement.column("serial", JDBCType.DECIMAL);
+    private static final SqlColumn<String> label = measurement.column("label", JDBCType.VARCHAR);
+
+    @Test
+    public void testColumnsGrowAndRecordNulls() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < 5000; i++) {
+            rows.add(new Object[] {i * 10, (int) (i % 7), i % 1000 == 0 ? null : i / 2.0});
+        }
+        
+        ColumnarResult result = ColumnarResult.handlerFor(Arrays.asList(id, sensor, reading), Collections.emptyMap())
+                .handle(StubResultSet.of(rows));
+        
+        LongColumn ids = result.longColumn(id);
+        IntColumn sensors = result.intColumn(sensor);
+        DoubleColumn readings = result.doubleColumn(reading);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.rowCount()).isEqualTo(5000);
+            softly.assertThat(ids.size()).isEqualTo(5000);
+            softly.assertThat(ids.get(4999)).isEqualTo(49990L);
+            softly.assertThat(ids.stream().sum()).isEqualTo(124975000L);
+            softly.assertThat(ids.toArray().length).isEqualTo(5000);
+            softly.assertThat(ids.nullCount()).isEqualTo(0);
+            softly.assertThat(sensors.get(8)).isEqualTo(1);
+            softly.assertThat(readings.get(3)).isEqualTo(1.5);
+            softly.assertThat(readings.isNull(1000)).isTrue();
+            softly.assertThat(readings.isNull(1001)).isFalse();
+            softly.assertThat(readings.nullCount()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    public void testUnsupportedColumnType() {
+        assertThatThrownBy(() -> ColumnarResult.handlerFor(Arrays.asList(id, label), Collections.emptyMap()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column label of type VARCHAR cannot be fetched into a primitive column");
+    }
+
+    @Test
+    public void testDecimalColumnsNeedAnExplicitType() {
+        assertThatThrownBy(() -> ColumnarResult.handlerFor(Arrays.asList(id, serial), Collections.emptyMap()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column serial of type DECIMAL must be fetched as a LongColumn or a DoubleColumn");
+    }
+
+    @Test
+    public void testDecimalColumnsAreFetchedAsTheChosenType() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {9007199254740993L});
+        rows.add(new Object[] {null});
+        
+        Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> asLong = new HashMap<>();
+        asLong.put(serial, LongColumn.class);
+        LongColumn longs = ColumnarResult.handlerFor(Arrays.asList(serial), asLong).handle(StubResultSet.of(rows))
+                .longColumn(serial);
+        
+        rows.clear();
+        rows.add(new Object[] {1.5});
+        Map<SqlColumn<?>, Class<? extends PrimitiveColumn>> asDouble = new HashMap<>();
+        asDouble.put(serial, DoubleColumn.class);
+        DoubleColumn doubles = ColumnarResult.handlerFor(Arrays.asList(serial), asDouble)
+                .handle(StubResultSet.of(rows)).doubleColumn(serial);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(longs.get(0)).isEqualTo(9007199254740993L);
+            softly.assertThat(longs.isNull(1)).isTrue();
+            softly.assertThat(doubles.get(0)).isEqualTo(1.5);
+        });
+    }
+
+    @Test
+    public void testWrongColumnType() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1L});
+        ColumnarResult result = ColumnarResult.handlerFor(Arrays.asList(id), Collections.emptyMap()).handle(StubResultSet.of(rows));
+        
+        assertThatThrownBy(() -> result.intColumn(id)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column id was fetched as a LongColumn");
+        assertThatThrownBy(() -> result.column(sensor)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column sensor was not selected");
+        assertThatThrownBy(() -> result.longColumn(id).get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.time.LocalDate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.reflection.ReflectionException;
+
+@RunWith(JUnitPlatform.class)
+public class CompiledRowMapperTest {
+    private static final SqlTable person = SqlTable.of("person");
+    private static final SqlColumn<Integer> id = person.column("ID", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = person.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Double> weight = person.column("weight", JDBCType.DOUBLE);
+    private static final SqlColumn<Boolean> active = person.column("active", JDBCType.BOOLEAN);
+    private static final SqlColumn<BigDecimal> salary = person.column("salary", JDBCType.DECIMAL);
+    private static final SqlColumn<LocalDate> birthDate = person.column("birth_date", JDBCType.DATE);
+    private static final SqlColumn<String> status = person.column("status", JDBCType.VARCHAR);
+
+    @Test
+    public void testMapRow() throws Exception {
+        CompiledRowMapper<Person> mapper = CompiledRowMapper.of(Person.class, id, firstName, weight, active, salary,
+                birthDate, status);
+        
+        Person person = mapper.mapRow(StubResultSet.onRow(7, "Fred", 82.5, true, new BigDecimal("1000.50"),
+                LocalDate.of(1960, 2, 1), "RETIRED"));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(7);
+            softly.assertThat(person.getFirstName()).isEqualTo("Fred");
+            softly.assertThat(person.getWeight()).isEqualTo(82.5);
+            softly.assertThat(person.isActive()).isTrue();
+            softly.assertThat(person.getSalary()).isEqualTo(new BigDecimal("1000.50"));
+            softly.assertThat(person.getBirthDate()).isEqualTo(LocalDate.of(1960, 2, 1));
+            softly.assertThat(person.getStatus()).isEqualTo(Status.RETIRED);
+        });
+    }
+
+    @Test
+    public void testNullsAreNotSet() throws Exception {
+        CompiledRowMapper<Person> mapper = CompiledRowMapper.of(Person.class, id, firstName, weight, status);
+        
+        Person person = mapper.mapRow(StubResultSet.onRow(null, null, null, null));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(-1);
+            softly.assertThat(person.getFirstName()).isNull();
+            softly.assertThat(person.getWeight()).isNull();
+            softly.assertThat(person.getStatus()).isEqualTo(Status.ACTIVE);
+        });
+    }
+
+    @Test
+    public void testNamedProperty() throws Exception {
+        CompiledRowMapper<Person> mapper = new CompiledRowMapper.Builder<>(Person.class)
+                .withColumn(person.column("given_name", JDBCType.VARCHAR), "firstName")
+                .withColumn(id)
+                .build();
+        
+        Person person = mapper.mapRow(StubResultSet.onRow("Wilma", 3));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getFirstName()).isEqualTo("Wilma");
+            softly.assertThat(person.getId()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    public void testPropertyNames() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(CompiledRowMapper.propertyFor(id)).isEqualTo("id");
+            softly.assertThat(CompiledRowMapper.propertyFor(firstName)).isEqualTo("firstName");
+            softly.assertThat(CompiledRowMapper.propertyFor(person.column("LAST_NAME", JDBCType.VARCHAR)))
+                    .isEqualTo("lastName");
+            softly.assertThat(CompiledRowMapper.propertyFor(person.column("middleName", JDBCType.VARCHAR)))
+                    .isEqualTo("middleName");
+            softly.assertThat(CompiledRowMapper.propertyFor(person.column("nick", JDBCType.VARCHAR)
+                    .withAlias("nick_name"))).isEqualTo("nickName");
+        });
+    }
+
+    @Test
+    public void testMissingSetter() {
+        assertThatThrownBy(() -> CompiledRowMapper.of(Person.class, person.column("height", JDBCType.INTEGER)))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessage("There is no setter for property height on class "
+                        + Person.class.getName() + " for column height");
+    }
+
+    @Test
+    public void testFirstIndex() throws Exception {
+        CompiledRowMapper<Person> mapper = new CompiledRowMapper.Builder<>(Person.class)
+                .withFirstIndex(3)
+                .withColumn(id)
+                .withColumn(firstName)
+                .build();
+        
+        Person person = mapper.mapRow(StubResultSet.onRow(100, "order", 4, "Betty"));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(4);
+            softly.assertThat(person.getFirstName()).isEqualTo("Betty");
+        });
+    }
+
+    @Test
+    public void testMapperIsReusable() throws Exception {
+        CompiledRowMapper<Person> mapper = CompiledRowMapper.of(Person.class, id, firstName);
+        
+        Person fred = mapper.mapRow(StubResultSet.onRow(1, "Fred"));
+        Person barney = mapper.mapRow(StubResultSet.onRow(2, "Barney"));
+        
+        assertThat(fred.getFirstName() + barney.getFirstName()).isEqualTo("FredBarney");
+    }
+
+    @Test
+    public void testSmallPrimitives() throws Exception {
+        SqlTable sample = SqlTable.of("sample");
+        CompiledRowMapper<Sample> mapper = CompiledRowMapper.of(Sample.class,
+                sample.column("ratio", JDBCType.REAL), sample.column("count", JDBCType.SMALLINT),
+                sample.column("flags", JDBCType.TINYINT));
+        
+        Sample full = mapper.mapRow(StubResultSet.onRow(0.25f, (short) 300, (byte) 7));
+        Sample empty = mapper.mapRow(StubResultSet.onRow(null, null, null));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(full.ratio).isEqualTo(0.25f);
+            softly.assertThat(full.count).isEqualTo((short) 300);
+            softly.assertThat(full.flags).isEqualTo((byte) 7);
+            softly.assertThat(empty.ratio).isEqualTo(-1.0f);
+            softly.assertThat(empty.count).isEqualTo((short) -1);
+            softly.assertThat(empty.flags).isEqualTo((byte) -1);
+        });
+    }
+
+    public enum Status {
+        ACTIVE, RETIRED
+    }
+
+    public static class Person {
+        private int id = -1;
+        private String firstName;
+        private Double weight;
+        private boolean active;
+        private BigDecimal salary;
+        private LocalDate birthDate;
+        private Status status = Status.ACTIVE;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public Double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(Double weight) {
+            this.weight = weight;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public BigDecimal getSalary() {
+            return salary;
+        }
+
+        public void setSalary(BigDecimal salary) {
+            this.salary = salary;
+        }
+
+        public LocalDate getBirthDate() {
+            return birthDate;
+        }
+
+        public void setBirthDate(LocalDate birthDate) {
+            this.birthDate = birthDate;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+    }
+
+    public static class Sample {
+        private float ratio = -1.0f;
+        private short count = -1;
+        private byte flags = -1;
+
+        public void setRatio(float ratio) {
+            this.ratio = ratio;
+        }
+
+        public void setCount(short count) {
+            this.count = count;
+        }
+
+        public void setFlags(byte flags) {
+            this.flags = flags;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+@RunWith(JUnitPlatform.class)
+public class JdbcExecutorTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+
+    @Test
+    public void testStatementsAreReusedInASession() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource();
+        JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource()).build();
+        
+        try (JdbcSession session = executor.openSession()) {
+            for (int i = 1; i <= 3; i++) {
+                session.update(update(foo).set(firstName).equalTo("name" + i).where(id, isEqualTo(i)).build());
+            }
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(recorder.preparedStatements())
+                        .containsExactly("update foo set first_name = ? where id = ?");
+                softly.assertThat(session.statementCacheHits()).isEqualTo(2L);
+                softly.assertThat(session.statementCacheMisses()).isEqualTo(1L);
+                softly.assertThat(recorder.committedRows()).containsExactly(Arrays.asList("name1", 1),
+                        Arrays.asList("name2", 2), Arrays.asList("name3", 3));
+            });
+        }
+    }
+
+    @Test
+    public void testStatementsAreReusedByIdleSessions() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource();
+        
+        try (JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource()).withIdleSessions(1).build()) {
+            for (int i = 1; i <= 3; i++) {
+                executor.update(update(foo).set(firstName).equalTo("name" + i).where(id, isEqualTo(i)).build());
+            }
+        }
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(recorder.preparedStatements())
+                    .containsExactly("update foo set first_name = ? where id = ?");
+            softly.assertThat(recorder.committedRows()).containsExactly(Arrays.asList("name1", 1),
+                    Arrays.asList("name2", 2), Arrays.asList("name3", 3));
+        });
+    }
+
+    @Test
+    public void testStatementsAreNotReusedWithoutIdleSessions() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource();
+        JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource()).build();
+        
+        for (int i = 1; i <= 3; i++) {
+            executor.update(update(foo).set(firstName).equalTo("name" + i).where(id, isEqualTo(i)).build());
+        }
+        
+        assertThat(recorder.preparedStatements()).hasSize(3);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource();
+        JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource())
+                .withStatementCacheSize(2)
+                .build();
+        UpdateModel updateFirstName = update(foo).set(firstName).equalTo("fred").where(id, isEqualTo(1)).build();
+        UpdateModel updateLastName = update(foo).set(lastName).equalTo("flintstone").where(id, isEqualTo(1)).build();
+        DeleteModel delete = deleteFrom(foo).where(id, isEqualTo(2)).build();
+        
+        try (JdbcSession session = executor.openSession()) {
+            session.update(updateFirstName);
+            session.update(updateLastName);
+            session.update(updateFirstName);
+            session.delete(delete);
+            session.update(updateLastName);
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(recorder.preparedStatements()).containsExactly(
+                        "update foo set first_name = ? where id = ?",
+                        "update foo set last_name = ? where id = ?",
+                        "delete from foo where id = ?",
+                        "update foo set last_name = ? where id = ?");
+                softly.assertThat(session.cachedStatements()).isEqualTo(2);
+            });
+        }
+    }
+
+    @Test
+    public void testCacheCanBeDisabled() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource();
+        JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource())
+                .withStatementCacheSize(0)
+                .build();
+        
+        try (JdbcSession session = executor.openSession()) {
+            session.delete(deleteFrom(foo).where(id, isEqualTo(1)).build());
+            session.delete(deleteFrom(foo).where(id, isEqualTo(2)).build());
+            
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(recorder.preparedStatements().size()).isEqualTo(2);
+                softly.assertThat(session.cachedStatements()).isEqualTo(0);
+            });
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+@RunWith(JUnitPlatform.class)
+public class LobStreamsTest {
+    private static final SqlTable documents = SqlTable.of("documents");
+    private static final SqlColumn<byte[]> content = documents.column("content", JDBCType.BLOB);
+
+    @Test
+    public void testCopy() throws Exception {
+        Map<String, Object> row = new HashMap<>();
+        row.put("content", new ByteArrayInputStream(new byte[20000]));
+        row.put("notes", new StringReader("some notes"));
+        ResultSet resultSet = StubResultSet.onRow(row);
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long byteCount = LobStreams.copyBinary(resultSet, content, bytes);
+        StringWriter characters = new StringWriter();
+        long characterCount = LobStreams.copyCharacters(resultSet, "notes", characters);
+        long nullCount = LobStreams.copyCharacters(resultSet, "summary", characters);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(byteCount).isEqualTo(20000L);
+            softly.assertThat(bytes.size()).isEqualTo(20000);
+            softly.assertThat(characterCount).isEqualTo(10L);
+            softly.assertThat(characters.toString()).isEqualTo("some notes");
+            softly.assertThat(nullCount).isEqualTo(-1L);
+        });
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+
+@RunWith(JUnitPlatform.class)
+public class ParallelBulkLoaderTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    public void testLoadSplitsRecordsAcrossPartitions() {
+        RecordingDataSource recorder = new RecordingDataSource();
+        Map<Integer, Long> progress = new ConcurrentHashMap<>();
+        
+        ParallelBulkLoader<TestRecord> loader = new ParallelBulkLoader.Builder<TestRecord>(recorder.dataSource(), foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toStringConstant("loader")
+                .withThreads(4)
+                .withBatchSize(10)
+                .withListener(progress::put)
+                .build();
+        
+        List<PartitionResult> results = loader.load(records(1, 100));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(loader.insertStatement())
+                    .isEqualTo("insert into foo (id, first_name, occupation) values (?, ?, 'loader')");
+            softly.assertThat(recorder.preparedStatements().size()).isEqualTo(4);
+            softly.assertThat(results.size()).isEqualTo(4);
+            softly.assertThat(results.stream().allMatch(PartitionResult::isSuccessful)).isTrue();
+            softly.assertThat(results.stream().mapToLong(PartitionResult::rowsWritten).sum()).isEqualTo(100L);
+            softly.assertThat(progress.get(3)).isEqualTo(25L);
+            softly.assertThat(recorder.committedRows().size()).isEqualTo(100);
+            softly.assertThat(recorder.committedRows().contains(Arrays.asList(42, "name42"))).isTrue();
+        });
+    }
+
+    @Test
+    public void testFailedPartitionKeepsCommittedBatches() {
+        RecordingDataSource recorder = new RecordingDataSource().failOn(row -> row.get(0).equals(15));
+        Map<Integer, Exception> failures = new ConcurrentHashMap<>();
+        
+        ParallelBulkLoader<TestRecord> loader = new ParallelBulkLoader.Builder<TestRecord>(recorder.dataSource(), foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .withThreads(2)
+                .withBatchSize(10)
+                .withListener(new LoadListener() {
+                    @Override
+                    public void batchCommitted(int partition, long rowsWritten) {
+                        // ignore
+                    }
+
+                    @Override
+                    public void partitionFailed(int partition, long rowsWritten, Exception exception) {
+                        failures.put(partition, exception);
+                    }
+                })
+                .build();
+        
+        List<PartitionResult> results = loader.loadPartitions(Arrays.asList(
+                records(1, 30).stream(), records(31, 60).stream()));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(results.get(0).isSuccessful()).isFalse();
+            softly.assertThat(results.get(0).rowsWritten()).isEqualTo(10L);
+            softly.assertThat(results.get(0).error().get()).isInstanceOf(SQLException.class);
+            softly.assertThat(failures.keySet()).containsExactly(0);
+            softly.assertThat(results.get(1).isSuccessful()).isTrue();
+            softly.assertThat(results.get(1).rowsWritten()).isEqualTo(30L);
+            softly.assertThat(recorder.committedRows().size()).isEqualTo(40);
+        });
+    }
+
+    @Test
+    public void testNullPropertiesAreBound() {
+        RecordingDataSource recorder = new RecordingDataSource();
+        
+        ParallelBulkLoader<TestRecord> loader = new ParallelBulkLoader.Builder<TestRecord>(recorder.dataSource(), foo)
+                .map(id).toProperty("id")
+                .map(occupation).toProperty("occupation")
+                .build();
+        
+        List<PartitionResult> results = loader.loadPartitions(Arrays.asList(Stream.of(records(1, 1).get(0))));
+        
+        assertThat(results.get(0).rowsWritten()).isEqualTo(1L);
+        assertThat(recorder.committedRows().get(0)).isEqualTo(Arrays.asList(1, null));
+    }
+
+    private static List<TestRecord> records(int from, int to) {
+        return IntStream.rangeClosed(from, to)
+                .mapToObj(i -> {
+                    TestRecord record = new TestRecord();
+                    record.setId(i);
+                    record.setFirstName("name" + i);
+                    return record;
+                })
+                .collect(Collectors.toList());
+    }
+}
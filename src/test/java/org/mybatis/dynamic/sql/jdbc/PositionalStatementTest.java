@@ -0,0 +1,134 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+import static org.mybatis.dynamic.sql.SqlBuilder.with;
+import static org.mybatis.dynamic.sql.SqlConditions.isBetween;
+import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlConditions.isLike;
+import static org.mybatis.dynamic.sql.SqlConditions.or;
+
+import java.lang.reflect.Proxy;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+
+@RunWith(JUnitPlatform.class)
+public class PositionalStatementTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+    
+    private static final SqlTable bar = SqlTable.of("bar");
+    private static final SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+
+    @Test
+    public void testUpdateParametersAreInStatementOrder() {
+        PositionalStatement statement = PositionalStatement.of(update(foo)
+                .set(firstName).equalTo("fred")
+                .set(occupation).equalToStringConstant("what?")
+                .set(lastName).equalTo("jones")
+                .where(id, isEqualTo(3), or(id, isBetween(10).and(20)))
+                .build());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statement.statement()).isEqualTo("update foo set first_name = ?, occupation = 'what?',"
+                    + " last_name = ? where (id = ? or id between ? and ?)");
+            softly.assertThat(statement.parameterCount()).isEqualTo(5);
+            softly.assertThat(statement.parameters()).containsExactly("fred", "jones", 3, 10, 20);
+            softly.assertThat(statement.jdbcTypes()).containsExactly(JDBCType.VARCHAR, JDBCType.VARCHAR,
+                    JDBCType.INTEGER, JDBCType.INTEGER, JDBCType.INTEGER);
+        });
+    }
+
+    @Test
+    public void testSelectWithCommonTableExpression() {
+        PositionalStatement statement = PositionalStatement.of(with(bar)
+                .as(select(id).from(foo).where(lastName, isLike("J%")).build())
+                .select(barId)
+                .from(bar)
+                .where(barId, isEqualTo(7))
+                .build());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statement.statement()).isEqualTo("with bar as (select id from foo where last_name like ?)"
+                    + " select id from bar where id = ?");
+            softly.assertThat(statement.parameters()).containsExactly("J%", 7);
+        });
+    }
+
+    @Test
+    public void testInsertBindsRecordProperties() throws Exception {
+        TestRecord record = new TestRecord();
+        record.setId(22);
+        record.setFirstName("Fred");
+        
+        PositionalStatement statement = PositionalStatement.of(insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .build());
+        
+        List<List<Object>> calls = new ArrayList<>();
+        PreparedStatement preparedStatement = (PreparedStatement) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                    List<Object> call = new ArrayList<>();
+                    call.add(method.getName());
+                    call.addAll(Arrays.asList(args));
+                    calls.add(call);
+                    return null;
+                });
+        statement.bind(preparedStatement);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statement.statement())
+                    .isEqualTo("insert into foo (id, first_name, last_name) values (?, ?, ?)");
+            softly.assertThat(calls).containsExactly(Arrays.asList("setObject", 1, 22, Types.INTEGER),
+                    Arrays.asList("setObject", 2, "Fred", Types.VARCHAR),
+                    Arrays.asList("setNull", 3, Types.VARCHAR));
+        });
+    }
+
+    @Test
+    public void testDelete() {
+        PositionalStatement statement = PositionalStatement.of(deleteFrom(foo)
+                .where(occupation, isEqualTo("driver"))
+                .build());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(statement.statement()).isEqualTo("delete from foo where occupation = ?");
+            softly.assertThat(statement.parameters()).containsExactly("driver");
+        });
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.sql.DataSource;
+
+/**
+ * A data source that records the rows bound to prepared statements.  Rows are only visible in
+ * {@link #committedRows()} after the connection commits.  Queries return the rows supplied by
+ * {@link #withQueryResults(Function)} for their parameters.
+ */
+public class RecordingDataSource {
+    private List<List<Object>> committedRows = Collections.synchronizedList(new ArrayList<>());
+    private List<String> preparedStatements = Collections.synchronizedList(new ArrayList<>());
+    private Predicate<List<Object>> failingRow = row -> false;
+    private List<List<Object>> queries = Collections.synchronizedList(new ArrayList<>());
+    private Function<List<Object>, List<Object[]>> queryResults = parameters -> new ArrayList<>();
+    
+    public RecordingDataSource failOn(Predicate<List<Object>> failingRow) {
+        this.failingRow = failingRow;
+        return this;
+    }
+    
+    public RecordingDataSource withQueryResults(Function<List<Object>, List<Object[]>> queryResults) {
+        this.queryResults = queryResults;
+        return this;
+    }
+    
+    public List<List<Object>> queries() {
+        return queries;
+    }
+    
+    public List<List<Object>> committedRows() {
+        return committedRows;
+    }
+    
+    public List<String> preparedStatements() {
+        return preparedStatements;
+    }
+    
+    public DataSource dataSource() {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                return new RecordingConnection().connection();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+    
+    private class RecordingConnection {
+        private boolean autoCommit = true;
+        private List<List<Object>> uncommittedRows = new ArrayList<>();
+        
+        private Connection connection() {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "getAutoCommit":
+                    return autoCommit;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) args[0];
+                    return null;
+                case "prepareStatement":
+                    preparedStatements.add((String) args[0]);
+                    return new RecordingStatement(this).statement();
+                case "commit":
+                    committedRows.addAll(uncommittedRows);
+                    uncommittedRows.clear();
+                    return null;
+                case "rollback":
+                    uncommittedRows.clear();
+                    return null;
+                case "isClosed":
+                    return false;
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+    
+    private class RecordingStatement {
+        private RecordingConnection connection;
+        private Object[] row = new Object[0];
+        private List<List<Object>> batch = new ArrayList<>();
+        
+        private RecordingStatement(RecordingConnection connection) {
+            this.connection = connection;
+        }
+        
+        private PreparedStatement statement() {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "setObject":
+                    bind((Integer) args[0], args[1]);
+                    return null;
+                case "setNull":
+                    bind((Integer) args[0], null);
+                    return null;
+                case "addBatch":
+                    batch.add(Arrays.asList(row.clone()));
+                    return null;
+                case "executeBatch":
+                    return executeBatch();
+                case "executeUpdate":
+                    return executeUpdate();
+                case "executeQuery":
+                    return executeQuery();
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+        
+        private void bind(int index, Object value) {
+            if (row.length < index) {
+                row = Arrays.copyOf(row, index);
+            }
+            row[index - 1] = value;
+        }
+        
+        private int executeUpdate() {
+            List<Object> executedRow = Arrays.asList(row.clone());
+            if (connection.autoCommit) {
+                committedRows.add(executedRow);
+            } else {
+                connection.uncommittedRows.add(executedRow);
+            }
+            return 1;
+        }
+        
+        private ResultSet executeQuery() {
+            List<Object> parameters = Arrays.asList(row.clone());
+            queries.add(parameters);
+            return StubResultSet.of(queryResults.apply(parameters));
+        }
+        
+        private int[] executeBatch() throws SQLException {
+            if (batch.stream().anyMatch(failingRow)) {
+                batch.clear();
+                throw new SQLException("Constraint violation");
+            }
+            connection.uncommittedRows.addAll(batch);
+            int[] counts = new int[batch.size()];
+            Arrays.fill(counts, 1);
+            batch.clear();
+            return counts;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <S> S proxy(Class<S> type, InvocationHandler handler) {
+        return (S) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
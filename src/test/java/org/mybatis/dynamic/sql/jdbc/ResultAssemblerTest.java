@@ -0,0 +1,141 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+@RunWith(JUnitPlatform.class)
+public class ResultAssemblerTest {
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Integer> orderId = orders.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> customer = orders.column("customer", JDBCType.VARCHAR);
+    private static final SqlTable lines = SqlTable.of("order_line");
+    private static final SqlColumn<Integer> lineId = lines.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> item = lines.column("item", JDBCType.VARCHAR);
+    private static final SqlTable notes = SqlTable.of("order_note");
+    private static final SqlColumn<Integer> noteId = notes.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> text = notes.column("text", JDBCType.VARCHAR);
+
+    private static final List<SqlColumn<?>> columns = Arrays.asList(orderId, customer, lineId, item, noteId, text);
+
+    private static final ResultAssembler<Order> assembler = new ResultAssembler.Builder<>(orderId,
+            rs -> new Order(rs.getInt(1), rs.getString(2)))
+            .withChildren(lineId, rs -> rs.getString(4), (Order o, String s) -> o.lines.add(s))
+            .withChildren(noteId, rs -> rs.getString(6), (Order o, String s) -> o.notes.add(s))
+            .build();
+
+    @Test
+    public void testCollectUnorderedRows() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1, "Fred", 10, "hammer", 100, "urgent"});
+        rows.add(new Object[] {2, "Wilma", null, null, null, null});
+        rows.add(new Object[] {1, "Fred", 11, "nails", 100, "urgent"});
+        rows.add(new Object[] {3, "Barney", 30, "saw", null, null});
+        rows.add(new Object[] {1, "Fred", 10, "hammer", 101, "gift"});
+        rows.add(new Object[] {1, "Fred", 11, "nails", 101, "gift"});
+        rows.add(new Object[] {null, null, 40, "orphan", null, null});
+        
+        List<Order> result = assembler.handlerFor(columns).handle(StubResultSet.of(rows));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(result.size()).isEqualTo(3);
+            softly.assertThat(result.get(0).toString()).isEqualTo("1 Fred [hammer, nails] [urgent, gift]");
+            softly.assertThat(result.get(1).toString()).isEqualTo("2 Wilma [] []");
+            softly.assertThat(result.get(2).toString()).isEqualTo("3 Barney [saw] []");
+        });
+    }
+
+    @Test
+    public void testStreamOrderedRows() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1, "Fred", 10, "hammer", null, null});
+        rows.add(new Object[] {1, "Fred", 11, "nails", null, null});
+        rows.add(new Object[] {2, "Wilma", 20, "broom", 200, "fragile"});
+        rows.add(new Object[] {3, "Barney", null, null, null, null});
+        
+        List<String> emitted = new ArrayList<>();
+        int[] rowsReadWhenEmitted = new int[3];
+        ResultSet resultSet = StubResultSet.of(rows);
+        long count = assembler.handlerFor(columns, o -> {
+            rowsReadWhenEmitted[emitted.size()] = rowsRead(resultSet);
+            emitted.add(o.toString());
+        }).handle(resultSet);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(count).isEqualTo(3);
+            softly.assertThat(emitted).containsExactly("1 Fred [hammer, nails] []", "2 Wilma [broom] [fragile]",
+                    "3 Barney [] []");
+            softly.assertThat(rowsReadWhenEmitted[0]).isEqualTo(3);
+            softly.assertThat(rowsReadWhenEmitted[1]).isEqualTo(4);
+        });
+    }
+
+    @Test
+    public void testEmptyResult() throws Exception {
+        List<String> emitted = new ArrayList<>();
+        long count = assembler.handlerFor(columns, o -> emitted.add(o.toString()))
+                .handle(StubResultSet.of(new ArrayList<>()));
+        
+        assertThat(count).isEqualTo(0);
+        assertThat(emitted).isEmpty();
+    }
+
+    @Test
+    public void testKeyNotSelected() {
+        assertThatThrownBy(() -> assembler.handlerFor(Arrays.asList(orderId, customer, lineId, item)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column id was not selected");
+    }
+
+    private static int rowsRead(ResultSet resultSet) {
+        try {
+            return resultSet.getRow();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Order {
+        private int id;
+        private String customer;
+        private List<String> lines = new ArrayList<>();
+        private List<String> notes = new ArrayList<>();
+        
+        private Order(int id, String customer) {
+            this.id = id;
+            this.customer = customer;
+        }
+        
+        @Override
+        public String toString() {
+            return id + " " + customer + " " + lines + " " + notes;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+@RunWith(JUnitPlatform.class)
+public class ResultExporterTest {
+    private static final SqlTable order = SqlTable.of("orders");
+    private static final SqlColumn<Integer> id = order.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> customer = order.column("customer_name", JDBCType.VARCHAR);
+    private static final SqlColumn<BigDecimal> total = order.column("total", JDBCType.DECIMAL);
+    private static final SqlColumn<Double> weight = order.column("weight", JDBCType.DOUBLE);
+    private static final SqlColumn<Boolean> shipped = order.column("shipped", JDBCType.BOOLEAN);
+    private static final SqlColumn<Date> orderDate = order.column("order_date", JDBCType.DATE);
+    private static final SqlColumn<Timestamp> updated = order.column("updated", JDBCType.TIMESTAMP);
+    private static final SqlColumn<byte[]> signature = order.column("signature", JDBCType.VARBINARY);
+
+    private static final List<SqlColumn<?>> columns = Arrays.asList(id, customer.withAlias("name"), total, weight,
+            shipped, orderDate, updated, signature);
+
+    @Test
+    public void testCsv() throws Exception {
+        StringWriter writer = new StringWriter();
+        long rows = new ResultExporter.Builder(ExportFormat.CSV).build()
+                .handlerFor(columns, writer).handle(StubResultSet.of(rows()));
+        
+        assertThat(rows).isEqualTo(2);
+        assertThat(writer.toString()).isEqualTo(
+                "id,name,total,weight,shipped,order_date,updated,signature\n"
+                + "1,\"Smith, \"\"Jr\"\"\",12.50,2.5,true,2017-03-04,2017-03-04T10:15:30,AQID\n"
+                + "2,,,,,,,\n");
+    }
+
+    @Test
+    public void testCsvWithoutHeaderAndWithDelimiter() throws Exception {
+        StringWriter writer = new StringWriter();
+        new ResultExporter.Builder(ExportFormat.CSV).withHeader(false).withDelimiter(';').build()
+                .handlerFor(Arrays.asList(id, customer), writer).handle(StubResultSet.of(rows()));
+        
+        assertThat(writer.toString()).isEqualTo("1;\"Smith, \"\"Jr\"\"\"\n2;\n");
+    }
+
+    @Test
+    public void testJsonLines() throws Exception {
+        StringWriter writer = new StringWriter();
+        long rows = new ResultExporter.Builder(ExportFormat.JSON_LINES).build()
+                .handlerFor(columns, writer).handle(StubResultSet.of(rows()));
+        
+        assertThat(rows).isEqualTo(2);
+        assertThat(writer.toString()).isEqualTo(
+                "{\"id\":1,\"name\":\"Smith, \\\"Jr\\\"\",\"total\":12.50,\"weight\":2.5,\"shipped\":true,"
+                + "\"order_date\":\"2017-03-04\",\"updated\":\"2017-03-04T10:15:30\",\"signature\":\"AQID\"}\n"
+                + "{\"id\":2,\"name\":null,\"total\":null,\"weight\":null,\"shipped\":null,"
+                + "\"order_date\":null,\"updated\":null,\"signature\":null}\n");
+    }
+
+    @Test
+    public void testJsonEscapesControlCharacters() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {"a\\b\n\t\u0001"});
+        StringWriter writer = new StringWriter();
+        new ResultExporter.Builder(ExportFormat.JSON_LINES).build()
+                .handlerFor(Arrays.asList(customer), writer).handle(StubResultSet.of(rows));
+        
+        assertThat(writer.toString()).isEqualTo("{\"customer_name\":\"a\\\\b\\n\\t\\u0001\"}\n");
+    }
+
+    @Test
+    public void testRowsLongerThanBuffer() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            sb.append('x');
+        }
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {sb.toString()});
+        rows.add(new Object[] {"y"});
+        StringWriter writer = new StringWriter();
+        new ResultExporter.Builder(ExportFormat.CSV).withHeader(false).build()
+                .handlerFor(Arrays.asList(customer), writer).handle(StubResultSet.of(rows));
+        
+        assertThat(writer.toString()).isEqualTo(sb + "\ny\n");
+    }
+
+    private static List<Object[]> rows() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1L, "Smith, \"Jr\"", new BigDecimal("12.50"), 2.5, true,
+                Date.valueOf("2017-03-04"), Timestamp.valueOf("2017-03-04 10:15:30"), new byte[] {1, 2, 3}});
+        rows.add(new Object[] {2L, null, null, null, null, null, null, null});
+        return rows;
+    }
+}
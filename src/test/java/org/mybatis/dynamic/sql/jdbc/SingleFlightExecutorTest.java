@@ -0,0 +1,173 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+@RunWith(JUnitPlatform.class)
+public class SingleFlightExecutorTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    
+    private static final RowMapper<String> NAME_MAPPER = rs -> rs.getString(2);
+
+    @Test
+    public void testConcurrentIdenticalSelectsShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingDataSource recorder = new RecordingDataSource().withQueryResults(parameters -> {
+            await(release);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] {parameters.get(0), "Fred"});
+            return rows;
+        });
+        SingleFlightExecutor singleFlight = SingleFlightExecutor.of(
+                new JdbcExecutor.Builder(recorder.dataSource()).build());
+        
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(threads.submit(() -> singleFlight.selectList(byId(1), NAME_MAPPER)));
+            }
+            waitForSharedResults(singleFlight, 3);
+            release.countDown();
+            
+            List<String> first = results.get(0).get(5, TimeUnit.SECONDS);
+            SoftAssertions.assertSoftly(softly -> {
+                softly.assertThat(first).containsExactly("Fred");
+                for (Future<List<String>> result : results) {
+                    softly.assertThat(get(result)).isSameAs(first);
+                }
+                softly.assertThat(singleFlight.executions()).isEqualTo(1L);
+                softly.assertThat(recorder.queries()).hasSize(1);
+                softly.assertThat(recorder.queries().get(0)).containsExactly(1);
+            });
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDifferentSelectsAreNotShared() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource().withQueryResults(parameters -> new ArrayList<>());
+        SingleFlightExecutor singleFlight = SingleFlightExecutor.of(
+                new JdbcExecutor.Builder(recorder.dataSource()).build());
+        
+        singleFlight.selectList(byId(1), NAME_MAPPER);
+        singleFlight.selectList(byId(2), NAME_MAPPER);
+        singleFlight.selectList(byId(1), NAME_MAPPER);
+        singleFlight.selectList(byId(1), rs -> rs.getString(1));
+        boolean found = singleFlight.selectOne(byId(3), NAME_MAPPER).isPresent();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(singleFlight.executions()).isEqualTo(5L);
+            softly.assertThat(singleFlight.sharedResults()).isEqualTo(0L);
+            softly.assertThat(found).isFalse();
+        });
+    }
+
+    @Test
+    public void testSelectsUseIdleSessions() throws Exception {
+        RecordingDataSource recorder = new RecordingDataSource().withQueryResults(parameters -> new ArrayList<>());
+        
+        try (JdbcExecutor executor = new JdbcExecutor.Builder(recorder.dataSource()).withIdleSessions(1).build()) {
+            SingleFlightExecutor singleFlight = SingleFlightExecutor.of(executor);
+            for (int i = 1; i <= 3; i++) {
+                singleFlight.selectList(byId(i), NAME_MAPPER);
+            }
+        }
+        
+        assertThat(recorder.preparedStatements()).containsExactly("select id, first_name from foo where id = ?");
+    }
+
+    @Test
+    public void testFailureIsShared() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingDataSource recorder = new RecordingDataSource().withQueryResults(parameters -> {
+            await(release);
+            throw new IllegalStateException("Database unavailable");
+        });
+        SingleFlightExecutor singleFlight = SingleFlightExecutor.of(
+                new JdbcExecutor.Builder(recorder.dataSource()).build());
+        
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> first = threads.submit(() -> singleFlight.selectList(byId(1), NAME_MAPPER));
+            Future<List<String>> second = threads.submit(() -> singleFlight.selectList(byId(1), NAME_MAPPER));
+            waitForSharedResults(singleFlight, 1);
+            release.countDown();
+            
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(singleFlight.executions()).isEqualTo(1L);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static SelectModel byId(int key) {
+        return select(id, firstName).from(foo).where(id, isEqualTo(key)).build();
+    }
+
+    private static void waitForSharedResults(SingleFlightExecutor singleFlight, long expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.sharedResults() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.sharedResults()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
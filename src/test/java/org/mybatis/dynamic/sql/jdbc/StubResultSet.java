@@ -0,0 +1,121 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A result set over rows held in memory.  Values are read by column index, or by column label for a row
+ * created from a map.  Like a driver, a getter for a primitive type returns zero for a null value, and
+ * <code>wasNull</code> reports it.
+ */
+public class StubResultSet {
+    private List<String> labels;
+    private List<Object[]> rows;
+    private int current;
+    private Object lastValue;
+    
+    private StubResultSet(List<String> labels, List<Object[]> rows, int current) {
+        this.labels = labels;
+        this.rows = rows;
+        this.current = current;
+    }
+    
+    /**
+     * Returns a result set positioned before the first of the rows.
+     * 
+     * @param rows the rows, with the value of column 1 at index 0
+     * @return the result set
+     */
+    public static ResultSet of(List<Object[]> rows) {
+        return new StubResultSet(Collections.emptyList(), rows, -1).resultSet();
+    }
+    
+    /**
+     * Returns a result set positioned on a single row.
+     * 
+     * @param row the values of the row, with the value of column 1 first
+     * @return the result set
+     */
+    public static ResultSet onRow(Object... row) {
+        return new StubResultSet(Collections.emptyList(), Collections.singletonList(row), 0).resultSet();
+    }
+    
+    /**
+     * Returns a result set positioned on a single row whose values are read by column label.  A label that is
+     * not in the map reads as null.
+     * 
+     * @param row the values of the row by column label
+     * @return the result set
+     */
+    public static ResultSet onRow(Map<String, Object> row) {
+        List<String> labels = new ArrayList<>(row.keySet());
+        Object[] values = labels.stream().map(row::get).toArray();
+        return new StubResultSet(labels, Collections.singletonList(values), 0).resultSet();
+    }
+    
+    private ResultSet resultSet() {
+        return (ResultSet) Proxy.newProxyInstance(StubResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                    case "next":
+                        return ++current < rows.size();
+                    case "getRow":
+                        return current + 1;
+                    case "wasNull":
+                        return lastValue == null;
+                    case "close":
+                        return null;
+                    default:
+                        if (method.getName().startsWith("get") && args != null && args.length > 0) {
+                            return get(method, args[0]);
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+    
+    private Object get(Method method, Object column) {
+        int index = column instanceof Integer ? (Integer) column - 1 : labels.indexOf(column);
+        lastValue = index < 0 ? null : rows.get(current)[index];
+        return lastValue == null ? zero(method.getReturnType()) : lastValue;
+    }
+    
+    private static Object zero(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == double.class) {
+            return 0.0;
+        } else if (type == float.class) {
+            return 0.0f;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.Map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectSupport;
+
+@RunWith(JUnitPlatform.class)
+public class CommonTableExpressionTest {
+    
+    public static final SqlTable category = SqlTable.of("category");
+    public static final SqlColumn<Integer> id = category.column("id", JDBCType.INTEGER);
+    public static final SqlColumn<Integer> parentId = category.column("parent_id", JDBCType.INTEGER);
+    public static final SqlColumn<String> name = category.column("name", JDBCType.VARCHAR);
+
+    public static final SqlTable tree = SqlTable.of("tree");
+    public static final SqlColumn<Integer> treeId = tree.column("id", JDBCType.INTEGER);
+    public static final SqlColumn<Integer> treeParentId = tree.column("parent_id", JDBCType.INTEGER);
+    public static final SqlColumn<String> treeName = tree.column("name", JDBCType.VARCHAR);
+
+    @Test
+    public void testSimpleCommonTableExpression() {
+        SelectSupport selectSupport = with(tree)
+                .as(select(id, parentId, name)
+                        .from(category)
+                        .where(parentId, isEqualTo(3))
+                        .build())
+                .select(treeId, treeName)
+                .from(tree)
+                .where(treeName, isLike("A%"))
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(selectSupport.getWithClause()).isEqualTo(
+                    "with tree as (select id, parent_id, name from category where parent_id = #{parameters.p1,jdbcType=INTEGER})");
+            softly.assertThat(selectSupport.getWhereClause())
+                .isEqualTo("where name like #{parameters.p2,jdbcType=VARCHAR}");
+
+            String expectedFullStatement = selectSupport.getWithClause()
+                    + " select id, name from tree "
+                    + selectSupport.getWhereClause();
+
+            softly.assertThat(selectSupport.getFullSelectStatement()).isEqualTo(expectedFullStatement);
+
+            Map<String, Object> parameters = selectSupport.getParameters();
+            softly.assertThat(parameters.size()).isEqualTo(2);
+            softly.assertThat(parameters.get("p1")).isEqualTo(3);
+            softly.assertThat(parameters.get("p2")).isEqualTo("A%");
+        });
+    }
+
+    @Test
+    public void testRecursiveCommonTableExpression() {
+        SelectSupport selectSupport = withRecursive(tree, treeId, treeParentId, treeName)
+                .as(select(id, parentId, name)
+                        .from(category)
+                        .where(id, isEqualTo(1))
+                        .build())
+                .unionAll(select(id, parentId, name)
+                        .from(category, "c")
+                        .join(tree, "t").on(parentId, treeId)
+                        .where(name, isNotEqualTo("Retired"))
+                        .build())
+                .select(treeId, treeParentId, treeName)
+                .from(tree)
+                .orderBy(treeName)
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+
+        SoftAssertions.assertSoftly(softly -> {
+            String expectedWithClause = "with recursive tree (id, parent_id, name) as ("
+                    + "select id, parent_id, name from category where id = #{parameters.p1,jdbcType=INTEGER}"
+                    + " union all "
+                    + "select c.id, c.parent_id, c.name from category c join tree t on c.parent_id = t.id"
+                    + " where c.name <> #{parameters.p2,jdbcType=VARCHAR})";
+            softly.assertThat(selectSupport.getWithClause()).isEqualTo(expectedWithClause);
+
+            String expectedFullStatement = expectedWithClause
+                    + " select id, parent_id, name from tree order by name ASC";
+
+            softly.assertThat(selectSupport.getFullSelectStatement()).isEqualTo(expectedFullStatement);
+
+            Map<String, Object> parameters = selectSupport.getParameters();
+            softly.assertThat(parameters.size()).isEqualTo(2);
+            softly.assertThat(parameters.get("p1")).isEqualTo(1);
+            softly.assertThat(parameters.get("p2")).isEqualTo("Retired");
+        });
+    }
+
+    @Test
+    public void testMultipleCommonTableExpressionsShareParameterSequence() {
+        SqlTable roots = SqlTable.of("roots");
+        SqlColumn<Integer> rootId = roots.column("id", JDBCType.INTEGER);
+
+        SelectSupport selectSupport = with(roots)
+                .as(select(id).from(category).where(parentId, isNull()).and(name, isLike("A%")).build())
+                .with(tree)
+                .as(select(id, parentId, name).from(category).where(id, isGreaterThan(10)).build())
+                .select(treeId, treeName)
+                .from(tree, "t")
+                .join(roots, "r").on(treeParentId, rootId)
+                .where(treeId, isLessThan(100))
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(selectSupport.getWithClause()).isEqualTo(
+                    "with roots as (select id from category where parent_id is null and name like :p1),"
+                    + " tree as (select id, parent_id, name from category where id > :p2)");
+            softly.assertThat(selectSupport.getJoinClause()).isEqualTo("join roots r on t.parent_id = r.id");
+            softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where t.id < :p3");
+
+            Map<String, Object> parameters = selectSupport.getParameters();
+            softly.assertThat(parameters.size()).isEqualTo(3);
+            softly.assertThat(parameters.get("p1")).isEqualTo("A%");
+            softly.assertThat(parameters.get("p2")).isEqualTo(10);
+            softly.assertThat(parameters.get("p3")).isEqualTo(100);
+        });
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectSupport;
+
+@RunWith(JUnitPlatform.class)
+public class LimitAndLockTest {
+    
+    public static final SqlTable jobs = SqlTable.of("jobs");
+    public static final SqlColumn<Long> id = jobs.column("id", JDBCType.BIGINT);
+    public static final SqlColumn<String> status = jobs.column("status", JDBCType.VARCHAR);
+
+    @Test
+    public void testLimitWithoutLock() {
+        SelectSupport selectSupport = select(id)
+                .from(jobs)
+                .where(status, isEqualTo("NEW"))
+                .orderBy(id)
+                .limit(50)
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(selectSupport.getLimitClause()).isEqualTo("limit 50");
+            softly.assertThat(selectSupport.getLockClause()).isEqualTo("");
+            softly.assertThat(selectSupport.getFullSelectStatement()).isEqualTo(
+                    "select id from jobs where status = #{parameters.p1,jdbcType=VARCHAR} order by id ASC limit 50");
+        });
+    }
+
+    @Test
+    public void testForUpdateSkipLockedWithLimit() {
+        SelectSupport selectSupport = select(id)
+                .from(jobs)
+                .where(status, isEqualTo("NEW"))
+                .orderBy(id)
+                .limit(50)
+                .forUpdate()
+                .skipLocked()
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(selectSupport.getLockClause()).isEqualTo("for update skip locked");
+            softly.assertThat(selectSupport.getFullSelectStatement()).isEqualTo(
+                    "select id from jobs where status = #{parameters.p1,jdbcType=VARCHAR} order by id ASC"
+                    + " limit 50 for update skip locked");
+            softly.assertThat(selectSupport.getParameters().get("p1")).isEqualTo("NEW");
+        });
+    }
+
+    @Test
+    public void testForUpdateNoWaitAfterWhere() {
+        SelectSupport selectSupport = select(id, status)
+                .from(jobs)
+                .where(id, isEqualTo(3L))
+                .forUpdate()
+                .noWait()
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.MYSQL);
+
+        assertThat(selectSupport.getFullSelectStatement())
+                .isEqualTo("select id, status from jobs where id = :p1 for update nowait");
+    }
+
+    @Test
+    public void testForUpdateAfterFrom() {
+        SelectSupport selectSupport = select(id)
+                .from(jobs)
+                .forUpdate()
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.HSQLDB);
+
+        assertThat(selectSupport.getFullSelectStatement()).isEqualTo("select id from jobs for update");
+    }
+
+    @Test
+    public void testForShare() {
+        SelectSupport selectSupport = select(id)
+                .from(jobs)
+                .where(status, isEqualTo("NEW"))
+                .limit(10)
+                .forShare()
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.POSTGRESQL);
+
+        assertThat(selectSupport.getFullSelectStatement())
+                .isEqualTo("select id from jobs where status = :p1 limit 10 for share");
+    }
+
+    @Test
+    public void testOracleLimit() {
+        SelectSupport selectSupport = select(id)
+                .from(jobs)
+                .orderBy(id.descending())
+                .limit(5)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.ORACLE);
+
+        assertThat(selectSupport.getFullSelectStatement())
+                .isEqualTo("select id from jobs order by id DESC fetch first 5 rows only");
+    }
+
+    @Test
+    public void testUnsupportedLockModes() {
+        SelectModel skipLocked = select(id).from(jobs).forUpdate().skipLocked().build();
+        SelectModel forShare = select(id).from(jobs).forShare().build();
+
+        assertThatThrownBy(() -> skipLocked.render(RenderingStrategy.MYBATIS3, Dialect.HSQLDB))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> forShare.render(RenderingStrategy.MYBATIS3, Dialect.ORACLE))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testOracleRejectsLockWithLimit() {
+        SelectModel selectModel = select(id).from(jobs).limit(5).forUpdate().build();
+
+        assertThatThrownBy(() -> selectModel.render(RenderingStrategy.MYBATIS3, Dialect.ORACLE))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage("A lock clause with FETCH FIRST is not supported by OracleDialect");
+        assertThat(select(id).from(jobs).forUpdate().build().render(RenderingStrategy.MYBATIS3, Dialect.ORACLE)
+                .getFullSelectStatement()).isEqualTo("select id from jobs for update");
+    }
+
+    @Test
+    public void testNonPositiveLimitIsRejected() {
+        assertThatThrownBy(() -> select(id).from(jobs).limit(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The limit must be greater than zero");
+        assertThatThrownBy(() -> select(id).from(jobs).orderBy(id).limit(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
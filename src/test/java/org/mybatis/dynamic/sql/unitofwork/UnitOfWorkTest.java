@@ -0,0 +1,193 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.unitofwork;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.render.InsertSupport;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.unitofwork.WriteBatch.WriteType;
+
+@RunWith(JUnitPlatform.class)
+public class UnitOfWorkTest {
+
+    private static final SqlTable orders = SqlTable.of("orders");
+    private static final SqlColumn<Integer> orderId = orders.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = orders.column("status", JDBCType.VARCHAR);
+
+    private static final SqlTable orderLines = SqlTable.of("order_lines");
+    private static final SqlColumn<Integer> lineOrderId = orderLines.column("order_id", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> lineNumber = orderLines.column("line_number", JDBCType.INTEGER);
+
+    @Test
+    public void testWritesAreGroupedInForeignKeyOrder() {
+        UnitOfWork unitOfWork = new UnitOfWork.Builder(RenderingStrategy.SPRING_NAMED_PARAMETER)
+                .withTableOrder(orders, orderLines)
+                .build();
+        
+        unitOfWork.insert(insertLine(1, 1))
+                .insert(insert(new Row(1, "NEW"))
+                        .into(orders)
+                        .map(orderId).toProperty("id")
+                        .map(status).toProperty("status")
+                        .build())
+                .insert(insertLine(1, 2))
+                .delete(deleteFrom(orders).where(orderId, isEqualTo(7)).build())
+                .delete(deleteFrom(orderLines).where(lineOrderId, isEqualTo(7)).build())
+                .update(update(orders).set(status).equalTo("SHIPPED").where(orderId, isEqualTo(2)).build())
+                .update(update(orders).set(status).equalToNull().where(orderId, isEqualTo(3)).build())
+                .update(update(orders).set(status).equalTo("CLOSED").where(orderId, isEqualTo(4)).build());
+        
+        List<WriteBatch> batches = unitOfWork.render();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(batches.stream().map(WriteBatch::type).collect(Collectors.toList()))
+                    .containsExactly(WriteType.INSERT, WriteType.INSERT, WriteType.UPDATE, WriteType.UPDATE,
+                            WriteType.DELETE, WriteType.DELETE);
+            softly.assertThat(batches.stream().map(WriteBatch::tableName).collect(Collectors.toList()))
+                    .containsExactly("orders", "order_lines", "orders", "orders", "order_lines", "orders");
+            softly.assertThat(batches.stream().map(WriteBatch::size).collect(Collectors.toList()))
+                    .containsExactly(1, 2, 2, 1, 1, 1);
+            softly.assertThat(batches.get(1).statement())
+                    .isEqualTo("insert into order_lines (order_id, line_number) values (:orderId, :lineNumber)");
+            softly.assertThat(batches.get(2).statement())
+                    .isEqualTo("update orders set status = :up1 where id = :p1");
+            softly.assertThat(((Map<?, ?>) batches.get(2).parameterObjects().get(1)).get("up1")).isEqualTo("CLOSED");
+            softly.assertThat(((InsertSupport<?>) batches.get(1).supports().get(0)).getRecord())
+                    .isSameAs(batches.get(1).parameterObjects().get(0));
+            softly.assertThat(unitOfWork.pendingWrites()).isEqualTo(8);
+        });
+    }
+
+    @Test
+    public void testFlushExecutesEachBatchAndClearsQueue() {
+        UnitOfWork unitOfWork = new UnitOfWork.Builder(RenderingStrategy.MYBATIS3).build();
+        unitOfWork.insert(insertLine(1, 1))
+                .insert(insertLine(1, 2))
+                .delete(deleteFrom(orders).where(orderId, isEqualTo(1)).build());
+        List<WriteBatch> executed = new ArrayList<>();
+        
+        int rows = unitOfWork.flush(batch -> {
+            executed.add(batch);
+            int[] counts = new int[batch.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(rows).isEqualTo(3);
+            softly.assertThat(executed.size()).isEqualTo(2);
+            softly.assertThat(unitOfWork.pendingWrites()).isEqualTo(0);
+        });
+    }
+
+    @Test
+    public void testFlushIgnoresUnknownUpdateCounts() {
+        UnitOfWork unitOfWork = new UnitOfWork.Builder(RenderingStrategy.MYBATIS3).build();
+        unitOfWork.insert(insertLine(1, 1))
+                .insert(insertLine(1, 2))
+                .delete(deleteFrom(orders).where(orderId, isEqualTo(1)).build());
+        
+        int rows = unitOfWork.flush(batch -> batch.size() == 2 ? new int[] {Statement.SUCCESS_NO_INFO,
+                Statement.SUCCESS_NO_INFO} : new int[] {1});
+        
+        assertThat(rows).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedFlushKeepsQueue() {
+        UnitOfWork unitOfWork = new UnitOfWork.Builder(RenderingStrategy.MYBATIS3).build();
+        unitOfWork.insert(insertLine(1, 1));
+        
+        assertThatThrownBy(() -> unitOfWork.flush(batch -> {
+            throw new IllegalStateException("batch failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(unitOfWork.pendingWrites()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReturningClauseIsRejected() {
+        UnitOfWork unitOfWork = new UnitOfWork.Builder(RenderingStrategy.MYBATIS3).build();
+        
+        assertThatThrownBy(() -> unitOfWork.delete(deleteFrom(orders)
+                .where(orderId, isEqualTo(1))
+                .returning(orderId)
+                .build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InsertModel<Line> insertLine(int orderId, int lineNumber) {
+        return insert(new Line(orderId, lineNumber))
+                .into(orderLines)
+                .map(lineOrderId).toProperty("orderId")
+                .map(UnitOfWorkTest.lineNumber).toProperty("lineNumber")
+                .build();
+    }
+
+    public static class Row {
+        private Integer id;
+        private String status;
+        
+        public Row(Integer id, String status) {
+            this.id = id;
+            this.status = status;
+        }
+        
+        public Integer getId() {
+            return id;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+    }
+
+    public static class Line {
+        private Integer orderId;
+        private Integer lineNumber;
+        
+        public Line(Integer orderId, Integer lineNumber) {
+            this.orderId = orderId;
+            this.lineNumber = lineNumber;
+        }
+        
+        public Integer getOrderId() {
+            return orderId;
+        }
+        
+        public Integer getLineNumber() {
+            return lineNumber;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.bulkUpdate;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.BulkUpdateSupport;
+
+@RunWith(JUnitPlatform.class)
+public class BulkUpdateTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of(foo, "first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of(foo, "last_name", JDBCType.VARCHAR);
+
+    private List<TestRecord> records(int count) {
+        List<TestRecord> records = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            records.add(new TestRecord(i, "first" + i, "last" + i));
+        }
+        return records;
+    }
+    
+    @Test
+    public void testCaseBulkUpdate() {
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records(2))
+                .set(firstName).equalToProperty("firstName")
+                .set(lastName).equalToProperty("lastName")
+                .byKey(id, "id")
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+        
+        String expected = "update foo"
+                + " set first_name = case id when :p1 then :p2 when :p4 then :p5 end,"
+                + " last_name = case id when :p1 then :p3 when :p4 then :p6 end"
+                + " where id in (:p1, :p4)";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.size()).isEqualTo(1);
+            softly.assertThat(supports.get(0).getFullUpdateStatement()).isEqualTo(expected);
+            softly.assertThat(supports.get(0).getParameters().size()).isEqualTo(6);
+            softly.assertThat(supports.get(0).getParameters()).containsEntry("p1", 1);
+            softly.assertThat(supports.get(0).getParameters()).containsEntry("p3", "last1");
+            softly.assertThat(supports.get(0).getParameters()).containsEntry("p5", "first2");
+        });
+    }
+
+    @Test
+    public void testValuesJoinBulkUpdate() {
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records(2))
+                .set(firstName).equalToProperty("firstName")
+                .byKey(id, "id")
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+        
+        String expected = "update foo set first_name = src.first_name"
+                + " from (values (#{parameters.p1,jdbcType=INTEGER}, #{parameters.p2,jdbcType=VARCHAR}),"
+                + " (#{parameters.p3,jdbcType=INTEGER}, #{parameters.p4,jdbcType=VARCHAR}))"
+                + " as src (id, first_name) where foo.id = src.id";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.size()).isEqualTo(1);
+            softly.assertThat(supports.get(0).getFullUpdateStatement()).isEqualTo(expected);
+            softly.assertThat(supports.get(0).getParameters()).containsEntry("p4", "first2");
+        });
+    }
+
+    @Test
+    public void testExplicitChunkSize() {
+        List<TestRecord> records = records(5);
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records)
+                .set(firstName).equalToProperty("firstName")
+                .byKey(id, "id")
+                .withChunkSize(2)
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.size()).isEqualTo(3);
+            softly.assertThat(supports.get(0).getRecords()).containsExactly(records.get(0), records.get(1));
+            softly.assertThat(supports.get(2).getRecords()).containsExactly(records.get(4));
+            softly.assertThat(supports.get(2).getFullUpdateStatement())
+                .isEqualTo("update foo set first_name = case id when :p1 then :p2 end where id in (:p1)");
+        });
+    }
+
+    @Test
+    public void testChunksInKeyOrder() {
+        List<TestRecord> records = Arrays.asList(new TestRecord(3, "first3", "last3"),
+                new TestRecord(1, "first1", "last1"), new TestRecord(2, "first2", "last2"));
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records)
+                .set(firstName).equalToProperty("firstName")
+                .byKey(id, "id")
+                .withChunkSize(2)
+                .inKeyOrder()
+                .build()
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.get(0).getRecords()).containsExactly(records.get(1), records.get(2));
+            softly.assertThat(supports.get(1).getRecords()).containsExactly(records.get(0));
+        });
+    }
+
+    @Test
+    public void testChunkSizeFromDialect() {
+        // the generic dialect allows 2000 parameters, 2 columns need 5 parameters per row
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records(1001))
+                .set(firstName).equalToProperty("firstName")
+                .set(lastName).equalToProperty("lastName")
+                .byKey(id, "id")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.size()).isEqualTo(3);
+            softly.assertThat(supports.get(0).getRecords().size()).isEqualTo(400);
+            softly.assertThat(supports.get(0).getParameters().size()).isEqualTo(1200);
+            softly.assertThat(supports.get(2).getRecords().size()).isEqualTo(201);
+        });
+    }
+
+    @Test
+    public void testNoRecords() {
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, Arrays.<TestRecord>asList())
+                .set(firstName).equalToProperty("firstName")
+                .byKey(id, "id")
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    public void testChunkSizeCappedByInListLimit() {
+        // one column would allow 21845 rows within Oracle's 65535 parameters, but its in lists hold 1000 keys
+        List<BulkUpdateSupport<TestRecord>> supports = bulkUpdate(foo, records(2500))
+                .set(firstName).equalToProperty("firstName")
+                .byKey(id, "id")
+                .withChunkSize(5000)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.ORACLE);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(supports.size()).isEqualTo(3);
+            softly.assertThat(supports.get(0).getRecords().size()).isEqualTo(1000);
+            softly.assertThat(supports.get(2).getRecords().size()).isEqualTo(500);
+        });
+    }
+
+    @Test
+    public void testNoColumnsIsRejected() {
+        assertThatThrownBy(() -> bulkUpdate(foo, records(2)).byKey(id, "id").build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("A bulk update must set at least one column");
+    }
+
+    @Test
+    public void testNonPositiveChunkSizeIsRejected() {
+        assertThatThrownBy(() -> bulkUpdate(foo, records(2)).set(firstName).equalToProperty("firstName")
+                .byKey(id, "id").withChunkSize(0).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The chunk size must be greater than zero");
+        assertThatThrownBy(() -> bulkUpdate(foo, records(2)).set(firstName).equalToProperty("firstName")
+                .byKey(id, "id").withChunkSize(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class TestRecord {
+        private Integer id;
+        private String firstName;
+        private String lastName;
+        
+        public TestRecord(Integer id, String firstName, String lastName) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+}
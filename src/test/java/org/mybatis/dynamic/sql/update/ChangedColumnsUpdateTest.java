@@ -0,0 +1,109 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.updateChanges;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+
+@RunWith(JUnitPlatform.class)
+public class ChangedColumnsUpdateTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of(foo, "first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of(foo, "last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<byte[]> picture = SqlColumn.of(foo, "picture", JDBCType.BLOB);
+
+    @Test
+    public void testOnlyChangedColumnsAreSet() {
+        TestRecord before = new TestRecord(3, "Fred", "Flintstone", new byte[] {1, 2});
+        TestRecord after = new TestRecord(3, "Wilma", null, new byte[] {1, 2});
+        
+        ChangedColumnsUpdateModelBuilder<TestRecord> builder = updateChanges(foo, before, after)
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(picture).toProperty("picture");
+        
+        UpdateSupport updateSupport = builder
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expected = "update foo set first_name = #{parameters.up1,jdbcType=VARCHAR}, last_name = null"
+                + " where id = #{parameters.p1,jdbcType=INTEGER}";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(builder.hasChanges()).isTrue();
+            softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo(expected);
+            softly.assertThat(updateSupport.getParameters()).containsEntry("up1", "Wilma");
+        });
+    }
+
+    @Test
+    public void testNoChanges() {
+        TestRecord before = new TestRecord(3, "Fred", "Flintstone", null);
+        TestRecord after = new TestRecord(3, "Fred", "Flintstone", null);
+        
+        ChangedColumnsUpdateModelBuilder<TestRecord> builder = updateChanges(foo, before, after)
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(picture).toProperty("picture");
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(builder.hasChanges()).isFalse();
+        });
+    }
+
+    public static class TestRecord {
+        private Integer id;
+        private String firstName;
+        private String lastName;
+        private byte[] picture;
+        
+        public TestRecord(Integer id, String firstName, String lastName, byte[] picture) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.picture = picture;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public byte[] getPicture() {
+            return picture;
+        }
+    }
+}
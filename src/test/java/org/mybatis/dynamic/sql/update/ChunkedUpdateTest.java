@@ -0,0 +1,73 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+
+@RunWith(JUnitPlatform.class)
+public class ChunkedUpdateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = SqlColumn.of(foo, "status", JDBCType.VARCHAR);
+
+    @Test
+    public void testLimitedStatement() {
+        UpdateModel updateModel = update(foo)
+                .set(status).equalTo("ARCHIVED")
+                .where(status, isEqualTo("EXPIRED"))
+                .build();
+        ChunkedUpdate chunkedUpdate = new ChunkedUpdate.Builder(updateModel, id)
+                .withChunkSize(200)
+                .withPauseMillis(50)
+                .build();
+        
+        UpdateSupport updateSupport = chunkedUpdate.render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+        
+        String expected = "update foo set status = #{parameters.up1,jdbcType=VARCHAR}"
+                + " where id in (select id from foo where status = #{parameters.p1,jdbcType=VARCHAR} limit 200)";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(chunkedUpdate.pauseMillis()).isEqualTo(50L);
+            softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo(expected);
+            softly.assertThat(updateSupport.getParameters()).containsEntry("up1", "ARCHIVED");
+            softly.assertThat(updateSupport.getParameters()).containsEntry("p1", "EXPIRED");
+        });
+    }
+
+    @Test
+    public void testInvalidSettingsAreRejected() {
+        ChunkedUpdate.Builder builder = new ChunkedUpdate.Builder(update(foo).set(status).equalTo("ARCHIVED").build(), id);
+        
+        assertThatThrownBy(() -> builder.withChunkSize(0)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The chunk size must be greater than zero");
+        assertThatThrownBy(() -> builder.withChunkSize(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.withPauseMillis(-1)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The pause must not be negative");
+    }
+}
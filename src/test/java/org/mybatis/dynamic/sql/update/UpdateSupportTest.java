@@ -15,10 +15,12 @@
  */
 package org.mybatis.dynamic.sql.update;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mybatis.dynamic.sql.SqlBuilder.update;
 import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
 import static org.mybatis.dynamic.sql.SqlConditions.or;
 
+import java.io.StringReader;
 import java.sql.JDBCType;
 
 import org.assertj.core.api.SoftAssertions;
@@ -27,8 +29,10 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.update.render.UpdateSupport;
+import org.mybatis.dynamic.sql.util.LobSource;
 
 @RunWith(JUnitPlatform.class)
 public class UpdateSupportTest {
@@ -37,6 +41,8 @@ public class UpdateSupportTest {
     private static final SqlColumn<String> firstName = SqlColumn.of(foo, "firstName", JDBCType.VARCHAR);
     private static final SqlColumn<String> lastName = SqlColumn.of(foo, "lastName", JDBCType.VARCHAR);
     private static final SqlColumn<String> occupation = SqlColumn.of(foo, "occupation", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> balance = SqlColumn.of(foo, "balance", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> visits = SqlColumn.of(foo, "visits", JDBCType.INTEGER);
 
     @Test
     public void testUpdateParameterWithMultipleCriteria() {
@@ -65,6 +71,37 @@ public class UpdateSupportTest {
         });
     }
 
+    @Test
+    public void testUpdateWithLob() {
+        SqlColumn<String> notes = SqlColumn.of(foo, "notes", JDBCType.CLOB);
+        LobSource source = LobSource.ofCharacters(new StringReader("a very long note"), 16);
+        
+        UpdateSupport updateSupport = update(foo)
+                .set(notes).equalToLob(source)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updateSupport.getSetClause()).isEqualTo("set notes = #{parameters.up1,jdbcType=CLOB,"
+                    + "typeHandler=org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler}");
+            softly.assertThat(updateSupport.getParameters().get("up1")).isSameAs(source);
+        });
+    }
+
+    @Test
+    public void testUpdateWithLobIsRejectedForSpring() {
+        SqlColumn<String> notes = SqlColumn.of(foo, "notes", JDBCType.CLOB);
+        UpdateModel updateModel = update(foo)
+                .set(notes).equalToLob(LobSource.ofCharacters(new StringReader("a note"), 6))
+                .where(id, isEqualTo(3))
+                .build();
+        
+        assertThatThrownBy(() -> updateModel.render(RenderingStrategy.SPRING_NAMED_PARAMETER))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Column notes is set from a LOB source, which cannot be bound with Spring named parameters");
+    }
+
     @Test
     public void testUpdateParameterWithMultipleNestedCriteria() {
         UpdateSupport updateSupport = update(foo)
@@ -191,4 +228,64 @@ public class UpdateSupportTest {
             softly.assertThat(updateSupport.getParameters().get("up2")).isEqualTo("jones");
         });
     }
+
+    @Test
+    public void testUpdateWithReturning() {
+        UpdateSupport updateSupport = update(foo)
+                .set(occupation).equalTo("driver")
+                .where(id, isEqualTo(3))
+                .returning(id, firstName, occupation)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updateSupport.getReturningClause()).isEqualTo("returning id, firstName, occupation");
+            String expectedStatement = "update foo set occupation = #{parameters.up1,jdbcType=VARCHAR}"
+                    + " where id = #{parameters.p1,jdbcType=INTEGER}"
+                    + " returning id, firstName, occupation";
+            softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo(expectedStatement);
+            softly.assertThat(updateSupport.getParameters().get("up1")).isEqualTo("driver");
+            softly.assertThat(updateSupport.getParameters().get("p1")).isEqualTo(3);
+        });
+    }
+
+    @Test
+    public void testUpdateWithoutReturningHasEmptyClause() {
+        UpdateSupport updateSupport = update(foo)
+                .set(occupation).equalToNull()
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.HSQLDB);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updateSupport.getReturningClause()).isEqualTo("");
+            softly.assertThat(updateSupport.getFullUpdateStatement())
+                .isEqualTo("update foo set occupation = null where id = #{parameters.p1,jdbcType=INTEGER}");
+        });
+    }
+
+    @Test
+    public void testUpdateWithServerSideExpressions() {
+        UpdateSupport updateSupport = update(foo)
+                .set(balance).equalToColumnPlus(25)
+                .set(visits).equalToColumnMinus(1)
+                .set(firstName).equalToColumn(lastName)
+                .set(occupation).equalToCoalesce(occupation, "unknown")
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expectedSetClause = "set balance = balance + #{parameters.up1,jdbcType=INTEGER}, "
+                + "visits = visits - #{parameters.up2,jdbcType=INTEGER}, "
+                + "firstName = lastName, "
+                + "occupation = coalesce(occupation, #{parameters.up3,jdbcType=VARCHAR})";
+                
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(updateSupport.getSetClause()).isEqualTo(expectedSetClause);
+            softly.assertThat(updateSupport.getParameters().size()).isEqualTo(4);
+            softly.assertThat(updateSupport.getParameters().get("up1")).isEqualTo(25);
+            softly.assertThat(updateSupport.getParameters().get("up2")).isEqualTo(1);
+            softly.assertThat(updateSupport.getParameters().get("up3")).isEqualTo("unknown");
+        });
+    }
 }
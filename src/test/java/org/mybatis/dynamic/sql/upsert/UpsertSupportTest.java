@@ -0,0 +1,212 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.upsert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsert;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsertBatch;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.Dialect;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.upsert.render.UpsertSupport;
+
+@RunWith(JUnitPlatform.class)
+public class UpsertSupportTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of(foo, "first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of(foo, "last_name", JDBCType.VARCHAR);
+    
+    private static final String VALUES = "(#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}, #{record.lastName,jdbcType=VARCHAR})";
+    
+    private UpsertModel<TestRecord> buildModel(TestRecord record) {
+        return upsert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .build();
+    }
+    
+    @Test
+    public void testPostgreSqlUpsert() {
+        TestRecord record = new TestRecord();
+        UpsertSupport<TestRecord> upsertSupport = buildModel(record)
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+        
+        String expected = "insert into foo (id, first_name, last_name) values " + VALUES
+                + " on conflict (id) do update set first_name = excluded.first_name, last_name = excluded.last_name";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(upsertSupport.getFullUpsertStatement()).isEqualTo(expected);
+            softly.assertThat(upsertSupport.getRecord()).isSameAs(record);
+            softly.assertThat(upsertSupport.getParameters()).isEmpty();
+        });
+    }
+
+    @Test
+    public void testMySqlUpsert() {
+        UpsertSupport<TestRecord> upsertSupport = buildModel(new TestRecord())
+                .render(RenderingStrategy.MYBATIS3, Dialect.MYSQL);
+        
+        String expected = "insert into foo (id, first_name, last_name) values " + VALUES
+                + " on duplicate key update first_name = values(first_name), last_name = values(last_name)";
+        assertThat(upsertSupport.getFullUpsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testGenericMerge() {
+        UpsertSupport<TestRecord> upsertSupport = buildModel(new TestRecord())
+                .render(RenderingStrategy.MYBATIS3);
+        
+        String expected = "merge into foo using (values " + VALUES + ") as src (id, first_name, last_name)"
+                + " on foo.id = src.id"
+                + " when matched then update set first_name = src.first_name, last_name = src.last_name"
+                + " when not matched then insert (id, first_name, last_name) values (src.id, src.first_name, src.last_name)";
+        assertThat(upsertSupport.getFullUpsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testOracleMerge() {
+        UpsertSupport<TestRecord> upsertSupport = buildModel(new TestRecord())
+                .render(RenderingStrategy.SPRING_NAMED_PARAMETER, Dialect.ORACLE);
+        
+        String expected = "merge into foo using (select :id id, :firstName first_name, :lastName last_name from dual) src"
+                + " on (foo.id = src.id)"
+                + " when matched then update set first_name = src.first_name, last_name = src.last_name"
+                + " when not matched then insert (id, first_name, last_name) values (src.id, src.first_name, src.last_name)";
+        assertThat(upsertSupport.getFullUpsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testExplicitSetMappings() {
+        UpsertSupport<TestRecord> upsertSupport = upsert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .onConflict(id)
+                .set(lastName).equalTo("Flintstone")
+                .set(firstName).equalToNull()
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+        
+        String expected = "insert into foo (id, first_name, last_name) values " + VALUES
+                + " on conflict (id) do update set last_name = #{parameters.up1,jdbcType=VARCHAR}, first_name = null";
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(upsertSupport.getFullUpsertStatement()).isEqualTo(expected);
+            softly.assertThat(upsertSupport.getParameters()).containsEntry("up1", "Flintstone");
+        });
+    }
+
+    @Test
+    public void testKeyOnlyUpsert() {
+        UpsertModel<TestRecord> model = upsert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .build();
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(model.render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL).getFullUpsertStatement())
+                .isEqualTo("insert into foo (id) values (#{record.id,jdbcType=INTEGER}) on conflict (id) do nothing");
+            softly.assertThat(model.render(RenderingStrategy.MYBATIS3, Dialect.MYSQL).getFullUpsertStatement())
+                .isEqualTo("insert into foo (id) values (#{record.id,jdbcType=INTEGER}) on duplicate key update id = id");
+            softly.assertThat(model.render(RenderingStrategy.MYBATIS3, Dialect.HSQLDB).getFullUpsertStatement())
+                .isEqualTo("merge into foo using (values (#{record.id,jdbcType=INTEGER})) as src (id) on foo.id = src.id"
+                        + " when not matched then insert (id) values (src.id)");
+        });
+    }
+
+    @Test
+    public void testBatchUpsert() {
+        TestRecord record1 = new TestRecord();
+        TestRecord record2 = new TestRecord();
+        
+        UpsertSupport<TestRecord> upsertSupport = upsertBatch(Arrays.asList(record1, record2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toStringConstant("Rubble")
+                .onConflict(id)
+                .build()
+                .render(RenderingStrategy.MYBATIS3, Dialect.POSTGRESQL);
+        
+        List<UpsertSupport<TestRecord>> individualUpserts = upsertSupport.individualUpserts()
+                .collect(Collectors.toList());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(upsertSupport.getRecords()).containsExactly(record1, record2);
+            softly.assertThat(individualUpserts.size()).isEqualTo(2);
+            softly.assertThat(individualUpserts.get(0).getRecord()).isSameAs(record1);
+            softly.assertThat(individualUpserts.get(1).getRecord()).isSameAs(record2);
+            softly.assertThat(individualUpserts.get(1).getFullUpsertStatement())
+                .isEqualTo(upsertSupport.getFullUpsertStatement());
+        });
+    }
+
+    @Test
+    public void testUnmodifiableRecords() {
+        UpsertSupport<TestRecord> upsertSupport = buildModel(new TestRecord())
+                .render(RenderingStrategy.MYBATIS3);
+        
+        assertThatThrownBy(() -> upsertSupport.getRecords().add(new TestRecord()))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+    
+    public static class TestRecord {
+        private Integer id;
+        private String firstName;
+        private String lastName;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(String lastName) {
+            this.lastName = lastName;
+        }
+    }
+}
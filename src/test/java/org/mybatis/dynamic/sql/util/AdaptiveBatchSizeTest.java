@@ -0,0 +1,123 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitPlatform.class)
+public class AdaptiveBatchSizeTest {
+
+    @Test
+    public void testGrowsWhileThroughputImproves() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(100)
+                .withTargetLatencyMillis(500)
+                .build();
+        
+        adaptiveBatchSize.record(100, millis(10));
+        int afterFirst = adaptiveBatchSize.batchSize();
+        adaptiveBatchSize.record(125, millis(10));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(afterFirst).isEqualTo(125);
+            softly.assertThat(adaptiveBatchSize.batchSize()).isEqualTo(156);
+            softly.assertThat(adaptiveBatchSize.lastRowsPerSecond()).isEqualTo(12500.0);
+            softly.assertThat(adaptiveBatchSize.lastLatencyMillis()).isEqualTo(10.0);
+            softly.assertThat(adaptiveBatchSize.batches()).isEqualTo(2L);
+            softly.assertThat(adaptiveBatchSize.rows()).isEqualTo(225L);
+            softly.assertThat(adaptiveBatchSize.adjustments()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    public void testReversesWhenThroughputDrops() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(100)
+                .build();
+        
+        adaptiveBatchSize.record(100, millis(10));
+        adaptiveBatchSize.record(125, millis(20));
+        
+        assertThat(adaptiveBatchSize.batchSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void testShrinksInProportionWhenLatencyIsOverTarget() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(1000)
+                .withTargetLatencyMillis(500)
+                .build();
+        
+        adaptiveBatchSize.record(1000, millis(2000));
+        
+        assertThat(adaptiveBatchSize.batchSize()).isEqualTo(250);
+    }
+
+    @Test
+    public void testGrowthIsCappedByTargetLatency() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(100)
+                .withTargetLatencyMillis(500)
+                .build();
+        
+        adaptiveBatchSize.record(100, millis(450));
+        
+        assertThat(adaptiveBatchSize.batchSize()).isEqualTo(111);
+    }
+
+    @Test
+    public void testSizeStaysWithinBounds() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withBounds(50, 120)
+                .withInitialSize(100)
+                .build();
+        
+        adaptiveBatchSize.record(100, millis(10));
+        int afterGrowth = adaptiveBatchSize.batchSize();
+        adaptiveBatchSize.record(120, millis(60000));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(afterGrowth).isEqualTo(120);
+            softly.assertThat(adaptiveBatchSize.batchSize()).isEqualTo(50);
+        });
+    }
+
+    @Test
+    public void testPartialBatchesDoNotAdjust() {
+        AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize.Builder()
+                .withInitialSize(100)
+                .build();
+        
+        adaptiveBatchSize.record(10, millis(1));
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(adaptiveBatchSize.batchSize()).isEqualTo(100);
+            softly.assertThat(adaptiveBatchSize.batches()).isEqualTo(1L);
+            softly.assertThat(adaptiveBatchSize.adjustments()).isEqualTo(0L);
+        });
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.update.BulkUpdateTest.TestRecord;
+
+@RunWith(JUnitPlatform.class)
+public class KeyOrderTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of(foo, "id", JDBCType.INTEGER);
+    private static final SqlColumn<String> lastName = SqlColumn.of(foo, "last_name", JDBCType.VARCHAR);
+
+    @Test
+    public void testSortBySingleKey() {
+        List<TestRecord> records = Arrays.asList(new TestRecord(3, "c", "x"), new TestRecord(null, "n", "x"),
+                new TestRecord(1, "a", "x"), new TestRecord(2, "b", "x"));
+        
+        List<TestRecord> sorted = KeyOrder.of(Collections.singletonList("id")).sort(records);
+        
+        assertThat(sorted.stream().map(TestRecord::getFirstName).collect(Collectors.toList()))
+                .containsExactly("n", "a", "b", "c");
+    }
+
+    @Test
+    public void testSortByColumnsIsStable() {
+        List<TestRecord> records = Arrays.asList(new TestRecord(2, "first", "smith"),
+                new TestRecord(1, "second", "smith"), new TestRecord(1, "third", "jones"),
+                new TestRecord(1, "fourth", "smith"));
+        
+        List<TestRecord> sorted = KeyOrder.of(Arrays.asList(lastName, id),
+                Arrays.asList(PropertyMapping.of(id, "id"), PropertyMapping.of(lastName, "lastName")))
+                .sort(records);
+        
+        assertThat(sorted.stream().map(TestRecord::getFirstName).collect(Collectors.toList()))
+                .containsExactly("third", "second", "fourth", "first");
+    }
+
+    @Test
+    public void testKeyColumnMustBeMappedToProperty() {
+        assertThatThrownBy(() -> KeyOrder.of(Collections.singletonList(id),
+                Arrays.asList(NullMapping.of(id), PropertyMapping.of(lastName, "lastName"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Key column id is not mapped to a property");
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.mybatis3.LobSourceTypeHandler;
+
+@RunWith(JUnitPlatform.class)
+public class LobSourceTest {
+
+    @Test
+    public void testByteBufferCanBeReadMoreThanOnce() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap("hello world".getBytes(StandardCharsets.UTF_8));
+        buffer.position(6);
+        LobSource source = LobSource.of(buffer);
+        
+        String first = read(source.getBinaryStream());
+        String second = read(source.getBinaryStream());
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(source.length()).isEqualTo(5L);
+            softly.assertThat(source.isCharacterData()).isFalse();
+            softly.assertThat(first).isEqualTo("world");
+            softly.assertThat(second).isEqualTo("world");
+            softly.assertThat(buffer.position()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    public void testFileIsOpenedWhenRead() throws IOException {
+        Path file = Files.createTempFile("lob", ".bin");
+        try {
+            Files.write(file, "file contents".getBytes(StandardCharsets.UTF_8));
+            try (LobSource source = LobSource.of(file)) {
+                assertThat(source.length()).isEqualTo(13L);
+                assertThat(read(source.getBinaryStream())).isEqualTo("file contents");
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testBindWithLength() throws Exception {
+        List<Object[]> calls = new ArrayList<>();
+        PreparedStatement preparedStatement = (PreparedStatement) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                    calls.add(new Object[] {method.getName(), args[0], args[2]});
+                    return null;
+                });
+        
+        LobSource.of(ByteBuffer.wrap(new byte[] {1, 2, 3})).bind(preparedStatement, 2);
+        LobSource.ofCharacters(new StringReader("four"), 4).bind(preparedStatement, 3);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(calls.get(0)).containsExactly("setBinaryStream", 2, 3L);
+            softly.assertThat(calls.get(1)).containsExactly("setCharacterStream", 3, 4L);
+        });
+    }
+
+    @Test
+    public void testWrongStreamType() {
+        LobSource source = LobSource.ofCharacters(new StringReader("text"), 4);
+        
+        assertThatThrownBy(source::getBinaryStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testLobColumnUsesTypeHandler() {
+        SqlColumn<String> notes = SqlTable.of("foo").column("notes", JDBCType.CLOB);
+        
+        SqlColumn<LobSource> lobColumn = LobSource.lobColumn(notes);
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(lobColumn.name()).isEqualTo("notes");
+            softly.assertThat(lobColumn.typeHandler()).hasValue(LobSourceTypeHandler.class.getName());
+        });
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
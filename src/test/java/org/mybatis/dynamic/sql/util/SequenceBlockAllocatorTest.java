@@ -0,0 +1,152 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mybatis.dynamic.sql.render.Dialect;
+
+@RunWith(JUnitPlatform.class)
+public class SequenceBlockAllocatorTest {
+
+    @Test
+    public void testIdsComeFromBlocks() {
+        AtomicLong sequence = new AtomicLong(1);
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(() -> sequence.getAndAdd(10), 10)
+                .withRefillThreshold(2)
+                .withExecutor(Runnable::run)
+                .build();
+        
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(allocator.nextId());
+        }
+        long reservationsBeforeThreshold = allocator.reservations();
+        ids.add(allocator.nextId());
+        long reservationsAtThreshold = allocator.reservations();
+        for (int i = 0; i < 3; i++) {
+            ids.add(allocator.nextId());
+        }
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L);
+            softly.assertThat(reservationsBeforeThreshold).isEqualTo(1L);
+            softly.assertThat(reservationsAtThreshold).isEqualTo(2L);
+            softly.assertThat(allocator.reservations()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    public void testHiLo() {
+        AtomicLong hi = new AtomicLong(5);
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(hi::getAndIncrement, 100)
+                .withHiLo()
+                .withExecutor(Runnable::run)
+                .build();
+        
+        assertThat(allocator.nextId()).isEqualTo(500L);
+        assertThat(allocator.nextId()).isEqualTo(501L);
+    }
+
+    @Test
+    public void testConcurrentIdsAreUnique() throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(() -> sequence.getAndAdd(50), 50)
+                .build();
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 2500; j++) {
+                        ids.add(allocator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ids.size()).isEqualTo(10000);
+            softly.assertThat(allocator.reservations()).isBetween(200L, 201L);
+        });
+    }
+
+    @Test
+    public void testFailedReservationCanBeRetried() {
+        AtomicLong calls = new AtomicLong();
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator.Builder(() -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("sequence unavailable");
+                    }
+                    return 1000;
+                }, 10)
+                .withExecutor(Runnable::run)
+                .build();
+        
+        assertThatThrownBy(allocator::nextId).isInstanceOf(IllegalStateException.class)
+                .hasMessage("sequence unavailable");
+        assertThat(allocator.nextId()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void testInvalidRefillThresholdIsRejected() {
+        assertThatThrownBy(() -> new SequenceBlockAllocator.Builder(() -> 1, 10).withRefillThreshold(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SequenceBlockAllocator.Builder(() -> 1, 10).withRefillThreshold(10).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SequenceBlockAllocator.Builder(() -> 1, 10).withRefillThreshold(11).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SequenceBlockAllocator.Builder(() -> 1, 0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSequenceStatements() {
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(Dialect.GENERIC.getSequenceNextValueStatement("id_seq"))
+                    .isEqualTo("select next value for id_seq");
+            softly.assertThat(Dialect.HSQLDB.getSequenceNextValueStatement("id_seq"))
+                    .isEqualTo("call next value for id_seq");
+            softly.assertThat(Dialect.ORACLE.getSequenceNextValueStatement("id_seq"))
+                    .isEqualTo("select id_seq.nextval from dual");
+            softly.assertThat(Dialect.POSTGRESQL.getSequenceNextValueStatement("id_seq"))
+                    .isEqualTo("select nextval('id_seq')");
+        });
+        assertThatThrownBy(() -> Dialect.MYSQL.getSequenceNextValueStatement("id_seq"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}